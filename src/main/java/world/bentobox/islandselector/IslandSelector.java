@@ -18,16 +18,20 @@ import world.bentobox.islandselector.managers.AutoBackupManager;
 import world.bentobox.islandselector.managers.BackupManager;
 import world.bentobox.islandselector.managers.BlueprintChallengesManager;
 import world.bentobox.islandselector.managers.ChallengesIntegration;
+import world.bentobox.islandselector.managers.ChunkResendQueue;
 import world.bentobox.islandselector.managers.DimensionManager;
 import world.bentobox.islandselector.managers.GridManager;
 import world.bentobox.islandselector.managers.IslandRemovalManager;
 import world.bentobox.islandselector.managers.LevelIntegration;
 import world.bentobox.islandselector.managers.MultiDimensionIslandCreator;
+import world.bentobox.islandselector.managers.OperationScheduler;
 import world.bentobox.islandselector.managers.RelocationManager;
 import world.bentobox.islandselector.managers.SlotManager;
 import world.bentobox.islandselector.managers.SlotSwitchManager;
 import world.bentobox.islandselector.managers.WarpIntegration;
 import world.bentobox.islandselector.utils.EntityStorage;
+import world.bentobox.islandselector.utils.IslandSnapshotStore;
+import world.bentobox.islandselector.utils.SafeSpotFinder;
 import world.bentobox.islandselector.utils.SchematicUtils;
 
 import java.util.Optional;
@@ -49,6 +53,8 @@ public class IslandSelector extends Addon {
     private AutoBackupManager autoBackupManager;
     private RelocationManager relocationManager;
     private IslandRemovalManager islandRemovalManager;
+    private OperationScheduler operationScheduler;
+    private ChunkResendQueue chunkResendQueue;
     private DimensionManager dimensionManager;
     private MultiDimensionIslandCreator multiDimensionIslandCreator;
     private ChallengesIntegration challengesIntegration;
@@ -59,6 +65,8 @@ public class IslandSelector extends Addon {
     private NovaIntegration novaIntegration;
     private SchematicUtils schematicUtils;
     private EntityStorage entityStorage;
+    private IslandSnapshotStore islandSnapshotStore;
+    private SafeSpotFinder safeSpotFinder;
     private IslandCreateListener islandCreateListener;
     private SearchListener searchListener;
     private PlaceholderAPIIntegration placeholderAPI;
@@ -127,6 +135,8 @@ public class IslandSelector extends Addon {
 
         // Initialize managers
         gridManager = new GridManager(this);
+        operationScheduler = new OperationScheduler(this);
+        chunkResendQueue = new ChunkResendQueue(this);
         slotManager = new SlotManager(this);
         slotSwitchManager = new SlotSwitchManager(this);
         backupManager = new BackupManager(this);
@@ -140,6 +150,8 @@ public class IslandSelector extends Addon {
         blueprintChallengesManager = new BlueprintChallengesManager(this);
         schematicUtils = new SchematicUtils(this);
         entityStorage = new EntityStorage(this);
+        islandSnapshotStore = new IslandSnapshotStore(this);
+        safeSpotFinder = new SafeSpotFinder(this);
 
         // Register commands
         registerCommands();
@@ -154,7 +166,12 @@ public class IslandSelector extends Addon {
         autoBackupManager.start();
 
         // Sync slot data with existing islands (handles pre-existing islands)
-        slotManager.syncWithExistingIslands();
+        // Waits for the background grid sync so newly found island owners are included
+        gridManager.getSyncFuture().whenComplete((result, error) -> {
+            if (!(error instanceof java.util.concurrent.CancellationException)) {
+                slotManager.syncWithExistingIslands();
+            }
+        });
 
         log("IslandSelector enabled successfully!");
         log("Version: " + getDescription().getVersion());
@@ -259,8 +276,32 @@ public class IslandSelector extends Addon {
             autoBackupManager.stop();
         }
 
+        // Drop queued island operations before the switch workers stop
+        if (operationScheduler != null) {
+            operationScheduler.shutdown();
+        }
+
+        if (slotSwitchManager != null) {
+            slotSwitchManager.shutdown();
+        }
+
+        if (chunkResendQueue != null) {
+            chunkResendQueue.shutdown();
+        }
+
+        // Spawn any entities still waiting in the restore queue so they aren't lost
+        if (entityStorage != null) {
+            entityStorage.getRestoreQueue().flush();
+        }
+
+        // Let queued section reference changes finish
+        if (islandSnapshotStore != null) {
+            islandSnapshotStore.shutdown();
+        }
+
         // Save all grid data before shutting down
         if (gridManager != null) {
+            gridManager.cancelSync();
             log("Saving grid data...");
             gridManager.saveAll();
         }
@@ -395,6 +436,20 @@ public class IslandSelector extends Addon {
         return slotManager;
     }
 
+    /**
+     * Get the scheduler that limits concurrent island operations
+     */
+    public OperationScheduler getOperationScheduler() {
+        return operationScheduler;
+    }
+
+    /**
+     * Get the queue that resends chunks changed by pastes to the players who can see them
+     */
+    public ChunkResendQueue getChunkResendQueue() {
+        return chunkResendQueue;
+    }
+
     /**
      * Get the slot switch manager
      */
@@ -550,4 +605,18 @@ public class IslandSelector extends Addon {
     public EntityStorage getEntityStorage() {
         return entityStorage;
     }
+
+    /**
+     * Get the store that saves slot and backup islands as sections in a shared section store
+     */
+    public IslandSnapshotStore getIslandSnapshotStore() {
+        return islandSnapshotStore;
+    }
+
+    /**
+     * Get the finder that looks for safe spots at island homes off the main thread
+     */
+    public SafeSpotFinder getSafeSpotFinder() {
+        return safeSpotFinder;
+    }
 }
@@ -162,6 +162,55 @@ public class Settings implements ConfigObject {
     @ConfigEntry(path = "performance.max-concurrent-operations")
     private int maxConcurrentOperations = 2;
 
+    @ConfigComment("Minutes an operation may hold its slot before it is assumed stuck and the slot is reclaimed")
+    @ConfigComment("Long operations such as purges renew their slot as they progress. 0 never reclaims")
+    @ConfigEntry(path = "performance.operation-timeout-minutes")
+    private int operationTimeoutMinutes = 15;
+
+    @ConfigComment("How often pending grid location changes are written to the database, in ticks")
+    @ConfigEntry(path = "performance.grid-save-interval")
+    private int gridSaveInterval = 100;
+
+    @ConfigComment("Maximum grid locations written per save interval")
+    @ConfigEntry(path = "performance.grid-save-batch-size")
+    private int gridSaveBatchSize = 500;
+
+    @ConfigComment("Write a binary grid snapshot on shutdown and load it on startup instead of the database")
+    @ConfigComment("Disable if the grid database is shared between servers or edited externally")
+    @ConfigEntry(path = "performance.grid-snapshot-enabled")
+    private boolean gridSnapshotEnabled = true;
+
+    @ConfigComment("Milliseconds per tick spent spawning restored entities after a switch or relocation")
+    @ConfigComment("Large farms are restored over several ticks instead of in one long tick")
+    @ConfigEntry(path = "performance.entity-restore-budget-ms")
+    private int entityRestoreBudgetMs = 5;
+
+    @ConfigComment("Save slots and backups as lists of chunk sections in a shared store, keeping each distinct section once")
+    @ConfigComment("When disabled, each backup is saved as a full schematic; slots always use the store,")
+    @ConfigComment("since it is how a slot save only writes the sections that changed")
+    @ConfigEntry(path = "performance.section-store-enabled")
+    private boolean sectionStoreEnabled = true;
+
+    @ConfigComment("Trim island copies and clears to the part of the island that holds blocks, found from chunk section palettes")
+    @ConfigComment("Biomes are only carried inside that box when an island is copied")
+    @ConfigEntry(path = "performance.trim-island-captures")
+    private boolean trimIslandCaptures = true;
+
+    @ConfigComment("Memory budget in MB for decoded slot islands and their entities, kept so switching back to a recent slot skips reading it from disk")
+    @ConfigComment("Set to 0 to disable the cache")
+    @ConfigEntry(path = "performance.clipboard-cache-mb")
+    private int clipboardCacheMb = 64;
+
+    @ConfigComment("Move islands as chunk sections when relocating by a whole number of chunks, skipping sections that hold only air")
+    @ConfigComment("When disabled, or when the move isn't chunk-aligned, islands are moved with a full clipboard copy")
+    @ConfigEntry(path = "performance.chunk-aligned-relocation")
+    private boolean chunkAlignedRelocation = true;
+
+    @ConfigComment("Most changed chunks resent to one player per tick after a slot switch")
+    @ConfigComment("Each changed chunk is resent once, and only to players who can see it")
+    @ConfigEntry(path = "performance.chunk-resends-per-tick")
+    private int chunkResendsPerTick = 4;
+
     // Integration Settings
     @ConfigComment("Enable Vault integration")
     @ConfigEntry(path = "integration.vault.enabled")
@@ -482,6 +531,86 @@ public class Settings implements ConfigObject {
         this.maxConcurrentOperations = maxConcurrentOperations;
     }
 
+    public int getOperationTimeoutMinutes() {
+        return operationTimeoutMinutes;
+    }
+
+    public void setOperationTimeoutMinutes(int operationTimeoutMinutes) {
+        this.operationTimeoutMinutes = operationTimeoutMinutes;
+    }
+
+    public int getGridSaveInterval() {
+        return gridSaveInterval;
+    }
+
+    public void setGridSaveInterval(int gridSaveInterval) {
+        this.gridSaveInterval = gridSaveInterval;
+    }
+
+    public int getGridSaveBatchSize() {
+        return gridSaveBatchSize;
+    }
+
+    public void setGridSaveBatchSize(int gridSaveBatchSize) {
+        this.gridSaveBatchSize = gridSaveBatchSize;
+    }
+
+    public boolean isGridSnapshotEnabled() {
+        return gridSnapshotEnabled;
+    }
+
+    public void setGridSnapshotEnabled(boolean gridSnapshotEnabled) {
+        this.gridSnapshotEnabled = gridSnapshotEnabled;
+    }
+
+    public int getEntityRestoreBudgetMs() {
+        return entityRestoreBudgetMs;
+    }
+
+    public void setEntityRestoreBudgetMs(int entityRestoreBudgetMs) {
+        this.entityRestoreBudgetMs = entityRestoreBudgetMs;
+    }
+
+    public boolean isSectionStoreEnabled() {
+        return sectionStoreEnabled;
+    }
+
+    public void setSectionStoreEnabled(boolean sectionStoreEnabled) {
+        this.sectionStoreEnabled = sectionStoreEnabled;
+    }
+
+    public boolean isTrimIslandCaptures() {
+        return trimIslandCaptures;
+    }
+
+    public void setTrimIslandCaptures(boolean trimIslandCaptures) {
+        this.trimIslandCaptures = trimIslandCaptures;
+    }
+
+    public int getClipboardCacheMb() {
+        return clipboardCacheMb;
+    }
+
+    public void setClipboardCacheMb(int clipboardCacheMb) {
+        this.clipboardCacheMb = clipboardCacheMb;
+    }
+
+    public boolean isChunkAlignedRelocation() {
+        return chunkAlignedRelocation;
+    }
+
+    public void setChunkAlignedRelocation(boolean chunkAlignedRelocation) {
+        this.chunkAlignedRelocation = chunkAlignedRelocation;
+    }
+
+    public int getChunkResendsPerTick() {
+        return chunkResendsPerTick;
+    }
+
+    public void setChunkResendsPerTick(int chunkResendsPerTick) {
+        this.chunkResendsPerTick = chunkResendsPerTick;
+    }
+
     public boolean isVaultEnabled() {
         return vaultEnabled;
     }
@@ -11,6 +11,7 @@ import world.bentobox.bentobox.api.commands.CompositeCommand;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.islandselector.IslandSelector;
 import world.bentobox.islandselector.managers.BackupManager;
+import world.bentobox.islandselector.managers.OperationScheduler.OperationType;
 
 /**
  * Admin backup command
@@ -77,8 +78,11 @@ public class AdminBackupCommand extends CompositeCommand {
             "[player]", playerName,
             "[slot]", String.valueOf(slotNumber));
 
-        Bukkit.getScheduler().runTaskAsynchronously(getAddon().getPlugin(), () -> {
-            boolean success = backupManager.createBackup(playerUUID, slotNumber);
+        // Queue behind other island operations - runs async once a slot is free
+        ((IslandSelector) getAddon()).getOperationScheduler().submit(OperationType.BACKUP,
+                user.isPlayer() ? user.getUniqueId() : null,
+                () -> backupManager.createBackup(playerUUID, slotNumber)).whenComplete((result, error) -> {
+            boolean success = error == null && Boolean.TRUE.equals(result);
 
             // Send result back on main thread
             Bukkit.getScheduler().runTask(getAddon().getPlugin(), () -> {
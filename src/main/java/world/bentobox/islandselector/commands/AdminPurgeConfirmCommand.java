@@ -17,6 +17,7 @@ import world.bentobox.bentobox.api.commands.CompositeCommand;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.islandselector.IslandSelector;
 import world.bentobox.islandselector.database.SlotData;
+import world.bentobox.islandselector.managers.OperationScheduler.OperationType;
 import world.bentobox.islandselector.managers.SlotManager;
 
 /**
@@ -89,66 +90,80 @@ public class AdminPurgeConfirmCommand extends CompositeCommand {
         user.sendMessage("commands.islandselector.admin.purge.executing",
             "[count]", String.valueOf(playersToPurge.size()));
 
-        Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
-            // Use array to make counters effectively final for nested lambda
-            final int[] counters = {0, 0}; // [0] = successCount, [1] = failCount
-            List<String> auditLog = new ArrayList<>();
-
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-            String timestamp = dateFormat.format(new Date());
-
-            auditLog.add("=".repeat(60));
-            auditLog.add("PURGE OPERATION - " + timestamp);
-            auditLog.add("Initiated by: " + user.getName());
-            auditLog.add("Total players: " + playersToPurge.size());
-            auditLog.add("=".repeat(60));
-
-            for (UUID uuid : playersToPurge) {
-                OfflinePlayer player = Bukkit.getOfflinePlayer(uuid);
-                String playerName = player.getName() != null ? player.getName() : "Unknown";
-
-                List<SlotData> slots = slotManager.getPlayerSlots(uuid);
-                int slotCount = slots.size();
-                int schematicCount = slotManager.countPlayerSchematics(uuid);
-
-                boolean success = slotManager.purgePlayerData(uuid);
-
-                if (success) {
-                    counters[0]++;
-                    auditLog.add("[SUCCESS] " + playerName + " (" + uuid + ")");
-                } else {
-                    counters[1]++;
-                    auditLog.add("[FAILED] " + playerName + " (" + uuid + ")");
-                }
-
-                auditLog.add("  - Slots: " + slotCount);
-                auditLog.add("  - Schematics: " + schematicCount);
-                auditLog.add("  - Result: " + (success ? "PURGED" : "FAILED"));
-                auditLog.add("");
-            }
-
-            auditLog.add("=".repeat(60));
-            auditLog.add("SUMMARY");
-            auditLog.add("Success: " + counters[0]);
-            auditLog.add("Failed: " + counters[1]);
-            auditLog.add("=".repeat(60));
-
-            // Write audit log to file
-            writeAuditLog(auditLog);
-
-            // Report back to user on main thread
-            Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
-                user.sendMessage("commands.islandselector.admin.purge.complete",
-                    "[success]", String.valueOf(counters[0]),
-                    "[failed]", String.valueOf(counters[1]));
-
-                if (counters[1] > 0) {
-                    user.sendMessage("commands.islandselector.admin.purge.check-logs");
+        // Queue behind other island operations - runs async once a slot is free
+        addon.getOperationScheduler().acquire(OperationType.PURGE, user.isPlayer() ? user.getUniqueId() : null)
+            .whenComplete((permit, error) -> {
+                if (error != null) {
+                    user.sendMessage("commands.islandselector.admin.purge.cancelled");
+                    return;
                 }
-
-                user.sendMessage("commands.islandselector.admin.purge.audit-logged");
+                Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
+                    try {
+                        // Use array to make counters effectively final for nested lambda
+                        final int[] counters = {0, 0}; // [0] = successCount, [1] = failCount
+                        List<String> auditLog = new ArrayList<>();
+
+                        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+                        String timestamp = dateFormat.format(new Date());
+
+                        auditLog.add("=".repeat(60));
+                        auditLog.add("PURGE OPERATION - " + timestamp);
+                        auditLog.add("Initiated by: " + user.getName());
+                        auditLog.add("Total players: " + playersToPurge.size());
+                        auditLog.add("=".repeat(60));
+
+                        for (UUID uuid : playersToPurge) {
+                            OfflinePlayer player = Bukkit.getOfflinePlayer(uuid);
+                            String playerName = player.getName() != null ? player.getName() : "Unknown";
+
+                            List<SlotData> slots = slotManager.getPlayerSlots(uuid);
+                            int slotCount = slots.size();
+                            int schematicCount = slotManager.countPlayerSchematics(uuid);
+
+                            boolean success = slotManager.purgePlayerData(uuid);
+                        // Still making progress - keep the operation slot
+                        permit.renew();
+
+                            if (success) {
+                                counters[0]++;
+                                auditLog.add("[SUCCESS] " + playerName + " (" + uuid + ")");
+                            } else {
+                                counters[1]++;
+                                auditLog.add("[FAILED] " + playerName + " (" + uuid + ")");
+                            }
+
+                            auditLog.add("  - Slots: " + slotCount);
+                            auditLog.add("  - Schematics: " + schematicCount);
+                            auditLog.add("  - Result: " + (success ? "PURGED" : "FAILED"));
+                            auditLog.add("");
+                        }
+
+                        auditLog.add("=".repeat(60));
+                        auditLog.add("SUMMARY");
+                        auditLog.add("Success: " + counters[0]);
+                        auditLog.add("Failed: " + counters[1]);
+                        auditLog.add("=".repeat(60));
+
+                        // Write audit log to file
+                        writeAuditLog(auditLog);
+
+                        // Report back to user on main thread
+                        Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
+                            user.sendMessage("commands.islandselector.admin.purge.complete",
+                                "[success]", String.valueOf(counters[0]),
+                                "[failed]", String.valueOf(counters[1]));
+
+                            if (counters[1] > 0) {
+                                user.sendMessage("commands.islandselector.admin.purge.check-logs");
+                            }
+
+                            user.sendMessage("commands.islandselector.admin.purge.audit-logged");
+                        });
+                    } finally {
+                        permit.release();
+                    }
+                });
             });
-        });
 
         return true;
     }
@@ -14,6 +14,7 @@ import world.bentobox.bentobox.api.commands.CompositeCommand;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.islandselector.IslandSelector;
 import world.bentobox.islandselector.managers.BackupManager;
+import world.bentobox.islandselector.managers.OperationScheduler.OperationType;
 
 /**
  * Admin restore command
@@ -113,8 +114,11 @@ public class AdminRestoreCommand extends CompositeCommand {
             "[file]", backupFile.getName(),
             "[date]", backupDate);
 
-        Bukkit.getScheduler().runTaskAsynchronously(getAddon().getPlugin(), () -> {
-            boolean success = backupManager.restoreBackup(backupFile, playerUUID, slotNumber);
+        // Queue behind other island operations - runs async once a slot is free
+        ((IslandSelector) getAddon()).getOperationScheduler().submit(OperationType.RESTORE,
+                user.isPlayer() ? user.getUniqueId() : null,
+                () -> backupManager.restoreBackup(backupFile, playerUUID, slotNumber)).whenComplete((result, error) -> {
+            boolean success = error == null && Boolean.TRUE.equals(result);
 
             // Send result back on main thread
             Bukkit.getScheduler().runTask(getAddon().getPlugin(), () -> {
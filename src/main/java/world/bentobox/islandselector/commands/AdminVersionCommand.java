@@ -10,6 +10,7 @@ import world.bentobox.bentobox.api.addons.GameModeAddon;
 import world.bentobox.bentobox.api.commands.CompositeCommand;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.islandselector.IslandSelector;
+import world.bentobox.islandselector.managers.OperationScheduler;
 
 /**
  * Admin version command
@@ -89,6 +90,18 @@ public class AdminVersionCommand extends CompositeCommand {
             user.sendMessage("&7- Level: &8Not installed &7(Level display disabled)");
         }
 
+        // Island operation queue
+        OperationScheduler scheduler = addon.getOperationScheduler();
+        if (scheduler != null) {
+            user.sendMessage("");
+            user.sendMessage("&7Island Operations:");
+            user.sendMessage("&7- Running: &f" + scheduler.getActiveCount() + "&7/&f"
+                + addon.getSettings().getMaxConcurrentOperations()
+                + " &7Queued: &f" + scheduler.getQueueDepth() + " &7(peak " + scheduler.getPeakQueueDepth() + ")");
+            user.sendMessage("&7- Started: &f" + scheduler.getGrantedCount() + " &7Waited: &f" + scheduler.getQueuedCount()
+                + " &7Avg wait: &f" + scheduler.getAverageWaitMillis() + "ms &7Max wait: &f" + scheduler.getMaxWaitMillis() + "ms");
+        }
+
         user.sendMessage("");
         user.sendMessage("&6====================================");
 
@@ -0,0 +1,248 @@
+package world.bentobox.islandselector.database;
+
+import world.bentobox.islandselector.models.GridLocation;
+import world.bentobox.islandselector.utils.GridCoordinate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary snapshot of the whole grid, written on shutdown and memory-mapped on enable
+ * so the addon can skip BentoBox's reflective database load when nothing changed in between.
+ *
+ * Holds the same fields as {@link GridLocationData}. Layout (big-endian):
+ * <pre>
+ *   header:  int magic, int version, long generation, int entryCount, int stringCount, long crc32(body)
+ *   body:    stringCount x (int byteLength, UTF-8 bytes)
+ *            entryCount  x (int x, int z, byte status, byte flags, double price,
+ *                           [long msb, long lsb, int ownerNameIndex] if owned,
+ *                           [long msb, long lsb] if island,
+ *                           short dimensionCount, dimensionCount x (int keyIndex, long msb, long lsb))
+ * </pre>
+ * Owner names and dimension keys go through a string table since they repeat heavily.
+ */
+public final class GridSnapshot {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x49534753; // "ISGS"
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4 + 8;
+
+    private static final int FLAG_RESERVED = 1;
+    private static final int FLAG_BLOCKED = 1 << 1;
+    private static final int FLAG_OWNER = 1 << 2;
+    private static final int FLAG_ISLAND = 1 << 3;
+
+    private static final GridLocation.Status[] STATUSES = GridLocation.Status.values();
+
+    private GridSnapshot() {
+    }
+
+    /**
+     * Write a snapshot atomically (temp file, then rename)
+     * @param file The snapshot file
+     * @param generation Generation number stamped into the header
+     * @param locations Every tracked grid location
+     * @return Number of locations written
+     */
+    public static int write(File file, long generation, Collection<GridLocation> locations) throws IOException {
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream(Math.max(1024, locations.size() * 64));
+        DataOutputStream entries = new DataOutputStream(entryBytes);
+        int count = 0;
+        for (GridLocation location : locations) {
+            GridCoordinate coord = location.getCoordinate();
+            UUID owner = location.getOwnerUUID();
+            UUID island = location.getIslandUUID();
+
+            int flags = 0;
+            if (location.isReserved()) flags |= FLAG_RESERVED;
+            if (location.isBlocked()) flags |= FLAG_BLOCKED;
+            if (owner != null) flags |= FLAG_OWNER;
+            if (island != null) flags |= FLAG_ISLAND;
+
+            entries.writeInt(coord.getX());
+            entries.writeInt(coord.getZ());
+            entries.writeByte(location.getStatus().ordinal());
+            entries.writeByte(flags);
+            entries.writeDouble(location.getPurchasePrice());
+            if (owner != null) {
+                entries.writeLong(owner.getMostSignificantBits());
+                entries.writeLong(owner.getLeastSignificantBits());
+                entries.writeInt(intern(location.getOwnerName(), stringIndex, strings));
+            }
+            if (island != null) {
+                entries.writeLong(island.getMostSignificantBits());
+                entries.writeLong(island.getLeastSignificantBits());
+            }
+
+            Map<String, UUID> dimIslands = location.getDimensionIslandUUIDs();
+            List<Map.Entry<String, UUID>> dims = new ArrayList<>();
+            if (dimIslands != null) {
+                for (Map.Entry<String, UUID> entry : dimIslands.entrySet()) {
+                    if (entry.getValue() != null) {
+                        dims.add(entry);
+                    }
+                }
+            }
+            entries.writeShort(dims.size());
+            for (Map.Entry<String, UUID> entry : dims) {
+                entries.writeInt(intern(entry.getKey(), stringIndex, strings));
+                entries.writeLong(entry.getValue().getMostSignificantBits());
+                entries.writeLong(entry.getValue().getLeastSignificantBits());
+            }
+            count++;
+        }
+        entries.flush();
+
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(entryBytes.size() + strings.size() * 20);
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        for (String s : strings) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            body.writeInt(utf8.length);
+            body.write(utf8);
+        }
+        entryBytes.writeTo(body);
+        body.flush();
+
+        byte[] payload = bodyBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putLong(generation)
+                .putInt(count).putInt(strings.size()).putLong(crc.getValue());
+        header.flip();
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            channel.write(new ByteBuffer[]{header, ByteBuffer.wrap(payload)});
+            channel.force(true);
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return count;
+    }
+
+    /**
+     * Memory-map and decode a snapshot.
+     * Returns null rather than throwing when the snapshot is unusable - missing, from another
+     * format version, from a different generation, or failing its checksum - so the caller
+     * can fall back to the database.
+     *
+     * @param file The snapshot file
+     * @param expectedGeneration Generation the caller trusts
+     * @return The decoded locations, or null if the snapshot can't be used
+     */
+    public static List<GridLocation> read(File file, long expectedGeneration) throws IOException {
+        if (!file.isFile() || file.length() < HEADER_SIZE) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != expectedGeneration) {
+                return null;
+            }
+            int count = buffer.getInt();
+            int stringCount = buffer.getInt();
+            long expectedCrc = buffer.getLong();
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != expectedCrc) {
+                return null;
+            }
+
+            try {
+                String[] strings = new String[stringCount];
+                for (int i = 0; i < stringCount; i++) {
+                    byte[] utf8 = new byte[buffer.getInt()];
+                    buffer.get(utf8);
+                    strings[i] = new String(utf8, StandardCharsets.UTF_8);
+                }
+
+                List<GridLocation> locations = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    locations.add(readLocation(buffer, strings));
+                }
+                return locations;
+            } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+                // Checksum matched but the layout didn't - treat as corrupt
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Decode one location, applying fields in the same order as GridManager's database load
+     * so both paths produce identical state
+     */
+    private static GridLocation readLocation(ByteBuffer buffer, String[] strings) {
+        GridCoordinate coord = new GridCoordinate(buffer.getInt(), buffer.getInt());
+        GridLocation location = new GridLocation(coord);
+        location.setStatus(STATUSES[buffer.get()]);
+        int flags = buffer.get();
+        double price = buffer.getDouble();
+
+        if ((flags & FLAG_OWNER) != 0) {
+            location.setOwnerUUID(new UUID(buffer.getLong(), buffer.getLong()));
+            int nameIndex = buffer.getInt();
+            location.setOwnerName(nameIndex >= 0 ? strings[nameIndex] : null);
+        }
+        UUID island = (flags & FLAG_ISLAND) != 0 ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+
+        int dimCount = buffer.getShort();
+        Map<String, UUID> dims = new HashMap<>();
+        for (int d = 0; d < dimCount; d++) {
+            String key = strings[buffer.getInt()];
+            dims.put(key, new UUID(buffer.getLong(), buffer.getLong()));
+        }
+
+        // The database only restores island fields for owned locations
+        if (location.getOwnerUUID() != null) {
+            location.setIslandUUID(island);
+            if (!dims.isEmpty()) {
+                location.setDimensionIslandUUIDs(dims);
+            }
+        }
+
+        location.setReserved((flags & FLAG_RESERVED) != 0);
+        location.setBlocked((flags & FLAG_BLOCKED) != 0);
+        location.setPurchasePrice(price);
+        return location;
+    }
+
+    private static int intern(String value, Map<String, Integer> index, List<String> strings) {
+        if (value == null) {
+            return -1;
+        }
+        return index.computeIfAbsent(value, v -> {
+            strings.add(v);
+            return strings.size() - 1;
+        });
+    }
+}
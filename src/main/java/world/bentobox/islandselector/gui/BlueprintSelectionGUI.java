@@ -269,7 +269,7 @@ public class BlueprintSelectionGUI implements InventoryHolder, Listener {
 
         // Verify location is still available
         if (!addon.getGridManager().isAvailable(coord)) {
-            player.sendMessage(colorize("&cThis location is no longer available!"));
+            sendNoLongerAvailable();
             createListener.cancelClaim(player);
             return;
         }
@@ -289,6 +289,17 @@ public class BlueprintSelectionGUI implements InventoryHolder, Listener {
         createListener.confirmClaimWithBlueprint(player, coord, bundleId);
     }
 
+    /**
+     * Tell the player the location was taken, pointing them to the closest one still free
+     */
+    private void sendNoLongerAvailable() {
+        player.sendMessage(colorize("&cThis location is no longer available!"));
+        GridCoordinate nearest = addon.getGridManager().findNearestAvailableLocation(coord);
+        if (nearest != null) {
+            player.sendMessage(colorize("&7The nearest free location is &e" + nearest + "&7."));
+        }
+    }
+
     private void handleCancel() {
         player.closeInventory();
         createListener.cancelClaim(player);
@@ -315,7 +315,7 @@ public class ConfirmationGUI implements InventoryHolder, Listener {
             case CLAIM:
                 // Verify location is still available
                 if (!addon.getGridManager().isAvailable(coord)) {
-                    player.sendMessage(colorize("&cThis location is no longer available!"));
+                    sendNoLongerAvailable();
                     createListener.cancelClaim(player);
                     return;
                 }
@@ -326,7 +326,7 @@ public class ConfirmationGUI implements InventoryHolder, Listener {
             case PURCHASE:
                 // Verify location is still available FIRST (before charging)
                 if (!addon.getGridManager().isAvailable(coord)) {
-                    player.sendMessage(colorize("&cThis location is no longer available!"));
+                    sendNoLongerAvailable();
                     createListener.cancelClaim(player);
                     return;
                 }
@@ -341,7 +341,7 @@ public class ConfirmationGUI implements InventoryHolder, Listener {
             case RELOCATE:
                 // Verify location is still available
                 if (!addon.getGridManager().isAvailable(coord)) {
-                    player.sendMessage(colorize("&cThis location is no longer available!"));
+                    sendNoLongerAvailable();
                     return;
                 }
 
@@ -510,6 +510,17 @@ public class ConfirmationGUI implements InventoryHolder, Listener {
         }
     }
 
+    /**
+     * Tell the player the location was taken, pointing them to the closest one still free
+     */
+    private void sendNoLongerAvailable() {
+        player.sendMessage(colorize("&cThis location is no longer available!"));
+        GridCoordinate nearest = addon.getGridManager().findNearestAvailableLocation(coord);
+        if (nearest != null) {
+            player.sendMessage(colorize("&7The nearest free location is &e" + nearest + "&7."));
+        }
+    }
+
     private void handleCancel() {
         player.closeInventory();
         createListener.cancelClaim(player);
@@ -1,14 +1,5 @@
 package world.bentobox.islandselector.gui;
 
-import com.sk89q.worldedit.extent.clipboard.Clipboard;
-import com.sk89q.worldedit.extent.clipboard.io.BuiltInClipboardFormat;
-import com.sk89q.worldedit.EditSession;
-import com.sk89q.worldedit.WorldEdit;
-import com.sk89q.worldedit.bukkit.BukkitAdapter;
-import com.sk89q.worldedit.function.operation.Operation;
-import com.sk89q.worldedit.function.operation.Operations;
-import com.sk89q.worldedit.math.BlockVector3;
-import com.sk89q.worldedit.session.ClipboardHolder;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -802,19 +793,9 @@ public class IslandRestoreGUI implements InventoryHolder, Listener {
             throw new Exception("World is null");
         }
 
-        // Load clipboard from file
-        Clipboard clipboard = BuiltInClipboardFormat.SPONGE_SCHEMATIC.load(schematicFile);
-
-        // Paste to world
-        com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
-        try (EditSession editSession = WorldEdit.getInstance().newEditSession(weWorld)) {
-            Operation operation = new ClipboardHolder(clipboard)
-                .createPaste(editSession)
-                .to(BlockVector3.at(center.getX(), center.getY(), center.getZ()))
-                .ignoreAirBlocks(false)
-                .build();
-
-            Operations.complete(operation);
+        // Paste the slot snapshot, or a plain schematic saved before the section store
+        if (!addon.getIslandSnapshotStore().paste(schematicFile, center)) {
+            throw new Exception("Failed to paste slot schematic: " + schematicFile.getName());
         }
 
         addon.log("Pasted restoration schematic at " + center.getBlockX() + ", " + center.getBlockZ());
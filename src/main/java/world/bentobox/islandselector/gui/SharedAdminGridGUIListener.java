@@ -20,6 +20,8 @@ import world.bentobox.islandselector.models.GridLocation;
 import world.bentobox.islandselector.utils.GridCoordinate;
 
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 
 /**
  * Shared listener for all AdminGridGUI instances.
@@ -292,9 +294,25 @@ public class SharedAdminGridGUIListener implements Listener {
 
     private void handleReload(AdminGridGUI gui, Player player) {
         player.sendMessage("§eSyncing grid with BSkyBlock...");
-        gridManager.syncWithBSkyBlock();
-        player.sendMessage("§aGrid sync complete!");
-        gui.refresh();
+        gridManager.syncWithBSkyBlock().whenComplete((result, error) -> {
+            // A failed sync completes off the main thread
+            Runnable report = () -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause == null) {
+                    player.sendMessage("§aGrid sync complete!");
+                } else if (cause instanceof CancellationException) {
+                    player.sendMessage("§cGrid sync was cancelled.");
+                } else {
+                    player.sendMessage("§cGrid sync failed: " + cause.getMessage());
+                }
+                gui.refresh();
+            };
+            if (Bukkit.isPrimaryThread()) {
+                report.run();
+            } else {
+                Bukkit.getScheduler().runTask(addon.getPlugin(), report);
+            }
+        });
     }
 
     private void handleBackupAll(Player player) {
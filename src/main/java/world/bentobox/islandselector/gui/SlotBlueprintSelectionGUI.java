@@ -410,8 +410,8 @@ public class SlotBlueprintSelectionGUI implements InventoryHolder, Listener {
             // Step 2: Save island homes for this slot
             addon.getSlotManager().saveIslandHomes(slotData.getPlayerUUIDAsUUID(), slotData.getSlotNumber(), island);
 
-            // Step 3: Use SchematicUtils for block saving (without entities - we handle those separately)
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, false, schematicFile);
+            // Step 3: Save blocks to the snapshot store (without entities - we handle those separately)
+            boolean success = addon.getIslandSnapshotStore().saveNow(center, range, schematicFile);
 
             if (success) {
                 addon.log("Saved island schematic for slot: " + slotData.getUniqueId());
@@ -23,7 +23,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Confirmation GUI for slot switching
+ * Confirmation GUI for slot switching.
+ * The target slot is prefetched while the screen is open, and discarded unless the switch is confirmed.
  */
 public class SlotSwitchConfirmationGUI implements InventoryHolder, Listener {
 
@@ -37,6 +38,7 @@ public class SlotSwitchConfirmationGUI implements InventoryHolder, Listener {
     private final SlotData toSlot;
     private Inventory inventory;
     private BukkitTask cleanupTask;
+    private boolean confirmed = false;
 
     public SlotSwitchConfirmationGUI(IslandSelector addon, Player player, SlotData fromSlot, SlotData toSlot) {
         this.addon = addon;
@@ -54,6 +56,9 @@ public class SlotSwitchConfirmationGUI implements InventoryHolder, Listener {
         player.openInventory(inventory);
         Bukkit.getPluginManager().registerEvents(this, addon.getPlugin());
 
+        // Read the target slot from disk while the player decides
+        addon.getSlotSwitchManager().prefetchSlot(toSlot);
+
         // Schedule cleanup task as fallback (30 minutes)
         cleanupTask = Bukkit.getScheduler().runTaskLater(addon.getPlugin(), this::cleanup, 20 * 60 * 30);
     }
@@ -65,6 +70,9 @@ public class SlotSwitchConfirmationGUI implements InventoryHolder, Listener {
         }
         HandlerList.unregisterAll(this);
         inventory = null;
+        if (!confirmed) {
+            addon.getSlotSwitchManager().discardPrefetch(toSlot);
+        }
     }
 
     private void createInventory() {
@@ -207,6 +215,8 @@ public class SlotSwitchConfirmationGUI implements InventoryHolder, Listener {
             }
         }
 
+        // Keep the prefetched slot for the switch when the inventory closes
+        confirmed = true;
         player.closeInventory();
         player.sendMessage(colorize("&eStarting slot switch..."));
 
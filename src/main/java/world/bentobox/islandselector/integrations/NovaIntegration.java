@@ -1,16 +1,24 @@
 package world.bentobox.islandselector.integrations;
 
 import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.inventory.ItemStack;
 import world.bentobox.islandselector.IslandSelector;
+import world.bentobox.islandselector.utils.ChunkReader;
 
 import java.io.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
@@ -64,6 +72,12 @@ public class NovaIntegration {
         final java.lang.reflect.Method keyMethod;
         final java.lang.reflect.Method registryGetMethod;
 
+        // Method handles for the per-block scan, bound and typed once so each probe is a direct call
+        final MethodHandle getBlockStateHandle;  // (Location) -> NovaBlockState or null
+        final MethodHandle getTileEntityHandle;  // (Location) -> TileEntity or null
+        final MethodHandle getIdHandle;          // (NovaBlockState) -> id
+        final MethodHandle getDropsHandle;       // (TileEntity, boolean) -> List<ItemStack>
+
         ReflectionCache() throws ReflectiveOperationException {
             // Load all classes
             this.worldDataManagerClass = Class.forName("xyz.xenondevs.nova.world.format.WorldDataManager");
@@ -107,6 +121,16 @@ public class NovaIntegration {
             this.placeBlockMethod = blockUtilsClass.getMethod("placeBlock", contextClass, Location.class, novaBlockClass, boolean.class);
             this.keyMethod = keyClass.getMethod("key", String.class);
             this.registryGetMethod = blockRegistry.getClass().getMethod("get", keyClass);
+
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.getBlockStateHandle = lookup.unreflect(getBlockStateMethod).bindTo(worldDataManagerInstance)
+                .asType(MethodType.methodType(Object.class, Location.class));
+            this.getTileEntityHandle = lookup.unreflect(getTileEntityMethod).bindTo(worldDataManagerInstance)
+                .asType(MethodType.methodType(Object.class, Location.class));
+            this.getIdHandle = lookup.unreflect(getIdMethod)
+                .asType(MethodType.methodType(Object.class, Object.class));
+            this.getDropsHandle = lookup.unreflect(getDropsMethod)
+                .asType(MethodType.methodType(Object.class, Object.class, boolean.class));
         }
     }
 
@@ -192,6 +216,10 @@ public class NovaIntegration {
      * Capture all Nova blocks in a region.
      * Returns a list of NovaBlockData that can be serialized.
      *
+     * The region is scanned chunk by chunk on the calling thread. Chunk sections that are entirely air
+     * are skipped - a Nova block always has a vanilla backing block - which on a skyblock
+     * island is most of the cuboid.
+     *
      * @param center Center of the region
      * @param range Range from center
      * @return List of captured Nova block data
@@ -209,74 +237,191 @@ public class NovaIntegration {
             return novaBlocks;
         }
 
-        int centerX = center.getBlockX();
-        int centerY = center.getBlockY();
-        int centerZ = center.getBlockZ();
-        int minY = world.getMinHeight();
-        int maxY = world.getMaxHeight();
+        ScanArea area = new ScanArea(world, center, range);
+        Map<Long, boolean[]> occupied = findOccupiedSections(area);
+        ScanCounts counts = new ScanCounts();
+
+        try {
+            for (int i = 0; i < area.chunkCount(); i++) {
+                novaBlocks.addAll(scanChunk(area, i, occupied, counts));
+            }
+
+            addon.log("Captured " + novaBlocks.size() + " Nova blocks (" + counts.blocksWithTileData + " with tile entity data)");
+
+        } catch (Exception e) {
+            addon.logWarning("Failed to capture Nova blocks: " + e.getMessage());
+        }
+
+        if (addon.getSettings().isDebugEnabled()) {
+            long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+            addon.log(String.format("Nova scan: %d blocks found in %dms (range=%d, %d of %d sections scanned)",
+                novaBlocks.size(), elapsedMs, range, counts.sectionsScanned, area.chunkCount() * area.sectionCount));
+        }
+
+        return novaBlocks;
+    }
 
+    /**
+     * Scan the part of one chunk that falls inside the area
+     */
+    private List<NovaBlockData> scanChunk(ScanArea area, int index, Map<Long, boolean[]> occupied,
+                                          ScanCounts counts) {
+        int chunkX = area.minChunkX + index / area.chunksZ;
+        int chunkZ = area.minChunkZ + index % area.chunksZ;
+        boolean[] sections = occupied.get(chunkKey(chunkX, chunkZ));
+
+        int fromX = Math.max(area.minX, chunkX << 4);
+        int toX = Math.min(area.maxX, (chunkX << 4) + 15);
+        int fromZ = Math.max(area.minZ, chunkZ << 4);
+        int toZ = Math.min(area.maxZ, (chunkZ << 4) + 15);
+
+        List<NovaBlockData> found = new ArrayList<>();
         // Reuse single Location object (avoid allocation overhead)
-        Location loc = new Location(world, 0, 0, 0);
-        int blocksWithTileData = 0;
+        Location loc = new Location(area.world, 0, 0, 0);
 
-        try {
-            for (int x = centerX - range; x <= centerX + range; x++) {
-                for (int z = centerZ - range; z <= centerZ + range; z++) {
-                    for (int y = minY; y < maxY; y++) {
+        for (int section = 0; section < area.sectionCount; section++) {
+            if (sections != null && !sections[section]) {
+                continue; // All air - nothing Nova can live here
+            }
+            counts.sectionsScanned++;
+            int fromY = Math.max(area.minY, (area.minSectionY + section) << 4);
+            int toY = Math.min(area.maxY - 1, ((area.minSectionY + section) << 4) + 15);
+
+            for (int x = fromX; x <= toX; x++) {
+                for (int z = fromZ; z <= toZ; z++) {
+                    for (int y = fromY; y <= toY; y++) {
                         loc.setX(x);
                         loc.setY(y);
                         loc.setZ(z);
-
-                        try {
-                            // Check if this location has a Nova block
-                            Object blockState = cache.getBlockStateMethod.invoke(cache.worldDataManagerInstance, loc);
-
-                            if (blockState != null) {
-                                // Get the block ID
-                                Object blockId = cache.getIdMethod.invoke(blockState);
-
-                                // Capture TileEntity drops if this is a tile entity block
-                                List<ItemStack> drops = null;
-                                try {
-                                    Object tileEntity = cache.getTileEntityMethod.invoke(cache.worldDataManagerInstance, loc);
-                                    if (tileEntity != null) {
-                                        @SuppressWarnings("unchecked")
-                                        List<ItemStack> capturedDrops = (List<ItemStack>) cache.getDropsMethod.invoke(tileEntity, true);
-                                        drops = capturedDrops;
-                                        blocksWithTileData++;
-                                    }
-                                } catch (Exception te) {
-                                    // Not a tile entity or getDrops failed - drops stays null
-                                }
-
-                                // Store relative position, block ID, and drops
-                                NovaBlockData data = new NovaBlockData(
-                                    x - centerX, y - centerY, z - centerZ,
-                                    blockId.toString(),
-                                    drops
-                                );
-                                novaBlocks.add(data);
-                            }
-                        } catch (Exception e) {
-                            // Skip blocks that fail - they may not be Nova blocks
+                        NovaBlockData data = probe(loc, area, counts);
+                        if (data != null) {
+                            found.add(data);
                         }
                     }
                 }
             }
+        }
+        return found;
+    }
 
-            addon.log("Captured " + novaBlocks.size() + " Nova blocks (" + blocksWithTileData + " with tile entity data)");
+    /**
+     * Capture the Nova block at one location, if there is one
+     */
+    private NovaBlockData probe(Location loc, ScanArea area, ScanCounts counts) {
+        try {
+            // Check if this location has a Nova block
+            Object blockState = (Object) cache.getBlockStateHandle.invokeExact(loc);
+            if (blockState == null) {
+                return null;
+            }
+
+            // Get the block ID
+            Object blockId = (Object) cache.getIdHandle.invokeExact(blockState);
+
+            // Capture TileEntity drops if this is a tile entity block
+            List<ItemStack> drops = null;
+            try {
+                Object tileEntity = (Object) cache.getTileEntityHandle.invokeExact(loc);
+                if (tileEntity != null) {
+                    @SuppressWarnings("unchecked")
+                    List<ItemStack> capturedDrops = (List<ItemStack>) (Object) cache.getDropsHandle.invokeExact(tileEntity, true);
+                    drops = capturedDrops;
+                    counts.blocksWithTileData++;
+                }
+            } catch (Throwable te) {
+                // Not a tile entity or getDrops failed - drops stays null
+            }
+
+            // Store relative position, block ID, and drops
+            return new NovaBlockData(
+                loc.getBlockX() - area.centerX, loc.getBlockY() - area.centerY, loc.getBlockZ() - area.centerZ,
+                blockId.toString(),
+                drops
+            );
+        } catch (Throwable e) {
+            // Skip blocks that fail - they may not be Nova blocks
+            return null;
+        }
+    }
 
+    /**
+     * Work out which chunk sections in the area contain anything but air, from chunk snapshots.
+     * Off the main thread the chunks are loaded asynchronously and read a few per tick; on the
+     * main thread they are read all at once. If they can't be read the whole area is scanned.
+     *
+     * @return Chunk key to per-section "has blocks" flags
+     */
+    private Map<Long, boolean[]> findOccupiedSections(ScanArea area) {
+        int maxChunkX = area.minChunkX + area.chunksX - 1;
+        int maxChunkZ = area.minChunkZ + area.chunksZ - 1;
+        List<ChunkSnapshot> snapshots;
+        try {
+            snapshots = Bukkit.isPrimaryThread()
+                ? ChunkReader.readNow(area.world, area.minChunkX, area.minChunkZ, maxChunkX, maxChunkZ,
+                    chunk -> chunk.getChunkSnapshot(false, false, false))
+                : ChunkReader.read(addon, area.world, area.minChunkX, area.minChunkZ, maxChunkX, maxChunkZ,
+                    chunk -> chunk.getChunkSnapshot(false, false, false)).join();
         } catch (Exception e) {
-            addon.logWarning("Failed to capture Nova blocks: " + e.getMessage());
+            addon.logWarning("Could not read chunk sections for the Nova scan, scanning the whole area: " + e.getMessage());
+            return new HashMap<>();
         }
 
-        if (addon.getSettings().isDebugEnabled()) {
-            long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
-            addon.log(String.format("Nova scan: %d blocks found in %dms (range=%d)",
-                novaBlocks.size(), elapsedMs, range));
+        Map<Long, boolean[]> occupied = new HashMap<>();
+        for (ChunkSnapshot chunk : snapshots) {
+            boolean[] sections = new boolean[area.sectionCount];
+            for (int section = 0; section < area.sectionCount; section++) {
+                sections[section] = !chunk.isSectionEmpty(section);
+            }
+            occupied.put(chunkKey(chunk.getX(), chunk.getZ()), sections);
         }
+        return occupied;
+    }
 
-        return novaBlocks;
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * What a Nova scan found, for its log lines
+     */
+    private static final class ScanCounts {
+        private int blocksWithTileData;
+        private int sectionsScanned;
+    }
+
+    /**
+     * Bounds of a Nova scan in blocks, chunks and sections
+     */
+    private static final class ScanArea {
+        private final World world;
+        private final int centerX, centerY, centerZ;
+        private final int minX, maxX, minZ, maxZ;
+        private final int minY, maxY; // maxY exclusive
+        private final int minChunkX, minChunkZ, chunksX, chunksZ;
+        private final int minSectionY, sectionCount;
+
+        private ScanArea(World world, Location center, int range) {
+            this.world = world;
+            this.centerX = center.getBlockX();
+            this.centerY = center.getBlockY();
+            this.centerZ = center.getBlockZ();
+            this.minX = centerX - range;
+            this.maxX = centerX + range;
+            this.minZ = centerZ - range;
+            this.maxZ = centerZ + range;
+            this.minY = world.getMinHeight();
+            this.maxY = world.getMaxHeight();
+            this.minChunkX = minX >> 4;
+            this.minChunkZ = minZ >> 4;
+            this.chunksX = (maxX >> 4) - minChunkX + 1;
+            this.chunksZ = (maxZ >> 4) - minChunkZ + 1;
+            this.minSectionY = minY >> 4;
+            this.sectionCount = ((maxY - 1) >> 4) - minSectionY + 1;
+        }
+
+        private int chunkCount() {
+            return chunksX * chunksZ;
+        }
     }
 
     /**
@@ -311,7 +456,7 @@ public class NovaIntegration {
         }
 
         CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0]))
-            .orTimeout(30, java.util.concurrent.TimeUnit.SECONDS)
+            .orTimeout(30, TimeUnit.SECONDS)
             .thenRun(() -> {
                 // Chunks loaded, now capture on main thread
                 Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
@@ -540,7 +685,7 @@ public class NovaIntegration {
         }
 
         CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0]))
-            .orTimeout(30, java.util.concurrent.TimeUnit.SECONDS)
+            .orTimeout(30, TimeUnit.SECONDS)
             .thenRun(() -> {
                 // Chunks loaded, now remove on main thread
                 Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
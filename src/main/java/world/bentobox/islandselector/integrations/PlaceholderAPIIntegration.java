@@ -174,13 +174,11 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
     }
 
     /**
-     * Get count of available (empty) grid locations
+     * Get count of available grid locations - within the grid bounds, not occupied, reserved or for sale
      * @return Number of available locations
      */
     private int getAvailableLocationsCount() {
-        int totalTracked = gridManager.getTrackedLocationCount();
-        int occupied = gridManager.getOccupiedLocationCount();
-        return totalTracked - occupied;
+        return gridManager.getAvailableLocationCount();
     }
 
     /**
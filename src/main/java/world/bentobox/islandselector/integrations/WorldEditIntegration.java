@@ -4,10 +4,13 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
-import org.bukkit.entity.Player;
 import world.bentobox.islandselector.IslandSelector;
+import world.bentobox.islandselector.utils.IslandSnapshot;
+import world.bentobox.islandselector.utils.SectionBlob;
 
 import java.io.File;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -153,6 +156,47 @@ public class WorldEditIntegration {
         }
     }
 
+    /**
+     * Copy cuboids of a world into separate in-memory schematics.
+     * Synchronous - call from a worker thread.
+     *
+     * @param cuboids Absolute block bounds, each {minX, minY, minZ, maxX, maxY, maxZ}
+     * @return Schematic bytes for each cuboid, or null on failure
+     */
+    public List<byte[]> copyCuboids(World world, List<int[]> cuboids) {
+        if (!faweAvailable) {
+            addon.logWarning("Cannot save schematic - FastAsyncWorldEdit not installed");
+            return null;
+        }
+
+        try {
+            return WorldEditOperations.copyCuboids(addon, world, cuboids);
+        } catch (NoClassDefFoundError | Exception e) {
+            addon.logError("FAWE operation failed: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Paste the sections of an island snapshot at a location.
+     * Synchronous - call from a worker thread.
+     */
+    public boolean pasteSections(Location center, IslandSnapshot snapshot, Map<String, SectionBlob> sections) {
+        if (!faweAvailable) {
+            addon.logWarning("Cannot paste schematic - FastAsyncWorldEdit not installed");
+            return false;
+        }
+
+        try {
+            return WorldEditOperations.pasteSections(addon, center, snapshot, sections);
+        } catch (NoClassDefFoundError | Exception e) {
+            addon.logError("FAWE operation failed: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
     /**
      * Clear all blocks in a region asynchronously.
      * Removes entities on main thread first, then clears blocks async with FAWE.
@@ -193,22 +237,9 @@ public class WorldEditIntegration {
     public int removeEntitiesInRegion(World world, Location center, int range) {
         if (world == null) return 0;
 
-        int minX = center.getBlockX() - range;
-        int maxX = center.getBlockX() + range;
-        int minZ = center.getBlockZ() - range;
-        int maxZ = center.getBlockZ() + range;
-
         // Collect entities to remove first to avoid ConcurrentModificationException
-        java.util.List<Entity> entitiesToRemove = new java.util.ArrayList<>();
-        for (Entity entity : world.getEntities()) {
-            if (entity instanceof Player) continue;
-
-            Location loc = entity.getLocation();
-            if (loc.getBlockX() >= minX && loc.getBlockX() <= maxX &&
-                loc.getBlockZ() >= minZ && loc.getBlockZ() <= maxZ) {
-                entitiesToRemove.add(entity);
-            }
-        }
+        // Only the chunks overlapping the region are walked
+        java.util.List<Entity> entitiesToRemove = addon.getEntityStorage().getEntitiesInRegion(world, center, range);
 
         // Now remove collected entities
         for (Entity entity : entitiesToRemove) {
@@ -231,7 +262,31 @@ public class WorldEditIntegration {
 
         try {
             // Remove entities first (must be on main thread)
-            removeEntitiesInRegion(center.getWorld(), center, range);
+            if (Bukkit.isPrimaryThread()) {
+                removeEntitiesInRegion(center.getWorld(), center, range);
+            } else {
+                Bukkit.getScheduler().callSyncMethod(addon.getPlugin(),
+                    () -> removeEntitiesInRegion(center.getWorld(), center, range)).get();
+            }
+            return WorldEditOperations.clearRegion(addon, center, range);
+        } catch (NoClassDefFoundError | Exception e) {
+            addon.logError("FAWE operation failed: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Clear blocks only, leaving entities alone. Safe to call off the main thread;
+     * callers remove entities on the main thread beforehand.
+     */
+    public boolean clearBlocks(Location center, int range) {
+        if (!faweAvailable) {
+            addon.logWarning("Cannot clear region - FastAsyncWorldEdit not installed");
+            return false;
+        }
+
+        try {
             return WorldEditOperations.clearRegion(addon, center, range);
         } catch (NoClassDefFoundError | Exception e) {
             addon.logError("FAWE operation failed: " + e.getMessage());
@@ -13,17 +13,34 @@ import com.sk89q.worldedit.function.operation.Operations;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.session.ClipboardHolder;
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.biome.BiomeTypes;
+import com.sk89q.worldedit.world.block.BlockState;
 import com.sk89q.worldedit.world.block.BlockTypes;
 
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import world.bentobox.islandselector.IslandSelector;
+import world.bentobox.islandselector.utils.ChunkReader;
+import world.bentobox.islandselector.utils.IslandBounds;
+import world.bentobox.islandselector.utils.IslandSnapshot;
+import world.bentobox.islandselector.utils.SectionBlob;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * FastAsyncWorldEdit operations for island management.
@@ -48,6 +65,8 @@ public class WorldEditOperations {
 
     /**
      * Copy a region and save it to a schematic file.
+     * Always the full region, never trimmed: backups are pasted back in place without a clear,
+     * so the schematic's air is what removes blocks built since it was saved.
      * BLOCKS ONLY - entities are handled separately by EntityStorage.
      */
     public static boolean copyAndSave(IslandSelector addon, Location center, int range,
@@ -58,18 +77,7 @@ public class WorldEditOperations {
         }
 
         com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
-        BlockVector3 min = BlockVector3.at(
-            center.getX() - range,
-            world.getMinHeight(),
-            center.getZ() - range
-        );
-        BlockVector3 max = BlockVector3.at(
-            center.getX() + range,
-            world.getMaxHeight() - 1,
-            center.getZ() + range
-        );
-
-        CuboidRegion region = new CuboidRegion(weWorld, min, max);
+        CuboidRegion region = fullRegion(world, center, range);
         BlockArrayClipboard clipboard = new BlockArrayClipboard(region);
         clipboard.setOrigin(BlockVector3.at(center.getX(), center.getY(), center.getZ()));
 
@@ -100,6 +108,7 @@ public class WorldEditOperations {
 
     /**
      * Load a schematic file and paste it at a location.
+     * The target chunks are loaded in parallel before the paste starts, see {@link #preloadChunks}.
      * BLOCKS ONLY - entities are handled separately by EntityStorage.
      */
     public static boolean loadAndPaste(IslandSelector addon, File file, Location center) {
@@ -120,6 +129,11 @@ public class WorldEditOperations {
                 clipboard = BuiltInClipboardFormat.SPONGE_SCHEMATIC.getReader(fis).read();
             }
 
+            BlockVector3 to = BlockVector3.at(center.getX(), center.getY(), center.getZ());
+            BlockVector3 min = clipboard.getRegion().getMinimumPoint().subtract(clipboard.getOrigin()).add(to);
+            BlockVector3 max = clipboard.getRegion().getMaximumPoint().subtract(clipboard.getOrigin()).add(to);
+            List<Chunk> held = preloadChunks(addon, world, min.getX(), min.getZ(), max.getX(), max.getZ());
+
             // Paste blocks to world - ENTITIES DISABLED (EntityStorage handles them)
             com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
             try (EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder()
@@ -128,14 +142,17 @@ public class WorldEditOperations {
                     .build()) {
                 Operation operation = new ClipboardHolder(clipboard)
                     .createPaste(editSession)
-                    .to(BlockVector3.at(center.getX(), center.getY(), center.getZ()))
+                    .to(to)
                     .ignoreAirBlocks(false)
                     .copyEntities(false)  // DISABLED - EntityStorage handles entities
                     .copyBiomes(true)
                     .build();
 
                 Operations.complete(operation);
+            } finally {
+                ChunkReader.release(addon, held);
             }
+            markModified(addon, world, min.getX(), min.getZ(), max.getX(), max.getZ());
 
             addon.log("Successfully pasted schematic blocks (entities handled by EntityStorage)");
             return true;
@@ -147,8 +164,191 @@ public class WorldEditOperations {
         }
     }
 
+    /**
+     * Copy several cuboids into separate in-memory schematics, each with its minimum corner
+     * as origin so it can be pasted anywhere.
+     * BLOCKS ONLY - entities are handled separately by EntityStorage.
+     *
+     * @param cuboids Absolute block bounds, each {minX, minY, minZ, maxX, maxY, maxZ}
+     * @return Sponge schematic bytes for each cuboid in order, or null on failure
+     */
+    public static List<byte[]> copyCuboids(IslandSelector addon, World world, List<int[]> cuboids) {
+        com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
+        List<byte[]> parts = new ArrayList<>(cuboids.size());
+
+        try {
+            for (int[] bounds : cuboids) {
+                BlockVector3 min = BlockVector3.at(bounds[0], bounds[1], bounds[2]);
+                CuboidRegion region = new CuboidRegion(weWorld, min, BlockVector3.at(bounds[3], bounds[4], bounds[5]));
+                BlockArrayClipboard clipboard = new BlockArrayClipboard(region);
+                clipboard.setOrigin(min);
+                copyToClipboardInternal(weWorld, region, clipboard, false, true);
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ClipboardWriter writer = BuiltInClipboardFormat.SPONGE_SCHEMATIC.getWriter(bytes)) {
+                    writer.write(clipboard);
+                }
+                parts.add(bytes.toByteArray());
+            }
+            return parts;
+        } catch (Exception e) {
+            addon.logError("Failed to copy island sections: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Paste the sections of an island snapshot at a location, in one edit session.
+     * Plain sections are set block by block from their palettes (a single-state section
+     * is filled in one call); sections with tile entities are pasted as schematics.
+     * The target chunks are loaded in parallel first, and sections are pasted chunk by chunk
+     * so the edit session finishes with one chunk before moving to the next.
+     * BLOCKS ONLY - entities are handled separately by EntityStorage.
+     *
+     * @param sections Every section the snapshot uses, by hash
+     */
+    public static boolean pasteSections(IslandSelector addon, Location center, IslandSnapshot snapshot,
+                                        Map<String, SectionBlob> sections) {
+        World world = center.getWorld();
+        if (world == null) {
+            return false;
+        }
+
+        List<IslandSnapshot.Section> ordered = new ArrayList<>(snapshot.getSections());
+        if (ordered.isEmpty()) {
+            return true;
+        }
+        ordered.sort(Comparator.<IslandSnapshot.Section>comparingInt(s -> (center.getBlockX() + s.getRelX()) >> 4)
+            .thenComparingInt(s -> (center.getBlockZ() + s.getRelZ()) >> 4)
+            .thenComparingInt(IslandSnapshot.Section::getRelY));
+        int minX = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (IslandSnapshot.Section section : ordered) {
+            minX = Math.min(minX, center.getBlockX() + section.getRelX());
+            minZ = Math.min(minZ, center.getBlockZ() + section.getRelZ());
+            maxX = Math.max(maxX, center.getBlockX() + section.getRelX() + section.getSizeX() - 1);
+            maxZ = Math.max(maxZ, center.getBlockZ() + section.getRelZ() + section.getSizeZ() - 1);
+        }
+        List<Chunk> held = preloadChunks(addon, world, minX, minZ, maxX, maxZ);
+
+        Map<String, BlockState> states = new HashMap<>();
+        Map<String, BiomeType> biomes = new HashMap<>();
+        com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
+        try (EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder()
+                .world(weWorld)
+                .maxBlocks(-1)
+                .build()) {
+            for (IslandSnapshot.Section section : ordered) {
+                SectionBlob blob = sections.get(section.getHash());
+                BlockVector3 min = BlockVector3.at(center.getBlockX() + section.getRelX(),
+                    center.getBlockY() + section.getRelY(), center.getBlockZ() + section.getRelZ());
+
+                if (blob.getType() == SectionBlob.TYPE_SCHEMATIC) {
+                    Clipboard clipboard = BuiltInClipboardFormat.SPONGE_SCHEMATIC
+                        .getReader(new ByteArrayInputStream(blob.getSchematic())).read();
+                    Operation operation = new ClipboardHolder(clipboard)
+                        .createPaste(editSession)
+                        .to(min)
+                        .ignoreAirBlocks(false)
+                        .copyEntities(false)  // DISABLED - EntityStorage handles entities
+                        .copyBiomes(true)
+                        .build();
+                    Operations.complete(operation);
+                    markModified(addon, world, min.getX(), min.getZ(), min.getX(), min.getZ());
+                    continue;
+                }
+
+                List<String> palette = blob.getPalette();
+                if (palette.size() == 1) {
+                    BlockVector3 max = min.add(blob.getSizeX() - 1, blob.getSizeY() - 1, blob.getSizeZ() - 1);
+                    editSession.setBlocks(new CuboidRegion(weWorld, min, max), toState(states, palette.get(0)));
+                } else {
+                    BlockState[] paletteStates = new BlockState[palette.size()];
+                    for (int i = 0; i < paletteStates.length; i++) {
+                        paletteStates[i] = toState(states, palette.get(i));
+                    }
+                    int[] blocks = blob.getBlocks();
+                    for (int y = 0; y < blob.getSizeY(); y++) {
+                        for (int z = 0; z < blob.getSizeZ(); z++) {
+                            for (int x = 0; x < blob.getSizeX(); x++) {
+                                editSession.setBlock(min.add(x, y, z), paletteStates[blocks[blob.blockIndex(x, y, z)]]);
+                            }
+                        }
+                    }
+                }
+
+                markModified(addon, world, min.getX(), min.getZ(), min.getX(), min.getZ());
+
+                // Biomes are stored per 4x4x4 cell
+                int[] cells = blob.getCells();
+                for (int cy = 0; cy < SectionBlob.cellCount(blob.getSizeY()); cy++) {
+                    for (int cz = 0; cz < SectionBlob.cellCount(blob.getSizeZ()); cz++) {
+                        for (int cx = 0; cx < SectionBlob.cellCount(blob.getSizeX()); cx++) {
+                            BiomeType biome = biomes.computeIfAbsent(
+                                blob.getBiomes().get(cells[blob.cellIndex(cx, cy, cz)]), BiomeTypes::get);
+                            if (biome != null) {
+                                editSession.setBiome(min.add(cx << 2, cy << 2, cz << 2), biome);
+                            }
+                        }
+                    }
+                }
+            }
+            return true;
+
+        } catch (Exception e) {
+            addon.logError("Failed to paste island sections: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        } finally {
+            ChunkReader.release(addon, held);
+        }
+    }
+
+    /**
+     * Tell the chunk resend queue which chunks a paste or clear wrote to, and drop the
+     * safe spots found in them
+     */
+    private static void markModified(IslandSelector addon, World world, int minX, int minZ, int maxX, int maxZ) {
+        if (addon.getChunkResendQueue() != null) {
+            addon.getChunkResendQueue().markModified(world, minX >> 4, minZ >> 4, maxX >> 4, maxZ >> 4);
+        }
+        if (addon.getSafeSpotFinder() != null) {
+            addon.getSafeSpotFinder().invalidate(world, minX >> 4, minZ >> 4, maxX >> 4, maxZ >> 4);
+        }
+    }
+
+    /**
+     * Load the chunks a paste will write to, all in parallel and off the main thread, so FAWE
+     * doesn't load or generate them one at a time as it reaches them. They stay held by a
+     * plugin ticket until the caller releases them after the paste.
+     *
+     * @return The held chunks; empty on the main thread, which can't wait for its own loads
+     */
+    private static List<Chunk> preloadChunks(IslandSelector addon, World world, int minX, int minZ, int maxX, int maxZ) {
+        if (Bukkit.isPrimaryThread()) {
+            return Collections.emptyList();
+        }
+        long start = System.currentTimeMillis();
+        try {
+            List<Chunk> chunks = ChunkReader.load(addon, world, minX >> 4, minZ >> 4, maxX >> 4, maxZ >> 4).join();
+            addon.log("Preloaded " + chunks.size() + " chunks for paste in " + (System.currentTimeMillis() - start) + "ms");
+            return chunks;
+        } catch (Exception e) {
+            addon.logWarning("Could not preload chunks for paste, FAWE will load them: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private static BlockState toState(Map<String, BlockState> states, String blockData) {
+        return states.computeIfAbsent(blockData, data -> BukkitAdapter.adapt(Bukkit.createBlockData(data)));
+    }
+
     /**
      * Clear all blocks in a region (set to air).
+     * With performance.trim-island-captures on, only sections holding blocks are touched:
+     * sections whose palette is just air are skipped, and each run of occupied sections in a
+     * chunk column is cleared as one cuboid. Clearing still goes through the edit session, so
+     * tile entities are removed and changed chunks relit as for a full clear.
      * NOTE: Entity removal must be done on the main thread BEFORE calling this method.
      * Use clearRegionWithEntities() for the full operation with entity removal.
      */
@@ -160,27 +360,35 @@ public class WorldEditOperations {
 
         try {
             com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
-            BlockVector3 min = BlockVector3.at(
-                center.getX() - range,
-                world.getMinHeight(),
-                center.getZ() - range
-            );
-            BlockVector3 max = BlockVector3.at(
-                center.getX() + range,
-                world.getMaxHeight() - 1,
-                center.getZ() + range
-            );
-
-            CuboidRegion region = new CuboidRegion(weWorld, min, max);
+            IslandBounds bounds = measureIsland(addon, world, center, range);
+            List<CuboidRegion> regions = new ArrayList<>();
+            if (bounds == null) {
+                regions.add(fullRegion(world, center, range));
+            } else {
+                for (int[] cuboid : bounds.getOccupiedCuboids()) {
+                    regions.add(toRegion(world, cuboid));
+                }
+            }
+            if (regions.isEmpty()) {
+                return true; // Already all air
+            }
 
             // Clear blocks only - entity removal must be done on main thread before this
             try (EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder()
                     .world(weWorld)
                     .maxBlocks(-1)
                     .build()) {
-                editSession.setBlocks((com.sk89q.worldedit.regions.Region) region, BlockTypes.AIR.getDefaultState());
+                for (CuboidRegion region : regions) {
+                    editSession.setBlocks((com.sk89q.worldedit.regions.Region) region, BlockTypes.AIR.getDefaultState());
+                    markModified(addon, world, region.getMinimumPoint().getX(), region.getMinimumPoint().getZ(),
+                        region.getMaximumPoint().getX(), region.getMaximumPoint().getZ());
+                }
             }
 
+            if (bounds != null) {
+                addon.log("Cleared " + regions.size() + " occupied section runs of island at "
+                    + center.getBlockX() + "," + center.getBlockZ());
+            }
             return true;
 
         } catch (Exception e) {
@@ -202,18 +410,12 @@ public class WorldEditOperations {
         }
 
         com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
-        BlockVector3 min = BlockVector3.at(
-            center.getX() - range,
-            world.getMinHeight(),
-            center.getZ() - range
-        );
-        BlockVector3 max = BlockVector3.at(
-            center.getX() + range,
-            world.getMaxHeight() - 1,
-            center.getZ() + range
-        );
-
-        CuboidRegion region = new CuboidRegion(weWorld, min, max);
+        CuboidRegion region = islandRegion(addon, world, center, range);
+        if (region == null) {
+            // Nothing but air - keep a single block so there is still something to paste
+            BlockVector3 at = BlockVector3.at(center.getX(), center.getY(), center.getZ());
+            region = new CuboidRegion(weWorld, at, at);
+        }
         BlockArrayClipboard clipboard = new BlockArrayClipboard(region);
         clipboard.setOrigin(BlockVector3.at(center.getX(), center.getY(), center.getZ()));
 
@@ -249,13 +451,17 @@ public class WorldEditOperations {
         com.sk89q.worldedit.world.World weWorld = BukkitAdapter.adapt(world);
 
         try {
+            BlockVector3 to = BlockVector3.at(center.getX(), center.getY(), center.getZ());
+            BlockVector3 min = clipboard.getRegion().getMinimumPoint().subtract(clipboard.getOrigin()).add(to);
+            BlockVector3 max = clipboard.getRegion().getMaximumPoint().subtract(clipboard.getOrigin()).add(to);
+
             try (EditSession editSession = WorldEdit.getInstance().newEditSessionBuilder()
                     .world(weWorld)
                     .maxBlocks(-1)
                     .build()) {
                 Operation operation = new ClipboardHolder(clipboard)
                     .createPaste(editSession)
-                    .to(BlockVector3.at(center.getX(), center.getY(), center.getZ()))
+                    .to(to)
                     .ignoreAirBlocks(false)
                     .copyEntities(false)  // DISABLED - EntityStorage handles entities
                     .copyBiomes(true)
@@ -263,6 +469,7 @@ public class WorldEditOperations {
 
                 Operations.complete(operation);
             }
+            markModified(addon, world, min.getX(), min.getZ(), max.getX(), max.getZ());
 
             addon.log("Successfully pasted from clipboard blocks (entities handled by EntityStorage)");
             return true;
@@ -303,6 +510,60 @@ public class WorldEditOperations {
         return false;
     }
 
+    /**
+     * The full-height column around an island center, trimmed to the part that holds blocks
+     * when performance.trim-island-captures is on. Everything outside the trimmed box is air
+     * at the source, so a copy of it pastes back exactly (the clipboard origin stays at the
+     * center) only onto an empty or cleared target - fine for moving an island to a new cell,
+     * but not for a file restored in place, see {@link #copyAndSave}.
+     *
+     * @return The region, or null if it is all air
+     */
+    private static CuboidRegion islandRegion(IslandSelector addon, World world, Location center, int range) {
+        CuboidRegion full = fullRegion(world, center, range);
+        IslandBounds bounds = measureIsland(addon, world, center, range);
+        if (bounds == null) {
+            return full;
+        }
+        int[] box = bounds.getBox();
+        if (box == null) {
+            return null;
+        }
+        CuboidRegion trimmed = toRegion(world, box);
+        addon.log("Trimmed island region to " + trimmed.getWidth() + "x" + trimmed.getHeight() + "x"
+            + trimmed.getLength() + " (" + ((long) trimmed.getVolume() * 100 / Math.max(1L, full.getVolume())) + "% of full)");
+        return trimmed;
+    }
+
+    /**
+     * Which sections of an island hold blocks, or null to treat the whole column as occupied
+     * (trimming is off, or the chunks couldn't be read)
+     */
+    private static IslandBounds measureIsland(IslandSelector addon, World world, Location center, int range) {
+        if (!addon.getSettings().isTrimIslandCaptures()) {
+            return null;
+        }
+        try {
+            return IslandBounds.measure(addon, world, center.getBlockX() - range, center.getBlockZ() - range,
+                center.getBlockX() + range, center.getBlockZ() + range);
+        } catch (Exception e) {
+            addon.logWarning("Could not measure island bounds, using the full region: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static CuboidRegion fullRegion(World world, Location center, int range) {
+        return toRegion(world, new int[]{
+            center.getBlockX() - range, world.getMinHeight(), center.getBlockZ() - range,
+            center.getBlockX() + range, world.getMaxHeight() - 1, center.getBlockZ() + range
+        });
+    }
+
+    private static CuboidRegion toRegion(World world, int[] bounds) {
+        return new CuboidRegion(BukkitAdapter.adapt(world),
+            BlockVector3.at(bounds[0], bounds[1], bounds[2]), BlockVector3.at(bounds[3], bounds[4], bounds[5]));
+    }
+
     /**
      * Internal method to perform the actual copy operation
      */
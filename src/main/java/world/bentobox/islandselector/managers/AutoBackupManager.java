@@ -5,8 +5,13 @@ import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 import world.bentobox.islandselector.IslandSelector;
 import world.bentobox.islandselector.database.SlotData;
+import world.bentobox.islandselector.managers.OperationScheduler.OperationType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manager for automatic periodic backups of online players' active islands.
@@ -63,19 +68,21 @@ public class AutoBackupManager {
     }
 
     /**
-     * Perform auto-backups for all online players
+     * Queue auto-backups for all online players.
+     * Each backup runs at the lowest priority, so player-facing operations go first.
      */
     private void performAutoBackups() {
         addon.log("Starting periodic auto-backup for online players...");
 
-        int backupCount = 0;
-        int failCount = 0;
+        OperationScheduler scheduler = addon.getOperationScheduler();
+        List<CompletableFuture<Boolean>> backups = new ArrayList<>();
 
         // Create defensive copy to prevent ConcurrentModificationException
         // if a player disconnects during backup iteration
-        java.util.List<Player> onlinePlayers = new java.util.ArrayList<>(Bukkit.getOnlinePlayers());
+        List<Player> onlinePlayers = new ArrayList<>(Bukkit.getOnlinePlayers());
         for (Player player : onlinePlayers) {
             UUID playerUUID = player.getUniqueId();
+            String playerName = player.getName();
 
             // Get player's active slot
             SlotData activeSlot = addon.getSlotManager().getActiveSlot(playerUUID);
@@ -83,21 +90,27 @@ public class AutoBackupManager {
                 continue;
             }
 
-            try {
-                // Create auto-backup (single rolling backup)
-                boolean success = createAutoBackup(playerUUID, activeSlot.getSlotNumber());
-                if (success) {
+            // Create auto-backup (single rolling backup)
+            int slotNumber = activeSlot.getSlotNumber();
+            backups.add(scheduler.submit(OperationType.AUTO_BACKUP, null, () -> createAutoBackup(playerUUID, slotNumber))
+                .exceptionally(e -> {
+                    if (!(e instanceof CancellationException) && !(e.getCause() instanceof CancellationException)) {
+                        addon.logError("Auto-backup failed for " + playerName + ": " + e.getMessage());
+                    }
+                    return false;
+                }));
+        }
+
+        CompletableFuture.allOf(backups.toArray(new CompletableFuture[0])).thenRun(() -> {
+            int backupCount = 0;
+            for (CompletableFuture<Boolean> backup : backups) {
+                if (Boolean.TRUE.equals(backup.join())) {
                     backupCount++;
-                } else {
-                    failCount++;
                 }
-            } catch (Exception e) {
-                addon.logError("Auto-backup failed for " + player.getName() + ": " + e.getMessage());
-                failCount++;
             }
-        }
-
-        addon.log("Periodic auto-backup complete: " + backupCount + " succeeded, " + failCount + " failed");
+            addon.log("Periodic auto-backup complete: " + backupCount + " succeeded, "
+                + (backups.size() - backupCount) + " failed");
+        });
     }
 
     /**
@@ -92,8 +92,8 @@ public class BackupManager {
             // Get backup file path
             File backupFile = getBackupFile(playerUUID, slotNumber);
 
-            // Use SchematicUtils for safe entity handling
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, false, backupFile);
+            // Sections already stored for the slot or earlier backups aren't written again
+            boolean success = addon.getIslandSnapshotStore().saveNow(center, range, backupFile);
 
             if (success) {
                 addon.log("Backup created for player " + playerUUID + " slot " + slotNumber + ": " + backupFile.getName());
@@ -245,8 +245,8 @@ public class BackupManager {
             // Get auto-backup file path
             File backupFile = getAutoBackupFile(playerUUID, slotNumber);
 
-            // Use SchematicUtils for safe entity handling
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, false, backupFile);
+            // Sections already stored for the slot or earlier backups aren't written again
+            boolean success = addon.getIslandSnapshotStore().saveNow(center, range, backupFile);
 
             if (success) {
                 addon.log("Auto-backup created for player " + playerUUID + " slot " + slotNumber);
@@ -311,7 +311,7 @@ public class BackupManager {
         int toDelete = backupFiles.length - maxBackups;
         for (int i = 0; i < toDelete; i++) {
             try {
-                if (backupFiles[i].delete()) {
+                if (addon.getIslandSnapshotStore().delete(backupFiles[i])) {
                     addon.log("Deleted old backup: " + backupFiles[i].getName());
                 } else {
                     addon.logError("Failed to delete old backup (file may be in use): " + backupFiles[i].getName());
@@ -612,7 +612,7 @@ public class BackupManager {
             // Get dimension-specific backup file
             File backupFile = getBackupFile(playerUUID, slotNumber, dimensionKey);
 
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, false, backupFile);
+            boolean success = addon.getIslandSnapshotStore().saveNow(center, range, backupFile);
 
             if (success) {
                 addon.log("Backup created for player " + playerUUID + " slot " + slotNumber +
@@ -698,7 +698,7 @@ public class BackupManager {
             // Get dimension-specific auto-backup file
             File backupFile = getAutoBackupFile(playerUUID, slotNumber, dimensionKey);
 
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, false, backupFile);
+            boolean success = addon.getIslandSnapshotStore().saveNow(center, range, backupFile);
 
             if (success) {
                 addon.log("Auto-backup created for player " + playerUUID + " slot " + slotNumber +
@@ -799,7 +799,7 @@ public class BackupManager {
                 return false;
             }
 
-            boolean success = addon.getSchematicUtils().loadAndPaste(backupFile, center);
+            boolean success = addon.getIslandSnapshotStore().paste(backupFile, center);
             if (success) {
                 addon.log("Restored backup " + backupFile.getName() + " to dimension " + dimensionKey);
 
@@ -906,7 +906,7 @@ public class BackupManager {
         // Delete oldest backups to maintain the limit
         int toDelete = backupFiles.length - maxBackups;
         for (int i = 0; i < toDelete; i++) {
-            if (backupFiles[i].delete()) {
+            if (addon.getIslandSnapshotStore().delete(backupFiles[i])) {
                 addon.log("Deleted old backup: " + backupFiles[i].getName());
             }
         }
@@ -1021,8 +1021,8 @@ public class BackupManager {
                 return false;
             }
 
-            // Use SchematicUtils to load and paste
-            boolean success = addon.getSchematicUtils().loadAndPaste(backupFile, center);
+            // Paste the backup snapshot, or a plain schematic from before the section store
+            boolean success = addon.getIslandSnapshotStore().paste(backupFile, center);
             if (success) {
                 addon.log("Restored backup " + backupFile.getName() + " for slot: " + slotData.getUniqueId());
 
@@ -0,0 +1,215 @@
+package world.bentobox.islandselector.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import world.bentobox.islandselector.IslandSelector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resends chunks changed by a paste to the players who can see them, since FAWE doesn't
+ * always send clients every change it makes.
+ *
+ * Pastes and clears mark the chunks they write to. Once an island is ready, {@link #resend}
+ * queues the marked chunks in its area, closest to the island center first. A main-thread
+ * timer resends each queued chunk once, sending no player more than
+ * {@code performance.chunk-resends-per-tick} chunks in a tick. Chunks nobody can see are
+ * dropped rather than loaded - a client that loads them later gets the new blocks anyway.
+ * The timer only runs while chunks are queued.
+ */
+public class ChunkResendQueue {
+
+    // Marks older than this were left by operations that never asked for a resend
+    private static final long MARK_EXPIRY_MS = 10L * 60 * 1000;
+
+    private final IslandSelector addon;
+
+    // Chunks written since they were last queued, by world; any thread
+    private final Map<UUID, Map<Long, Long>> modified = new ConcurrentHashMap<>();
+
+    // Main thread only
+    private final Map<UUID, Set<Long>> queued = new LinkedHashMap<>();
+    private BukkitTask task;
+
+    public ChunkResendQueue(IslandSelector addon) {
+        this.addon = addon;
+    }
+
+    /**
+     * Mark a rectangle of chunks as changed. Call from any thread.
+     */
+    public void markModified(World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        Map<Long, Long> chunks = modified.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        long now = System.currentTimeMillis();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunks.put(key(chunkX, chunkZ), now);
+            }
+        }
+    }
+
+    /**
+     * Queue the changed chunks in an island's area for resending. If none were marked - the
+     * paste went through something that doesn't mark - every chunk in the area is queued.
+     * Must be called from the main thread.
+     *
+     * @param center Island center
+     * @param range Range from center
+     * @return Number of chunks queued
+     */
+    public int resend(Location center, int range) {
+        World world = center.getWorld();
+        if (world == null) {
+            return 0;
+        }
+        int centerChunkX = center.getBlockX() >> 4;
+        int centerChunkZ = center.getBlockZ() >> 4;
+        int minChunkX = (center.getBlockX() - range) >> 4;
+        int maxChunkX = (center.getBlockX() + range) >> 4;
+        int minChunkZ = (center.getBlockZ() - range) >> 4;
+        int maxChunkZ = (center.getBlockZ() + range) >> 4;
+
+        List<Long> chunks = new ArrayList<>();
+        Map<Long, Long> marks = modified.get(world.getUID());
+        if (marks != null) {
+            long expired = System.currentTimeMillis() - MARK_EXPIRY_MS;
+            marks.values().removeIf(time -> time < expired);
+            for (Iterator<Long> it = marks.keySet().iterator(); it.hasNext(); ) {
+                long key = it.next();
+                int chunkX = chunkX(key);
+                int chunkZ = chunkZ(key);
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) {
+                    chunks.add(key);
+                    it.remove();
+                }
+            }
+        }
+        if (chunks.isEmpty()) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    chunks.add(key(chunkX, chunkZ));
+                }
+            }
+        }
+        chunks.sort(Comparator.comparingInt(key ->
+            Math.max(Math.abs(chunkX(key) - centerChunkX), Math.abs(chunkZ(key) - centerChunkZ))));
+
+        queued.computeIfAbsent(world.getUID(), id -> new LinkedHashSet<>()).addAll(chunks);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(addon.getPlugin(), this::tick, 0L, 1L);
+        }
+        return chunks.size();
+    }
+
+    /**
+     * Number of chunks still waiting to be resent
+     */
+    public int getPendingCount() {
+        int pending = 0;
+        for (Set<Long> chunks : queued.values()) {
+            pending += chunks.size();
+        }
+        return pending;
+    }
+
+    /**
+     * Drop everything queued. Called on disable.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queued.clear();
+        modified.clear();
+    }
+
+    private void tick() {
+        int limit = Math.max(1, addon.getSettings().getChunkResendsPerTick());
+        int viewDistance = Bukkit.getViewDistance();
+        Map<UUID, Integer> sent = new HashMap<>();
+
+        for (Iterator<Map.Entry<UUID, Set<Long>>> worlds = queued.entrySet().iterator(); worlds.hasNext(); ) {
+            Map.Entry<UUID, Set<Long>> entry = worlds.next();
+            World world = Bukkit.getWorld(entry.getKey());
+            if (world == null) {
+                worlds.remove();
+                continue;
+            }
+            List<Player> players = world.getPlayers();
+            for (Iterator<Long> chunks = entry.getValue().iterator(); chunks.hasNext(); ) {
+                long key = chunks.next();
+                int chunkX = chunkX(key);
+                int chunkZ = chunkZ(key);
+                List<Player> viewers = getViewers(players, chunkX, chunkZ, viewDistance);
+                if (viewers.isEmpty() || !world.isChunkLoaded(chunkX, chunkZ)) {
+                    chunks.remove();
+                    continue;
+                }
+                if (isAnyAtLimit(viewers, sent, limit)) {
+                    continue; // Next tick
+                }
+                // Sent once to every player tracking the chunk
+                world.refreshChunk(chunkX, chunkZ);
+                for (Player viewer : viewers) {
+                    sent.merge(viewer.getUniqueId(), 1, Integer::sum);
+                }
+                chunks.remove();
+            }
+            if (entry.getValue().isEmpty()) {
+                worlds.remove();
+            }
+        }
+
+        if (queued.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private static List<Player> getViewers(List<Player> players, int chunkX, int chunkZ, int viewDistance) {
+        List<Player> viewers = new ArrayList<>();
+        for (Player player : players) {
+            Location location = player.getLocation();
+            if (Math.abs((location.getBlockX() >> 4) - chunkX) <= viewDistance
+                    && Math.abs((location.getBlockZ() >> 4) - chunkZ) <= viewDistance) {
+                viewers.add(player);
+            }
+        }
+        return viewers;
+    }
+
+    private static boolean isAnyAtLimit(List<Player> viewers, Map<UUID, Integer> sent, int limit) {
+        for (Player viewer : viewers) {
+            if (sent.getOrDefault(viewer.getUniqueId(), 0) >= limit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static int chunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int chunkZ(long key) {
+        return (int) key;
+    }
+}
@@ -1,5 +1,9 @@
 package world.bentobox.islandselector.managers;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -8,7 +12,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
@@ -20,11 +28,13 @@ import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.addons.GameModeAddon;
 import world.bentobox.bentobox.database.Database;
 import world.bentobox.bentobox.database.objects.Island;
-import world.bentobox.bentobox.managers.IslandsManager;
 import world.bentobox.islandselector.IslandSelector;
 import world.bentobox.islandselector.database.GridLocationData;
+import world.bentobox.islandselector.database.GridSnapshot;
 import world.bentobox.islandselector.models.DimensionConfig;
 import world.bentobox.islandselector.models.GridLocation;
+import world.bentobox.islandselector.utils.FreeCellBitmap;
+import world.bentobox.islandselector.utils.GridCellMap;
 import world.bentobox.islandselector.utils.GridCoordinate;
 
 /**
@@ -33,32 +43,155 @@ import world.bentobox.islandselector.utils.GridCoordinate;
 public class GridManager {
 
     private final IslandSelector addon;
-    private final Map<String, GridLocation> gridLocations; // Key: coordinate string like "A1" - thread-safe
+    private final GridCellMap<GridLocation> gridLocations; // Key: packed (x,z) cell - lock-free reads
     private final Map<UUID, GridCoordinate> islandToCoord; // Maps island UUIDs to their coordinates - thread-safe
     private final Map<UUID, GridCoordinate> playerToCoord; // Maps player UUIDs to their coordinates - thread-safe
 
     // Multi-dimension support: Maps dimension key -> (island UUID -> grid coordinate) - thread-safe
     private final Map<String, Map<UUID, GridCoordinate>> dimensionIslandToCoord;
 
+    // Maintained occupancy counters - updated by every status-changing method below
+    private final AtomicInteger occupiedCount = new AtomicInteger();
+    private final AtomicInteger reservedCount = new AtomicInteger();
+
+    // Free cells within the configured grid bounds - rebuilt lazily when the bounds change
+    private volatile FreeCellBitmap freeCells;
+
     // Database handler for persistence
     private final Database<GridLocationData> database;
 
+    // Write-behind queue - mutations mark cells dirty, the queue writes them in batches
+    private final GridSaveQueue saveQueue;
+
+    // Generation of the binary grid snapshot last loaded or written
+    private long snapshotGeneration;
+
     // BSkyBlock world reference (primary/overworld dimension)
     private World bskyblockWorld;
 
+    // Background reconcile jobs with BentoBox's island list
+    private volatile GridSyncJob syncJob;
+    private final List<GridSyncJob> dimensionSyncJobs = new CopyOnWriteArrayList<>();
+
     public GridManager(IslandSelector addon) {
         this.addon = addon;
-        this.gridLocations = new ConcurrentHashMap<>();
+        this.gridLocations = new GridCellMap<>();
         this.islandToCoord = new ConcurrentHashMap<>();
         this.playerToCoord = new ConcurrentHashMap<>();
         this.dimensionIslandToCoord = new ConcurrentHashMap<>();
 
         // Initialize database
         this.database = new Database<>(addon, GridLocationData.class);
+        this.saveQueue = new GridSaveQueue(addon, database, this::createGridLocationData);
 
-        // Load from database and sync with BSkyBlock
-        loadFromDatabase();
+        // Load from snapshot or database, then sync with BSkyBlock
+        loadGrid();
         syncWithBSkyBlock();
+        saveQueue.start();
+    }
+
+    /**
+     * Load the grid, from the binary snapshot when it is current, otherwise from the database
+     */
+    private void loadGrid() {
+        boolean loaded = addon.getSettings().isGridSnapshotEnabled() && loadFromSnapshot();
+        if (!loaded) {
+            loadFromDatabase();
+        }
+        recountLocations();
+
+        // This session will write to the database from here on, so the snapshot stops being
+        // trustworthy until the next clean shutdown writes a fresh one
+        File marker = getSnapshotMarkerFile();
+        if (marker.exists() && !marker.delete()) {
+            addon.logWarning("Could not delete " + marker.getName() + " - grid snapshot will be ignored on next start");
+            getSnapshotFile().delete();
+        }
+    }
+
+    /**
+     * Load the grid from the snapshot written on the last clean shutdown
+     * @return true if the snapshot was current and loaded
+     */
+    private boolean loadFromSnapshot() {
+        File marker = getSnapshotMarkerFile();
+        if (!marker.isFile()) {
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            snapshotGeneration = Long.parseLong(Files.readString(marker.toPath()).trim());
+            List<GridLocation> locations = GridSnapshot.read(getSnapshotFile(), snapshotGeneration);
+            if (locations == null) {
+                addon.log("Grid snapshot is stale or corrupt - loading from database");
+                return false;
+            }
+            for (GridLocation location : locations) {
+                registerLocation(location);
+            }
+            addon.log("Loaded " + gridLocations.size() + " grid locations from snapshot (generation "
+                    + snapshotGeneration + ") in " + (System.currentTimeMillis() - start) + "ms.");
+            return true;
+        } catch (IOException | NumberFormatException e) {
+            addon.logWarning("Failed to read grid snapshot - loading from database: " + e.getMessage());
+            gridLocations.clear();
+            islandToCoord.clear();
+            playerToCoord.clear();
+            dimensionIslandToCoord.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Write the grid snapshot and its generation marker. Only valid once every change has been
+     * flushed to the database, so it is called at the end of {@link #saveAll()}.
+     */
+    private void writeSnapshot() {
+        long start = System.currentTimeMillis();
+        long generation = snapshotGeneration + 1;
+        try {
+            int written = GridSnapshot.write(getSnapshotFile(), generation, gridLocations.values());
+            Files.writeString(getSnapshotMarkerFile().toPath(), Long.toString(generation));
+            snapshotGeneration = generation;
+            addon.log("Wrote grid snapshot of " + written + " locations (generation " + generation + ") in "
+                    + (System.currentTimeMillis() - start) + "ms.");
+        } catch (IOException e) {
+            addon.logError("Failed to write grid snapshot: " + e.getMessage());
+            getSnapshotMarkerFile().delete();
+        }
+    }
+
+    private File getSnapshotFile() {
+        return new File(addon.getDataFolder(), "grid.snapshot");
+    }
+
+    private File getSnapshotMarkerFile() {
+        return new File(addon.getDataFolder(), "grid.snapshot.gen");
+    }
+
+    /**
+     * Add a loaded location to the grid and the lookup maps
+     */
+    private void registerLocation(GridLocation location) {
+        GridCoordinate coord = location.getCoordinate();
+        if (location.getOwnerUUID() != null) {
+            // Update legacy lookup maps
+            if (location.getIslandUUID() != null) {
+                islandToCoord.put(location.getIslandUUID(), coord);
+            }
+            playerToCoord.put(location.getOwnerUUID(), coord);
+
+            // Update dimension lookup maps
+            for (Map.Entry<String, UUID> entry : location.getDimensionIslandUUIDs().entrySet()) {
+                if (entry.getValue() != null) {
+                    dimensionIslandToCoord
+                            .computeIfAbsent(entry.getKey(), k -> new HashMap<>())
+                            .put(entry.getValue(), coord);
+                }
+            }
+        }
+        gridLocations.put(coord, location);
     }
 
     /**
@@ -85,12 +218,6 @@ public class GridManager {
                     location.setOwnerName(data.getOwnerName());
                     location.setIslandUUID(data.getIslandUUIDAsUUID());
 
-                    // Update legacy lookup maps
-                    if (data.getIslandUUIDAsUUID() != null) {
-                        islandToCoord.put(data.getIslandUUIDAsUUID(), coord);
-                    }
-                    playerToCoord.put(data.getOwnerUUIDAsUUID(), coord);
-
                     // Load dimension island UUIDs
                     Map<String, String> dimIslands = data.getDimensionIslandUUIDs();
                     if (dimIslands != null && !dimIslands.isEmpty()) {
@@ -100,13 +227,7 @@ public class GridManager {
                             String uuidStr = entry.getValue();
                             if (uuidStr != null && !uuidStr.isEmpty()) {
                                 try {
-                                    UUID islandUUID = UUID.fromString(uuidStr);
-                                    dimensionUUIDs.put(dimensionKey, islandUUID);
-
-                                    // Update dimension lookup map
-                                    dimensionIslandToCoord
-                                            .computeIfAbsent(dimensionKey, k -> new HashMap<>())
-                                            .put(islandUUID, coord);
+                                    dimensionUUIDs.put(dimensionKey, UUID.fromString(uuidStr));
                                 } catch (IllegalArgumentException e) {
                                     // Log skipped records for debugging
                                     addon.logWarning("Skipped invalid UUID '" + uuidStr +
@@ -123,7 +244,7 @@ public class GridManager {
                 location.setBlocked(data.isBlocked());
                 location.setPurchasePrice(data.getPurchasePrice());
 
-                gridLocations.put(coord.toString(), location);
+                registerLocation(location);
             });
 
             addon.log("Loaded " + gridLocations.size() + " grid locations from database.");
@@ -133,12 +254,23 @@ public class GridManager {
     }
 
     /**
-     * Save a grid location to database
+     * Queue a grid location to be saved to the database.
+     * Repeated saves of the same cell before the next flush are written once.
      */
     public void saveGridLocation(GridCoordinate coord) {
-        GridLocation location = gridLocations.get(coord.toString());
+        if (gridLocations.get(coord) != null) {
+            saveQueue.markDirty(coord);
+        }
+    }
+
+    /**
+     * Build the database row for a grid location from its current state
+     * @return The row, or null if the location is not tracked
+     */
+    private GridLocationData createGridLocationData(GridCoordinate coord) {
+        GridLocation location = gridLocations.get(coord);
         if (location == null) {
-            return;
+            return null;
         }
 
         GridLocationData data = new GridLocationData(coord.toString(), coord.getColumn(), coord.getRow());
@@ -167,39 +299,44 @@ public class GridManager {
         data.setReserved(location.isReserved());
         data.setBlocked(location.isBlocked());
         data.setPurchasePrice(location.getPurchasePrice());
-
-        database.saveObjectAsync(data);
+        return data;
     }
 
     /**
      * Delete a grid location from database
      */
     public void deleteGridLocation(GridCoordinate coord) {
+        saveQueue.discard(coord);
         database.deleteID(coord.toString());
     }
 
     /**
-     * Save all grid locations to database
+     * Flush every pending grid location change to the database and stop the flush timer.
+     * Every mutation goes through {@link #saveGridLocation}, so only dirty cells need writing.
+     * Blocks until the writes finish - called on shutdown.
+     * @return Number of rows written
      */
-    public void saveAll() {
-        addon.log("Saving all grid locations to database...");
-        for (Map.Entry<String, GridLocation> entry : gridLocations.entrySet()) {
-            GridCoordinate coord = GridCoordinate.parse(entry.getKey());
-            if (coord != null) {
-                saveGridLocation(coord);
-            }
+    public int saveAll() {
+        addon.log("Flushing " + saveQueue.getPendingCount() + " pending grid location change(s) to database...");
+        int written = saveQueue.drain();
+        // Only snapshot a grid the database fully agrees with
+        if (addon.getSettings().isGridSnapshotEnabled() && saveQueue.getLastDrainFailures() == 0) {
+            writeSnapshot();
         }
-        addon.log("Saved " + gridLocations.size() + " grid locations.");
+        return written;
     }
 
     /**
-     * Sync grid locations with existing BSkyBlock islands
+     * Sync grid locations with existing BSkyBlock islands.
+     * The reconcile runs as a background job (see {@link GridSyncJob}); the grid keeps serving
+     * its current state until the job writes the cells that changed.
+     * @return Future completed on the main thread when the sync finishes
      */
-    public void syncWithBSkyBlock() {
+    public CompletableFuture<GridSyncJob.Result> syncWithBSkyBlock() {
         BentoBox bentoBox = BentoBox.getInstance();
         if (bentoBox == null) {
             addon.logWarning("BentoBox not found - cannot sync islands");
-            return;
+            return CompletableFuture.completedFuture(new GridSyncJob.Result(0, 0, 0, 0));
         }
 
         // Get the BSkyBlock addon
@@ -210,7 +347,7 @@ public class GridManager {
 
         if (bSkyBlockOpt.isEmpty()) {
             addon.logWarning("BSkyBlock not found - cannot sync islands");
-            return;
+            return CompletableFuture.completedFuture(new GridSyncJob.Result(0, 0, 0, 0));
         }
 
         GameModeAddon bSkyBlock = bSkyBlockOpt.get();
@@ -218,95 +355,88 @@ public class GridManager {
 
         if (bskyblockWorld == null) {
             addon.logWarning("BSkyBlock world not found - cannot sync islands");
-            return;
+            return CompletableFuture.completedFuture(new GridSyncJob.Result(0, 0, 0, 0));
         }
 
-        IslandsManager islandsManager = bentoBox.getIslandsManager();
-
-        // Get all islands in the BSkyBlock world
-        addon.log("Syncing grid with BSkyBlock islands...");
-        int synced = 0;
-        int skipped = 0;
-
-        // Iterate through all islands
-        for (Island island : islandsManager.getIslands(bskyblockWorld)) {
-            if (island == null || island.getCenter() == null) {
-                continue;
-            }
-
-            // Calculate grid coordinate from island center
-            Location center = island.getCenter();
-            GridCoordinate coord = worldToGrid(center.getBlockX(), center.getBlockZ());
-
-            if (coord == null || !isWithinBounds(coord)) {
-                skipped++;
-                continue;
-            }
-
-            // Check if this location already exists in our grid
-            GridLocation existing = gridLocations.get(coord.toString());
-
-            if (existing != null && existing.getStatus() == GridLocation.Status.OCCUPIED) {
-                // Already tracked
-                continue;
-            }
-
-            // Get island owner
-            UUID ownerUUID = island.getOwner();
-            if (ownerUUID == null) {
-                skipped++;
-                continue;
-            }
+        // A sync already in flight covers this request
+        GridSyncJob running = syncJob;
+        if (running != null && !running.isDone()) {
+            return running.getFuture();
+        }
 
-            String ownerName = Bukkit.getOfflinePlayer(ownerUUID).getName();
-            if (ownerName == null) {
-                ownerName = "Unknown";
+        addon.log("Syncing grid with BSkyBlock islands in the background...");
+        GridSyncJob job = new GridSyncJob(addon, this, bskyblockWorld, null);
+        syncJob = job;
+        return job.start().whenComplete((result, error) -> {
+            if (result != null) {
+                addon.log("Sync complete: " + result.getSynced() + " islands synced, " + result.getSkipped()
+                        + " skipped (" + result.getScanned() + " scanned in " + result.getElapsedMillis() + "ms).");
+                addon.log("Grid size: " + addon.getSettings().getGridWidth() + "x" + addon.getSettings().getGridHeight());
+            } else if (!(error instanceof CancellationException)) {
+                addon.logError("Grid sync failed: " + (error != null ? error.getMessage() : "unknown error"));
             }
+        });
+    }
 
-            // Create or update grid location
-            GridLocation location = getOrCreateGridLocation(coord);
+    /**
+     * Get the future of the most recent BSkyBlock sync
+     * @return Future completed when the sync finishes, already complete if no sync was started
+     */
+    public CompletableFuture<GridSyncJob.Result> getSyncFuture() {
+        GridSyncJob job = syncJob;
+        return job != null ? job.getFuture() : CompletableFuture.completedFuture(new GridSyncJob.Result(0, 0, 0, 0));
+    }
 
-            // Try to parse island unique ID as UUID (may not always be valid UUID format)
-            UUID islandUUID = null;
-            String islandIdStr = island.getUniqueId();
-            if (islandIdStr != null && !islandIdStr.isEmpty()) {
-                try {
-                    islandUUID = UUID.fromString(islandIdStr);
-                } catch (IllegalArgumentException e) {
-                    // Island ID is not a valid UUID format - this is OK
-                }
+    /**
+     * Cancel any background sync still running (called on shutdown)
+     */
+    public void cancelSync() {
+        GridSyncJob job = syncJob;
+        if (job != null && !job.isDone()) {
+            job.cancel();
+            addon.log("Cancelled in-progress grid sync");
+        }
+        for (GridSyncJob dimensionJob : dimensionSyncJobs) {
+            if (!dimensionJob.isDone()) {
+                dimensionJob.cancel();
             }
+        }
+    }
 
-            location.occupy(ownerUUID, ownerName, islandUUID);
-            location.setIslandId(islandIdStr); // Store original ID string
+    /**
+     * Occupy a cell found by the BSkyBlock sync. Called on the main thread by {@link GridSyncJob}.
+     */
+    void applySyncedIsland(GridCoordinate coord, UUID ownerUUID, String ownerName, UUID islandUUID, String islandId) {
+        GridLocation location = getOrCreateGridLocation(coord);
+        boolean wasOccupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+        boolean wasReserved = location.isReserved();
 
-            // Update lookup maps
-            if (islandUUID != null) {
-                islandToCoord.put(islandUUID, coord);
-            }
-            playerToCoord.put(ownerUUID, coord);
+        location.occupy(ownerUUID, ownerName, islandUUID);
+        location.setIslandId(islandId); // Store original ID string
+        onStatusChanged(location, wasOccupied, wasReserved);
 
-            // Save to database
-            saveGridLocation(coord);
-            synced++;
+        // Update lookup maps
+        if (islandUUID != null) {
+            islandToCoord.put(islandUUID, coord);
         }
+        playerToCoord.put(ownerUUID, coord);
 
-        addon.log("Sync complete: " + synced + " islands synced, " + skipped + " skipped.");
-        addon.log("Grid size: " + addon.getSettings().getGridWidth() + "x" + addon.getSettings().getGridHeight());
+        // Save to database
+        saveGridLocation(coord);
     }
 
     /**
      * Get grid location data for a coordinate
      */
     public GridLocation getGridLocation(GridCoordinate coord) {
-        return gridLocations.get(coord.toString());
+        return gridLocations.get(coord);
     }
 
     /**
      * Get or create grid location for a coordinate
      */
     public GridLocation getOrCreateGridLocation(GridCoordinate coord) {
-        return gridLocations.computeIfAbsent(coord.toString(), k -> new GridLocation(coord));
+        return gridLocations.computeIfAbsent(coord, GridLocation::new);
     }
 
     /**
@@ -335,9 +465,12 @@ public class GridManager {
      */
     public void reserveLocation(GridCoordinate coord, boolean blocked) {
         GridLocation location = getOrCreateGridLocation(coord);
+        boolean wasOccupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+        boolean wasReserved = location.isReserved();
         location.setReserved(true);
         location.setBlocked(blocked);
         location.setStatus(GridLocation.Status.RESERVED);
+        onStatusChanged(location, wasOccupied, wasReserved);
         saveGridLocation(coord);
     }
 
@@ -347,12 +480,15 @@ public class GridManager {
     public void unreserveLocation(GridCoordinate coord) {
         GridLocation location = getGridLocation(coord);
         if (location != null) {
+            boolean wasOccupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+            boolean wasReserved = location.isReserved();
             location.setReserved(false);
             location.setBlocked(false);
             location.setPurchasePrice(0);
             if (location.getOwnerUUID() == null) {
                 location.setStatus(GridLocation.Status.AVAILABLE);
             }
+            onStatusChanged(location, wasOccupied, wasReserved);
             saveGridLocation(coord);
         }
     }
@@ -362,12 +498,15 @@ public class GridManager {
      */
     public void setPurchasePrice(GridCoordinate coord, double price) {
         GridLocation location = getOrCreateGridLocation(coord);
+        boolean wasOccupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+        boolean wasReserved = location.isReserved();
         location.setPurchasePrice(price);
         if (price > 0) {
             location.setBlocked(false);
             location.setReserved(true);
             location.setStatus(GridLocation.Status.RESERVED);
         }
+        onStatusChanged(location, wasOccupied, wasReserved);
         saveGridLocation(coord);
     }
 
@@ -431,7 +570,10 @@ public class GridManager {
      */
     public void occupyLocation(GridCoordinate coord, UUID ownerUUID, String ownerName, UUID islandUUID) {
         GridLocation location = getOrCreateGridLocation(coord);
+        boolean wasOccupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+        boolean wasReserved = location.isReserved();
         location.occupy(ownerUUID, ownerName, islandUUID);
+        onStatusChanged(location, wasOccupied, wasReserved);
 
         // Update lookup maps
         if (islandUUID != null) {
@@ -459,7 +601,10 @@ public class GridManager {
     public void occupyLocation(GridCoordinate coord, UUID ownerUUID, String ownerName,
                                Map<String, UUID> dimensionIslands) {
         GridLocation location = getOrCreateGridLocation(coord);
+        boolean wasOccupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+        boolean wasReserved = location.isReserved();
         location.occupy(ownerUUID, ownerName, dimensionIslands);
+        onStatusChanged(location, wasOccupied, wasReserved);
 
         // Update dimension lookup maps
         if (dimensionIslands != null) {
@@ -492,6 +637,9 @@ public class GridManager {
     public void clearLocation(GridCoordinate coord) {
         GridLocation location = getGridLocation(coord);
         if (location != null) {
+            boolean wasOccupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+            boolean wasReserved = location.isReserved();
+
             // Remove from legacy lookup maps
             if (location.getIslandUUID() != null) {
                 islandToCoord.remove(location.getIslandUUID());
@@ -516,6 +664,7 @@ public class GridManager {
             }
 
             location.clear();
+            onStatusChanged(location, wasOccupied, wasReserved);
             saveGridLocation(coord);
         }
     }
@@ -531,8 +680,7 @@ public class GridManager {
         }
 
         // Search through grid locations
-        for (Map.Entry<String, GridLocation> entry : gridLocations.entrySet()) {
-            GridLocation location = entry.getValue();
+        for (GridLocation location : gridLocations.values()) {
             if (playerUUID.equals(location.getOwnerUUID())) {
                 GridCoordinate coord = location.getCoordinate();
                 playerToCoord.put(playerUUID, coord); // Cache it
@@ -624,18 +772,105 @@ public class GridManager {
      * Get number of occupied locations
      */
     public int getOccupiedLocationCount() {
-        return (int) gridLocations.values().stream()
-            .filter(loc -> loc.getStatus() == GridLocation.Status.OCCUPIED)
-            .count();
+        return occupiedCount.get();
     }
 
     /**
      * Get number of reserved locations
      */
     public int getReservedLocationCount() {
-        return (int) gridLocations.values().stream()
-            .filter(GridLocation::isReserved)
-            .count();
+        return reservedCount.get();
+    }
+
+    /**
+     * Get number of locations within the grid bounds that can currently be claimed
+     */
+    public int getAvailableLocationCount() {
+        return getFreeCells().getFreeCount();
+    }
+
+    /**
+     * Find the claimable location closest to a coordinate, for auto-assignment.
+     * The coordinate itself is returned if it is available.
+     * @param near The coordinate to search around (may be outside the grid bounds)
+     * @return The nearest available coordinate, or null if the grid is full
+     */
+    public GridCoordinate findNearestAvailableLocation(GridCoordinate near) {
+        return getFreeCells().findNearestFree(near.getX(), near.getZ());
+    }
+
+    /**
+     * Recompute the occupancy counters and free-cell bitmap from scratch.
+     * Called after bulk loads; normal mutations keep them up to date incrementally.
+     */
+    public void recountLocations() {
+        int occupied = 0;
+        int reserved = 0;
+        for (GridLocation location : gridLocations.values()) {
+            if (location.getStatus() == GridLocation.Status.OCCUPIED) {
+                occupied++;
+            }
+            if (location.isReserved()) {
+                reserved++;
+            }
+        }
+        occupiedCount.set(occupied);
+        reservedCount.set(reserved);
+        freeCells = null;
+    }
+
+    /**
+     * Update counters and the free-cell bitmap after a location's status changed
+     */
+    private void onStatusChanged(GridLocation location, boolean wasOccupied, boolean wasReserved) {
+        boolean occupied = location.getStatus() == GridLocation.Status.OCCUPIED;
+        boolean reserved = location.isReserved();
+        if (occupied != wasOccupied) {
+            occupiedCount.addAndGet(occupied ? 1 : -1);
+        }
+        if (reserved != wasReserved) {
+            reservedCount.addAndGet(reserved ? 1 : -1);
+        }
+
+        // Locked against getFreeCells() so a concurrent rebuild can't miss this change
+        synchronized (this) {
+            FreeCellBitmap bitmap = freeCells;
+            if (bitmap != null) {
+                GridCoordinate coord = location.getCoordinate();
+                bitmap.setFree(coord.getX(), coord.getZ(), location.isAvailable());
+            }
+        }
+    }
+
+    /**
+     * Get the free-cell bitmap, rebuilding it if the grid bounds changed
+     * (admin expand/shrink or a config reload) since it was last built
+     */
+    private FreeCellBitmap getFreeCells() {
+        int minX = addon.getSettings().getGridMinX();
+        int minZ = addon.getSettings().getGridMinZ();
+        int maxX = addon.getSettings().getGridMaxX();
+        int maxZ = addon.getSettings().getGridMaxZ();
+
+        FreeCellBitmap bitmap = freeCells;
+        if (bitmap != null && bitmap.hasBounds(minX, minZ, maxX, maxZ)) {
+            return bitmap;
+        }
+
+        synchronized (this) {
+            bitmap = freeCells;
+            if (bitmap == null || !bitmap.hasBounds(minX, minZ, maxX, maxZ)) {
+                bitmap = new FreeCellBitmap(minX, minZ, maxX, maxZ);
+                for (GridLocation location : gridLocations.values()) {
+                    if (!location.isAvailable()) {
+                        GridCoordinate coord = location.getCoordinate();
+                        bitmap.setFree(coord.getX(), coord.getZ(), false);
+                    }
+                }
+                freeCells = bitmap;
+            }
+            return bitmap;
+        }
     }
 
     /**
@@ -753,69 +988,37 @@ public class GridManager {
     }
 
     /**
-     * Sync islands from all dimension worlds (if multi-dimension is enabled)
+     * Sync islands from all dimension worlds (if multi-dimension is enabled).
+     * Each dimension is reconciled by its own background {@link GridSyncJob}.
+     * @return Future completed on the main thread when every dimension has finished
      */
-    public void syncAllDimensionWorlds() {
+    public CompletableFuture<Void> syncAllDimensionWorlds() {
         if (!isMultiDimensionEnabled()) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         DimensionManager dimManager = addon.getDimensionManager();
         List<DimensionConfig> dimensions = dimManager.getEnabledDimensions();
 
-        BentoBox bentoBox = BentoBox.getInstance();
-        if (bentoBox == null) {
-            return;
-        }
-
-        IslandsManager islandsManager = bentoBox.getIslandsManager();
-
         addon.log("Syncing grid with all dimension worlds...");
 
+        List<CompletableFuture<GridSyncJob.Result>> futures = new ArrayList<>();
         for (DimensionConfig config : dimensions) {
             World world = dimManager.getWorld(config.getDimensionKey());
             if (world == null) {
                 continue;
             }
 
-            int synced = 0;
-            for (Island island : islandsManager.getIslands(world)) {
-                if (island == null || island.getCenter() == null || island.getOwner() == null) {
-                    continue;
-                }
-
-                Location center = island.getCenter();
-                GridCoordinate coord = worldToGrid(center.getBlockX(), center.getBlockZ());
-
-                if (coord == null || !isWithinBounds(coord)) {
-                    continue;
+            GridSyncJob job = new GridSyncJob(addon, this, world, config.getDimensionKey());
+            dimensionSyncJobs.add(job);
+            futures.add(job.start().whenComplete((result, error) -> {
+                dimensionSyncJobs.remove(job);
+                if (result != null && result.getSynced() > 0) {
+                    addon.log("  - " + config.getDimensionKey() + ": " + result.getSynced() + " islands synced");
                 }
-
-                // Get existing location or check if we need to track this island
-                GridLocation location = getGridLocation(coord);
-                if (location != null && location.getIslandUUID(config.getDimensionKey()) != null) {
-                    continue; // Already tracked
-                }
-
-                // Parse island UUID
-                UUID islandUUID = null;
-                String islandIdStr = island.getUniqueId();
-                if (islandIdStr != null && !islandIdStr.isEmpty()) {
-                    try {
-                        islandUUID = UUID.fromString(islandIdStr);
-                    } catch (IllegalArgumentException ignored) {
-                    }
-                }
-
-                if (islandUUID != null) {
-                    setDimensionIsland(coord, config.getDimensionKey(), islandUUID);
-                    synced++;
-                }
-            }
-
-            if (synced > 0) {
-                addon.log("  - " + config.getDimensionKey() + ": " + synced + " islands synced");
-            }
+            }));
         }
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 }
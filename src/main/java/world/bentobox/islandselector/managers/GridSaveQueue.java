@@ -0,0 +1,174 @@
+package world.bentobox.islandselector.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import world.bentobox.bentobox.database.Database;
+import world.bentobox.islandselector.IslandSelector;
+import world.bentobox.islandselector.database.GridLocationData;
+import world.bentobox.islandselector.utils.GridCoordinate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Write-behind queue for grid location persistence.
+ *
+ * GridManager marks cells dirty instead of writing on every mutation. Repeated changes
+ * to the same cell coalesce into one pending entry, and a main-thread timer snapshots
+ * and writes at most {@code performance.grid-save-batch-size} cells per run.
+ * Snapshots are taken on the main thread, where grid mutations happen, so each written
+ * row is a consistent view of its cell.
+ */
+public class GridSaveQueue {
+
+    // Upper bound on how long shutdown waits for BentoBox to finish the final writes
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+    private final IslandSelector addon;
+    private final Database<GridLocationData> database;
+    private final Function<GridCoordinate, GridLocationData> snapshotter;
+
+    // Insertion-ordered so the oldest change is written first; guarded by "this"
+    private final Set<GridCoordinate> dirty = new LinkedHashSet<>();
+    private BukkitTask flushTask;
+    private volatile int lastDrainFailures;
+
+    /**
+     * @param addon The addon instance
+     * @param database The grid location database
+     * @param snapshotter Builds the row to persist for a cell, or null if the cell is no longer tracked
+     */
+    public GridSaveQueue(IslandSelector addon, Database<GridLocationData> database,
+                         Function<GridCoordinate, GridLocationData> snapshotter) {
+        this.addon = addon;
+        this.database = database;
+        this.snapshotter = snapshotter;
+    }
+
+    /**
+     * Start the periodic flush timer
+     */
+    public void start() {
+        if (flushTask != null && !flushTask.isCancelled()) {
+            flushTask.cancel();
+        }
+        long interval = Math.max(1, addon.getSettings().getGridSaveInterval());
+        flushTask = Bukkit.getScheduler().runTaskTimer(addon.getPlugin(), this::flushBatch, interval, interval);
+    }
+
+    /**
+     * Stop the periodic flush timer. Pending changes stay queued until {@link #drain()}.
+     */
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+    }
+
+    /**
+     * Queue a cell to be written. Marking an already-pending cell is a no-op.
+     */
+    public synchronized void markDirty(GridCoordinate coord) {
+        dirty.add(coord);
+    }
+
+    /**
+     * Drop a pending write, e.g. because the row is being deleted
+     */
+    public synchronized void discard(GridCoordinate coord) {
+        dirty.remove(coord);
+    }
+
+    /**
+     * Number of cells waiting to be written
+     */
+    public synchronized int getPendingCount() {
+        return dirty.size();
+    }
+
+    /**
+     * Write the next batch of dirty cells. Runs on the main thread from the flush timer.
+     */
+    private void flushBatch() {
+        List<GridCoordinate> batch = takeBatch(Math.max(1, addon.getSettings().getGridSaveBatchSize()));
+        for (GridCoordinate coord : batch) {
+            write(coord);
+        }
+    }
+
+    /**
+     * Stop the timer and synchronously write every pending cell.
+     * Called on shutdown so no change is lost when the addon unloads.
+     *
+     * @return Number of rows written
+     */
+    public int drain() {
+        stop();
+        long start = System.currentTimeMillis();
+
+        List<GridCoordinate> pending = takeBatch(Integer.MAX_VALUE);
+        List<CompletableFuture<Boolean>> writes = new ArrayList<>(pending.size());
+        for (GridCoordinate coord : pending) {
+            CompletableFuture<Boolean> future = write(coord);
+            if (future != null) {
+                writes.add(future);
+            }
+        }
+
+        int failed = 0;
+        try {
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture[0]))
+                    .get(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            addon.logWarning("Timed out after " + DRAIN_TIMEOUT_SECONDS + "s waiting for grid location writes to finish");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            addon.logError("Error while flushing grid locations: " + e.getMessage());
+        }
+        for (CompletableFuture<Boolean> future : writes) {
+            if (!future.isDone() || future.isCompletedExceptionally() || Boolean.FALSE.equals(future.getNow(false))) {
+                failed++;
+            }
+        }
+
+        lastDrainFailures = failed;
+        long elapsed = System.currentTimeMillis() - start;
+        addon.log("Flushed " + (writes.size() - failed) + " grid location(s) in " + elapsed + "ms"
+                + (failed > 0 ? " (" + failed + " failed)" : ""));
+        return writes.size() - failed;
+    }
+
+    /**
+     * Number of writes that failed or timed out during the last {@link #drain()}
+     */
+    public int getLastDrainFailures() {
+        return lastDrainFailures;
+    }
+
+    private synchronized List<GridCoordinate> takeBatch(int limit) {
+        List<GridCoordinate> batch = new ArrayList<>(Math.min(limit, dirty.size()));
+        Iterator<GridCoordinate> it = dirty.iterator();
+        while (it.hasNext() && batch.size() < limit) {
+            batch.add(it.next());
+            it.remove();
+        }
+        return batch;
+    }
+
+    private CompletableFuture<Boolean> write(GridCoordinate coord) {
+        GridLocationData data = snapshotter.apply(coord);
+        if (data == null) {
+            return null;
+        }
+        return database.saveObjectAsync(data);
+    }
+}
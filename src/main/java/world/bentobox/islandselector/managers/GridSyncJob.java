@@ -0,0 +1,317 @@
+package world.bentobox.islandselector.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+import world.bentobox.bentobox.database.objects.Island;
+import world.bentobox.bentobox.managers.IslandsManager;
+import world.bentobox.islandselector.IslandSelector;
+import world.bentobox.islandselector.models.GridLocation;
+import world.bentobox.islandselector.utils.GridCoordinate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Background reconcile of the grid against the islands BentoBox knows about in one world.
+ *
+ * Runs in three phases so the main thread never walks every island in one go:
+ * <ol>
+ *   <li>Snapshot - main thread, a slice of islands per tick, copies out the few fields we need</li>
+ *   <li>Diff - async, fork-join parallel, works out which cells actually changed and resolves
+ *       owner names (which may hit disk) for those cells only</li>
+ *   <li>Apply - main thread, a slice of changes per tick, re-checks each cell and writes it</li>
+ * </ol>
+ * The grid keeps serving reads from its loaded database state throughout, and the job can be
+ * cancelled between any two slices.
+ */
+public class GridSyncJob {
+
+    // Islands copied out per tick during the snapshot phase
+    private static final int SNAPSHOT_BATCH_SIZE = 2000;
+    // Changed cells written per tick during the apply phase
+    private static final int APPLY_BATCH_SIZE = 500;
+
+    private final IslandSelector addon;
+    private final GridManager gridManager;
+    private final World world;
+    private final String dimensionKey; // null for the primary BSkyBlock sync
+    private final CompletableFuture<Result> future = new CompletableFuture<>();
+
+    private volatile boolean cancelled;
+    private BukkitTask task;
+    private long startTime;
+
+    /**
+     * @param dimensionKey Dimension to record island UUIDs for, or null to occupy cells
+     *                     from the primary BSkyBlock world
+     */
+    public GridSyncJob(IslandSelector addon, GridManager gridManager, World world, String dimensionKey) {
+        this.addon = addon;
+        this.gridManager = gridManager;
+        this.world = world;
+        this.dimensionKey = dimensionKey;
+    }
+
+    /**
+     * Start the job. Must be called on the main thread.
+     * @return Future completed on the main thread when the job finishes, or cancelled
+     */
+    public CompletableFuture<Result> start() {
+        startTime = System.currentTimeMillis();
+        IslandsManager islandsManager = addon.getIslands();
+        if (islandsManager == null) {
+            future.complete(new Result(0, 0, 0, 0));
+            return future;
+        }
+
+        List<Island> islands = new ArrayList<>(islandsManager.getIslands(world));
+        List<IslandRecord> records = new ArrayList<>(islands.size());
+        Iterator<Island> it = islands.iterator();
+
+        task = Bukkit.getScheduler().runTaskTimer(addon.getPlugin(), () -> {
+            if (cancelled) {
+                finishCancelled();
+                return;
+            }
+            for (int i = 0; i < SNAPSHOT_BATCH_SIZE && it.hasNext(); i++) {
+                IslandRecord record = IslandRecord.of(it.next());
+                if (record != null) {
+                    records.add(record);
+                }
+            }
+            if (!it.hasNext()) {
+                task.cancel();
+                Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> diff(records));
+            }
+        }, 0L, 1L);
+
+        return future;
+    }
+
+    /**
+     * Request cancellation. The job stops at the next slice boundary and its future is cancelled.
+     */
+    public void cancel() {
+        cancelled = true;
+        if (task != null) {
+            task.cancel();
+        }
+        future.cancel(false);
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    public CompletableFuture<Result> getFuture() {
+        return future;
+    }
+
+    /**
+     * Diff phase - async. Reads the grid lock-free and keeps only the cells that need writing.
+     */
+    private void diff(List<IslandRecord> records) {
+        if (cancelled) {
+            finishCancelled();
+            return;
+        }
+        AtomicInteger skipped = new AtomicInteger();
+        List<Change> changes;
+        try {
+            changes = records.parallelStream()
+                    .filter(record -> !cancelled)
+                    .map(record -> toChange(record, skipped))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            return;
+        }
+
+        Iterator<Change> it = changes.iterator();
+        int[] applied = {0};
+        Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
+            task = Bukkit.getScheduler().runTaskTimer(addon.getPlugin(), () -> {
+                if (cancelled) {
+                    finishCancelled();
+                    return;
+                }
+                for (int i = 0; i < APPLY_BATCH_SIZE && it.hasNext(); i++) {
+                    if (apply(it.next())) {
+                        applied[0]++;
+                    }
+                }
+                if (!it.hasNext()) {
+                    task.cancel();
+                    future.complete(new Result(applied[0], skipped.get(), records.size(),
+                            System.currentTimeMillis() - startTime));
+                }
+            }, 0L, 1L);
+        });
+    }
+
+    /**
+     * Work out whether an island's cell needs writing. Runs on fork-join worker threads.
+     * @return The change to apply, or null if the cell is already up to date or out of bounds
+     */
+    private Change toChange(IslandRecord record, AtomicInteger skipped) {
+        GridCoordinate coord = gridManager.worldToGrid(record.centerX, record.centerZ);
+        if (coord == null || !gridManager.isWithinBounds(coord)) {
+            skipped.incrementAndGet();
+            return null;
+        }
+
+        UUID islandUUID = parseUUID(record.islandId);
+
+        if (dimensionKey != null) {
+            // GridLocation.getIslandUUID(dimension) migrates legacy fields as it reads, so the
+            // "already tracked" check is left to the main-thread apply phase
+            if (record.owner == null || islandUUID == null) {
+                return null;
+            }
+            return new Change(coord, null, null, islandUUID, record.islandId);
+        }
+
+        GridLocation existing = gridManager.getGridLocation(coord);
+
+        if (existing != null && existing.getStatus() == GridLocation.Status.OCCUPIED) {
+            return null; // Already tracked
+        }
+        if (record.owner == null) {
+            skipped.incrementAndGet();
+            return null;
+        }
+
+        // Only resolved for cells that changed - this lookup can hit the player data files
+        String ownerName = Bukkit.getOfflinePlayer(record.owner).getName();
+        return new Change(coord, record.owner, ownerName != null ? ownerName : "Unknown", islandUUID, record.islandId);
+    }
+
+    /**
+     * Apply phase - main thread. Re-checks the cell since it may have been claimed while we diffed.
+     * @return true if the cell was written
+     */
+    private boolean apply(Change change) {
+        GridLocation current = gridManager.getGridLocation(change.coord);
+        if (dimensionKey != null) {
+            if (current != null && current.getIslandUUID(dimensionKey) != null) {
+                return false;
+            }
+            gridManager.setDimensionIsland(change.coord, dimensionKey, change.islandUUID);
+            return true;
+        }
+        if (current != null && current.getStatus() == GridLocation.Status.OCCUPIED) {
+            return false;
+        }
+        gridManager.applySyncedIsland(change.coord, change.owner, change.ownerName, change.islandUUID, change.islandId);
+        return true;
+    }
+
+    private void finishCancelled() {
+        if (task != null) {
+            task.cancel();
+        }
+        future.completeExceptionally(new CancellationException("Grid sync cancelled"));
+    }
+
+    private static UUID parseUUID(String islandId) {
+        if (islandId == null || islandId.isEmpty()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(islandId);
+        } catch (IllegalArgumentException e) {
+            // Island ID is not a valid UUID format - this is OK
+            return null;
+        }
+    }
+
+    /**
+     * The fields of an Island the diff needs, copied on the main thread
+     */
+    private static final class IslandRecord {
+        private final int centerX;
+        private final int centerZ;
+        private final UUID owner;
+        private final String islandId;
+
+        private IslandRecord(int centerX, int centerZ, UUID owner, String islandId) {
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+            this.owner = owner;
+            this.islandId = islandId;
+        }
+
+        private static IslandRecord of(Island island) {
+            if (island == null) {
+                return null;
+            }
+            Location center = island.getCenter();
+            if (center == null) {
+                return null;
+            }
+            return new IslandRecord(center.getBlockX(), center.getBlockZ(), island.getOwner(), island.getUniqueId());
+        }
+    }
+
+    /**
+     * A cell that needs writing
+     */
+    private static final class Change {
+        private final GridCoordinate coord;
+        private final UUID owner;
+        private final String ownerName;
+        private final UUID islandUUID;
+        private final String islandId;
+
+        private Change(GridCoordinate coord, UUID owner, String ownerName, UUID islandUUID, String islandId) {
+            this.coord = coord;
+            this.owner = owner;
+            this.ownerName = ownerName;
+            this.islandUUID = islandUUID;
+            this.islandId = islandId;
+        }
+    }
+
+    /**
+     * Outcome of a finished sync
+     */
+    public static final class Result {
+        private final int synced;
+        private final int skipped;
+        private final int scanned;
+        private final long elapsedMillis;
+
+        public Result(int synced, int skipped, int scanned, long elapsedMillis) {
+            this.synced = synced;
+            this.skipped = skipped;
+            this.scanned = scanned;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getSynced() {
+            return synced;
+        }
+
+        public int getSkipped() {
+            return skipped;
+        }
+
+        public int getScanned() {
+            return scanned;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import world.bentobox.bentobox.database.objects.Island;
 import world.bentobox.bentobox.util.teleport.SafeSpotTeleport;
 import world.bentobox.islandselector.IslandSelector;
 import world.bentobox.islandselector.database.SlotData;
+import world.bentobox.islandselector.managers.OperationScheduler.OperationType;
 import world.bentobox.islandselector.utils.GridCoordinate;
 
 import java.io.File;
@@ -59,6 +60,27 @@ public class IslandRemovalManager {
             return;
         }
 
+        // Wait for an operation slot; the permit is released when the removal reports back
+        UUID executorUUID = executor.isPlayer() ? executor.getUniqueId() : null;
+        addon.getOperationScheduler().acquire(OperationType.REMOVAL, executorUUID)
+            .whenComplete((permit, error) -> {
+                if (error != null) {
+                    pendingRemovals.remove(playerUUID);
+                    executor.sendMessage("§cIsland removal cancelled - the server is shutting down.");
+                    callback.accept(false);
+                    return;
+                }
+                performRemoval(playerUUID, executor, success -> {
+                    permit.release();
+                    callback.accept(success);
+                });
+            });
+    }
+
+    /**
+     * Save, clear and unregister the island once an operation permit has been granted
+     */
+    private void performRemoval(UUID playerUUID, User executor, Consumer<Boolean> callback) {
         World bskyblockWorld = addon.getGridManager().getBSkyBlockWorld();
         if (bskyblockWorld == null) {
             pendingRemovals.remove(playerUUID);
@@ -94,6 +116,8 @@ public class IslandRemovalManager {
             }
             if (spawnWorld == null) {
                 addon.logWarning("Cannot teleport player during island removal - no spawn world available");
+                pendingRemovals.remove(playerUUID);
+                callback.accept(false);
                 return;
             }
             Location spawn = spawnWorld.getSpawnLocation();
@@ -125,6 +149,7 @@ public class IslandRemovalManager {
                 boolean saved = saveIslandToSlotSchematic(playerUUID, activeSlot, island);
                 if (!saved) {
                     Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
+                        pendingRemovals.remove(playerUUID);
                         addon.getIslandCreateListener().unmarkAdminRemoval(playerUUID);
                         executor.sendMessage("§cFailed to save island schematic. Aborting removal.");
                         callback.accept(false);
@@ -265,8 +290,8 @@ public class IslandRemovalManager {
             );
             File schematicFile = new File(schematicPath);
 
-            // Use SchematicUtils for safe entity handling
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, false, schematicFile);
+            // Blocks only - entities are saved separately
+            boolean success = addon.getIslandSnapshotStore().saveNow(center, range, schematicFile);
 
             if (success) {
                 addon.log("Saved island to slot schematic: " + schematicFile.getName());
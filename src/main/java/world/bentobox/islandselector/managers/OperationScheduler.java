@@ -0,0 +1,404 @@
+package world.bentobox.islandselector.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import world.bentobox.islandselector.IslandSelector;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Central gate for heavy island operations - the FAWE copies, pastes and clears behind
+ * slot switches, relocations, removals, backups and purges.
+ *
+ * At most {@code performance.max-concurrent-operations} operations hold a permit at once.
+ * Everything else waits in a queue ordered by operation type, then arrival, so a player's
+ * slot switch overtakes queued auto-backups. Waiting players are told their queue position
+ * whenever it changes.
+ *
+ * A permit held longer than {@code performance.operation-timeout-minutes} is assumed leaked
+ * by a failed operation and reclaimed. Operations that can legitimately run longer, such as
+ * purges, call {@link Permit#renew()} as they make progress.
+ */
+public class OperationScheduler {
+
+    /**
+     * Kinds of operation, in priority order - earlier types are dispatched first
+     */
+    public enum OperationType {
+        SLOT_SWITCH("slot switch"),
+        RELOCATION("island relocation"),
+        REMOVAL("island removal"),
+        RESTORE("backup restore"),
+        BACKUP("backup"),
+        PURGE("purge"),
+        AUTO_BACKUP("auto-backup");
+
+        private final String displayName;
+
+        OperationType(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    /**
+     * Permission to run one operation. Must be released when the operation finishes;
+     * releasing more than once is harmless.
+     */
+    public final class Permit {
+        private final OperationType type;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile BukkitTask timeoutTask;
+
+        private Permit(OperationType type) {
+            this.type = type;
+        }
+
+        public OperationType getType() {
+            return type;
+        }
+
+        /**
+         * Restart the timeout, for an operation that is still making progress. Call from any thread.
+         */
+        public void renew() {
+            if (!released.get()) {
+                scheduleTimeout(this);
+            }
+        }
+
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            BukkitTask task = timeoutTask;
+            if (task != null) {
+                task.cancel();
+            }
+            onReleased();
+        }
+    }
+
+    /**
+     * A queued request for a permit
+     */
+    private static final class Request implements Comparable<Request> {
+        private final OperationType type;
+        private final UUID requester;
+        private final long sequence;
+        private final long enqueuedAt = System.currentTimeMillis();
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+        private boolean waited;
+        private int reportedPosition;
+
+        private Request(OperationType type, UUID requester, long sequence) {
+            this.type = type;
+            this.requester = requester;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Request other) {
+            int byType = Integer.compare(type.ordinal(), other.type.ordinal());
+            return byType != 0 ? byType : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final IslandSelector addon;
+
+    // Guarded by "this"
+    private final PriorityQueue<Request> queue = new PriorityQueue<>();
+    private int active;
+    private long sequence;
+    private boolean shutdown;
+
+    // Metrics, guarded by "this"
+    private int peakQueueDepth;
+    private long grantedCount;
+    private long queuedCount;
+    private long totalWaitMillis;
+    private long maxWaitMillis;
+    private long reclaimedCount;
+    private final Map<OperationType, Long> grantedByType = new EnumMap<>(OperationType.class);
+
+    public OperationScheduler(IslandSelector addon) {
+        this.addon = addon;
+    }
+
+    /**
+     * Request a permit for an operation.
+     * The future completes on the main thread once the operation may start.
+     *
+     * @param type The kind of operation, which sets its priority
+     * @param requester Player to send queue position updates to, or null for none
+     * @return Future completed with the permit, or cancelled if the addon shuts down first
+     */
+    public CompletableFuture<Permit> acquire(OperationType type, UUID requester) {
+        Request request;
+        List<Request> granted;
+        synchronized (this) {
+            if (shutdown) {
+                CompletableFuture<Permit> failed = new CompletableFuture<>();
+                failed.completeExceptionally(new CancellationException("Operation scheduler is shut down"));
+                return failed;
+            }
+            request = new Request(type, requester, sequence++);
+            queue.add(request);
+            granted = dispatch();
+            if (queue.contains(request)) {
+                request.waited = true;
+                queuedCount++;
+                peakQueueDepth = Math.max(peakQueueDepth, queue.size());
+            }
+        }
+        grant(granted);
+        if (request.waited) {
+            reportPositions();
+        }
+        return request.future;
+    }
+
+    /**
+     * Run blocking work on an async thread once a permit is available, releasing it afterwards
+     *
+     * @param type The kind of operation, which sets its priority
+     * @param requester Player to send queue position updates to, or null for none
+     * @param work The operation itself
+     * @return Future completed with the work's result
+     */
+    public <T> CompletableFuture<T> submit(OperationType type, UUID requester, Supplier<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        acquire(type, requester).whenComplete((permit, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
+                try {
+                    result.complete(work.get());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    permit.release();
+                }
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Cancel every queued request. Running operations keep their permits.
+     */
+    public void shutdown() {
+        List<Request> pending;
+        synchronized (this) {
+            shutdown = true;
+            pending = new ArrayList<>(queue);
+            queue.clear();
+        }
+        for (Request request : pending) {
+            request.future.completeExceptionally(new CancellationException("Operation scheduler is shut down"));
+        }
+        if (!pending.isEmpty()) {
+            addon.log("Cancelled " + pending.size() + " queued island operation(s) on shutdown");
+        }
+    }
+
+    /**
+     * Take as many requests off the queue as there are free permits.
+     * The caller completes them outside the lock via {@link #grant(List)}.
+     */
+    private List<Request> dispatch() {
+        int limit = Math.max(1, addon.getSettings().getMaxConcurrentOperations());
+        List<Request> granted = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        while (active < limit && !queue.isEmpty()) {
+            Request request = queue.poll();
+            active++;
+            long waitMillis = now - request.enqueuedAt;
+            grantedCount++;
+            totalWaitMillis += waitMillis;
+            maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+            grantedByType.merge(request.type, 1L, Long::sum);
+            granted.add(request);
+        }
+        return granted;
+    }
+
+    private void grant(List<Request> granted) {
+        if (granted.isEmpty()) {
+            return;
+        }
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(addon.getPlugin(), () -> grant(granted));
+            return;
+        }
+        for (Request request : granted) {
+            Permit permit = new Permit(request.type);
+            scheduleTimeout(permit);
+
+            if (request.waited) {
+                long waitMillis = System.currentTimeMillis() - request.enqueuedAt;
+                addon.log("Starting queued " + request.type.getDisplayName() + " after " + waitMillis + "ms"
+                    + " (" + getQueueDepth() + " still queued)");
+                sendMessage(request.requester, "&aYour " + request.type.getDisplayName() + " is starting now.");
+            }
+
+            // The caller may have given up while queued
+            if (!request.future.complete(permit)) {
+                permit.release();
+            }
+        }
+    }
+
+    /**
+     * Start, or restart, the timer that reclaims a permit its operation never released
+     */
+    private void scheduleTimeout(Permit permit) {
+        int minutes = addon.getSettings().getOperationTimeoutMinutes();
+        synchronized (permit) {
+            BukkitTask previous = permit.timeoutTask;
+            if (previous != null) {
+                previous.cancel();
+            }
+            if (minutes <= 0) {
+                permit.timeoutTask = null;
+                return;
+            }
+            permit.timeoutTask = Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
+                if (!permit.released.get()) {
+                    addon.logWarning("A " + permit.type.getDisplayName() + " held its operation slot for over "
+                        + minutes + " minutes - reclaiming it");
+                    synchronized (this) {
+                        reclaimedCount++;
+                    }
+                    permit.release();
+                }
+            }, 20L * 60 * minutes);
+        }
+    }
+
+    private void onReleased() {
+        List<Request> granted;
+        synchronized (this) {
+            active--;
+            granted = dispatch();
+        }
+        grant(granted);
+        if (!granted.isEmpty()) {
+            reportPositions();
+        }
+    }
+
+    /**
+     * Tell each waiting player their place in the queue if it changed since they were last told
+     */
+    private void reportPositions() {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(addon.getPlugin(), this::reportPositions);
+            return;
+        }
+        List<Request> waiting;
+        synchronized (this) {
+            waiting = new ArrayList<>(queue);
+        }
+        waiting.sort(null);
+        for (int i = 0; i < waiting.size(); i++) {
+            Request request = waiting.get(i);
+            int position = i + 1;
+            if (request.requester == null || request.reportedPosition == position) {
+                continue;
+            }
+            request.reportedPosition = position;
+            sendMessage(request.requester, "&eThe server is busy - your " + request.type.getDisplayName()
+                + " is queued at position &f" + position + "&e.");
+        }
+    }
+
+    private void sendMessage(UUID playerUUID, String message) {
+        if (playerUUID == null) {
+            return;
+        }
+        Player player = Bukkit.getPlayer(playerUUID);
+        if (player != null && player.isOnline()) {
+            player.sendMessage(ChatColor.translateAlternateColorCodes('&', message));
+        }
+    }
+
+    /**
+     * Number of operations currently holding a permit
+     */
+    public synchronized int getActiveCount() {
+        return active;
+    }
+
+    /**
+     * Number of operations waiting for a permit
+     */
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Largest queue depth seen since the addon started
+     */
+    public synchronized int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    /**
+     * Number of operations that have been given a permit
+     */
+    public synchronized long getGrantedCount() {
+        return grantedCount;
+    }
+
+    /**
+     * Number of operations of one type that have been given a permit
+     */
+    public synchronized long getGrantedCount(OperationType type) {
+        return grantedByType.getOrDefault(type, 0L);
+    }
+
+    /**
+     * Number of operations that had to wait in the queue
+     */
+    public synchronized long getQueuedCount() {
+        return queuedCount;
+    }
+
+    /**
+     * Average time from request to permit across all granted operations
+     */
+    public synchronized long getAverageWaitMillis() {
+        return grantedCount == 0 ? 0 : totalWaitMillis / grantedCount;
+    }
+
+    /**
+     * Longest time any operation waited for a permit
+     */
+    public synchronized long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * Number of permits reclaimed after their operation failed to release them
+     */
+    public synchronized long getReclaimedCount() {
+        return reclaimedCount;
+    }
+}
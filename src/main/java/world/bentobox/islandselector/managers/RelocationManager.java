@@ -18,22 +18,30 @@ import world.bentobox.islandselector.database.SlotData;
 import world.bentobox.islandselector.events.IslandRelocateEvent;
 import world.bentobox.islandselector.integrations.NovaIntegration.NovaBlockData;
 import world.bentobox.islandselector.integrations.NovaIntegration.RestoreResult;
+import world.bentobox.islandselector.managers.OperationScheduler.OperationType;
+import world.bentobox.islandselector.managers.OperationScheduler.Permit;
 import world.bentobox.islandselector.models.DimensionConfig;
 import world.bentobox.islandselector.utils.CustomCommandExecutor;
 import world.bentobox.islandselector.utils.GridCoordinate;
+import world.bentobox.islandselector.utils.IslandSnapshotStore;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manager for handling island relocation operations
  */
 public class RelocationManager {
 
+    // Dimensions relocated side by side; each one holds a clipboard or section copy in memory
+    private static final int MAX_PARALLEL_DIMENSIONS = 3;
+
     private final IslandSelector addon;
     private final Database<RelocationData> database;
     private Economy economy;
@@ -217,8 +225,15 @@ public class RelocationManager {
                 return;
             }
 
-            // Event not cancelled - proceed with relocation asynchronously
-            performRelocationAsync(player, fromCoord, toCoord);
+            // Event not cancelled - wait for an operation slot, then relocate asynchronously
+            addon.getOperationScheduler().acquire(OperationType.RELOCATION, playerUUID)
+                .whenComplete((permit, error) -> {
+                    if (error != null) {
+                        player.sendMessage(colorize("&cIsland relocation cancelled - the server is shutting down."));
+                        return;
+                    }
+                    performRelocationAsync(player, fromCoord, toCoord, permit);
+                });
         });
     }
 
@@ -274,16 +289,24 @@ public class RelocationManager {
                 return;
             }
 
-            // Perform relocation asynchronously (pass UUID instead of player reference)
-            performAdminRelocationAsync(adminUUID, targetUUID, targetName, fromCoord, toCoord);
+            // Wait for an operation slot, then relocate asynchronously (pass UUID instead of player reference)
+            addon.getOperationScheduler().acquire(OperationType.RELOCATION, adminUUID)
+                .whenComplete((permit, error) -> {
+                    if (error != null) {
+                        sendErrorToAdmin(adminUUID, "&cIsland relocation cancelled - the server is shutting down.");
+                        return;
+                    }
+                    performAdminRelocationAsync(adminUUID, targetUUID, targetName, fromCoord, toCoord, permit);
+                });
         });
     }
 
     /**
      * Internal method to perform admin relocation asynchronously
+     * The permit is released once the block work has finished.
      */
     private void performAdminRelocationAsync(UUID adminUUID, UUID targetUUID, String targetName,
-                                              GridCoordinate fromCoord, GridCoordinate toCoord) {
+                                              GridCoordinate fromCoord, GridCoordinate toCoord, Permit permit) {
         // Get island to check if target is on it
         World bskyblockWorld = addon.getGridManager().getBSkyBlockWorld();
         Island island = bskyblockWorld != null ? addon.getIslands().getIsland(bskyblockWorld, targetUUID) : null;
@@ -331,7 +354,11 @@ public class RelocationManager {
 
         // Run relocation async, passing the on-island flag
         Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
-            performAdminRelocationWork(adminUUID, targetUUID, targetName, fromCoord, toCoord, targetIsOnIsland);
+            try {
+                performAdminRelocationWork(adminUUID, targetUUID, targetName, fromCoord, toCoord, targetIsOnIsland);
+            } finally {
+                permit.release();
+            }
         });
     }
 
@@ -384,16 +411,6 @@ public class RelocationManager {
                 removeNovaBlocksForRelocation(targetUUID);
             }
 
-            // Save island as schematic
-            sendProgressToAdmin(adminUUID, "&eSaving island...");
-            Object clipboard = saveIslandToClipboard(island, oldCenter);
-            if (clipboard == null) {
-                sendErrorToAdmin(adminUUID, "&cFailed to save island!");
-                // Clean up any captured Nova blocks on error
-                relocationNovaBlocks.remove(targetUUID);
-                return;
-            }
-
             // Calculate new center location
             int newWorldX = calculateWorldX(toCoord);
             int newWorldZ = calculateWorldZ(toCoord);
@@ -406,6 +423,16 @@ public class RelocationManager {
                 oldCenter.getPitch()
             );
 
+            // Save island as schematic
+            sendProgressToAdmin(adminUUID, "&eSaving island...");
+            Object clipboard = saveIslandToClipboard(island, oldCenter, newCenter);
+            if (clipboard == null) {
+                sendErrorToAdmin(adminUUID, "&cFailed to save island!");
+                // Clean up any captured Nova blocks on error
+                relocationNovaBlocks.remove(targetUUID);
+                return;
+            }
+
             // Clear old location
             sendProgressToAdmin(adminUUID, "&eClearing old location...");
             clearIslandBlocks(island, oldCenter);
@@ -583,15 +610,7 @@ public class RelocationManager {
             World world = newCenter.getWorld();
             if (world == null) return;
 
-            int chunkX = newCenter.getBlockX() >> 4;
-            int chunkZ = newCenter.getBlockZ() >> 4;
-
-            world.loadChunk(chunkX, chunkZ, true);
-            world.loadChunk(chunkX + 1, chunkZ, true);
-            world.loadChunk(chunkX - 1, chunkZ, true);
-            world.loadChunk(chunkX, chunkZ + 1, true);
-            world.loadChunk(chunkX, chunkZ - 1, true);
-
+            // The home's chunk is loaded asynchronously by the safe spot search
             Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
                 // CRITICAL: Find a home that is in the TARGET world, not just any default home.
                 // getHome("") returns the default home which could be in ANY dimension (nether, end).
@@ -615,14 +634,11 @@ public class RelocationManager {
                     homeLocation = newCenter;
                 }
 
-                // Use BentoBox SafeSpotTeleport for safe async teleportation to home
-                // IMPORTANT: Do NOT use .island() as it searches across ALL dimensions
-                new SafeSpotTeleport.Builder(addon.getPlugin())
-                    .entity(targetPlayer)
-                    .location(homeLocation)
-                    .thenRun(() -> addon.log("Teleported " + targetPlayer.getName() + " to relocated island home"))
-                    .ifFail(() -> targetPlayer.sendMessage(colorize("&eCouldn't find safe spot - use /island go")))
-                    .buildFuture();
+                // Find a safe spot at the home off the main thread, then teleport
+                // IMPORTANT: No island for the fallback search, as it searches across ALL dimensions
+                addon.getSafeSpotFinder().teleport(targetPlayer, homeLocation, null,
+                    () -> addon.log("Teleported " + targetPlayer.getName() + " to relocated island home"),
+                    () -> targetPlayer.sendMessage(colorize("&eCouldn't find safe spot - use /island go")));
             }, 20L);
 
         } catch (Exception e) {
@@ -632,8 +648,9 @@ public class RelocationManager {
 
     /**
      * Internal method to perform the actual relocation asynchronously
+     * The permit is released when the relocation finishes or fails.
      */
-    private void performRelocationAsync(Player player, GridCoordinate fromCoord, GridCoordinate toCoord) {
+    private void performRelocationAsync(Player player, GridCoordinate fromCoord, GridCoordinate toCoord, Permit permit) {
         UUID playerUUID = player.getUniqueId();
 
         // Get island to check if player is on it
@@ -660,6 +677,7 @@ public class RelocationManager {
                     spawnWorld = Bukkit.getWorlds().get(0);
                 }
                 if (spawnWorld == null) {
+                    permit.release();
                     player.sendMessage(colorize("&cCannot relocate - no spawn world available!"));
                     return;
                 }
@@ -678,7 +696,7 @@ public class RelocationManager {
 
             // Now run the rest asynchronously, passing origin world and on-island flag
             Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
-                performRelocationWork(player, playerUUID, fromCoord, toCoord, originWorld, playerIsOnIsland);
+                performRelocationWork(player, playerUUID, fromCoord, toCoord, originWorld, playerIsOnIsland, permit);
             });
         });
     }
@@ -689,8 +707,9 @@ public class RelocationManager {
      *
      * @param originWorld The world the player was in before relocation (to return them there)
      * @param playerWasOnIsland Whether the player was on their island when relocation started
+     * @param permit Operation permit, released at every exit
      */
-    private void performRelocationWork(Player player, UUID playerUUID, GridCoordinate fromCoord, GridCoordinate toCoord, World originWorld, boolean playerWasOnIsland) {
+    private void performRelocationWork(Player player, UUID playerUUID, GridCoordinate fromCoord, GridCoordinate toCoord, World originWorld, boolean playerWasOnIsland, Permit permit) {
         // Step 1: Get the island (on main thread for BentoBox API access)
         Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
             sendProgress(player, "&eStarting island relocation...");
@@ -699,18 +718,21 @@ public class RelocationManager {
             World bskyblockWorld = addon.getGridManager().getBSkyBlockWorld();
             if (bskyblockWorld == null) {
                 sendError(player, "&cBSkyBlock world not available!");
+                permit.release();
                 return;
             }
 
             Island island = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
             if (island == null) {
                 sendError(player, "&cCould not find your island!");
+                permit.release();
                 return;
             }
 
             Location oldCenter = island.getCenter();
             if (oldCenter == null || oldCenter.getWorld() == null) {
                 sendError(player, "&cInvalid island location!");
+                permit.release();
                 return;
             }
 
@@ -754,11 +776,12 @@ public class RelocationManager {
                 removeNovaBlocksForRelocation(playerUUID);
             }
 
-            saveIslandToClipboardAsync(island, oldCenter, clipboard -> {
+            saveIslandToClipboardAsync(island, oldCenter, newCenter, clipboard -> {
                 if (clipboard == null) {
                     sendError(player, "&cFailed to save island!");
                     // Clean up any captured Nova blocks on error
                     relocationNovaBlocks.remove(playerUUID);
+                    permit.release();
                     return;
                 }
 
@@ -775,6 +798,7 @@ public class RelocationManager {
                             sendError(player, "&cFailed to clear old location!");
                             // Clean up any captured Nova blocks on error
                             relocationNovaBlocks.remove(playerUUID);
+                            permit.release();
                             return;
                         }
 
@@ -785,6 +809,7 @@ public class RelocationManager {
                                 sendError(player, "&cFailed to paste island at new location!");
                                 // Clean up any captured Nova blocks on error
                                 relocationNovaBlocks.remove(playerUUID);
+                                permit.release();
                                 return;
                             }
 
@@ -792,21 +817,27 @@ public class RelocationManager {
                             Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
                                 sendProgress(player, "&eRestoring entities...");
                                 // Use EntityStorage for full data restoration (villager professions, trades, etc.)
-                                int restoredCount = addon.getEntityStorage().restoreEntitiesInMemory(capturedEntities, newCenter);
-                                addon.log("Restored " + restoredCount + " entities at new location");
-
-                                // Restore Nova blocks at new location
-                                if (isNovaEnabled()) {
-                                    sendProgress(player, "&eRestoring Nova machines...");
-                                    restoreNovaBlocksForRelocation(playerUUID, player, newCenter);
-                                }
-
-                                // Step 5: Relocate dimension blocks (nether/end)
-                                sendProgress(player, "&eRelocating dimension islands...");
-                                relocateDimensionBlocksAsync(oldCenter, newCenter, finalEntityRange, dimSuccess -> {
-                                    // Step 6: Update BSkyBlock island data (on main thread)
-                                    Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
-                                        finishRelocation(player, playerUUID, island, oldCenter, newCenter, fromCoord, toCoord, newWorldX, newWorldZ, allCapturedHomes, capturedSpawnPoints, originWorld, playerWasOnIsland);
+                                // Spawned across ticks - carry on once the last entity is in (on the main thread)
+                                addon.getEntityStorage().restoreEntitiesInMemory(capturedEntities, newCenter).thenAccept(restoredCount -> {
+                                    addon.log("Restored " + restoredCount + " entities at new location");
+
+                                    // Restore Nova blocks at new location
+                                    if (isNovaEnabled()) {
+                                        sendProgress(player, "&eRestoring Nova machines...");
+                                        restoreNovaBlocksForRelocation(playerUUID, player, newCenter);
+                                    }
+
+                                    // Step 5: Relocate dimension blocks (nether/end)
+                                    sendProgress(player, "&eRelocating dimension islands...");
+                                    relocateDimensionBlocksAsync(island, oldCenter, newCenter, finalEntityRange, dimSuccess -> {
+                                        // Step 6: Update BSkyBlock island data (on main thread)
+                                        Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
+                                            try {
+                                                finishRelocation(player, playerUUID, island, oldCenter, newCenter, fromCoord, toCoord, newWorldX, newWorldZ, allCapturedHomes, capturedSpawnPoints, originWorld, playerWasOnIsland);
+                                            } finally {
+                                                permit.release();
+                                            }
+                                        });
                                     });
                                 });
                             });
@@ -970,9 +1001,11 @@ public class RelocationManager {
     }
 
     /**
-     * Save island to a clipboard (opaque object)
+     * Save island to a clipboard (opaque object).
+     * Chunk-aligned moves copy the island as sections instead; see {@link #isSectionMove}.
+     * Call from a worker thread.
      */
-    private Object saveIslandToClipboard(Island island, Location center) {
+    private Object saveIslandToClipboard(Island island, Location center, Location newCenter) {
         try {
             World world = center.getWorld();
             if (world == null) {
@@ -983,6 +1016,15 @@ public class RelocationManager {
             int protectionRange = island.getProtectionRange();
             int range = Math.max(islandSpacing / 2, protectionRange);
 
+            if (isSectionMove(center, newCenter)) {
+                IslandSnapshotStore.IslandCopy copy = addon.getIslandSnapshotStore().copySections(center, range)
+                    .exceptionally(e -> null).join();
+                if (copy != null) {
+                    return copy;
+                }
+                addon.logWarning("Section copy failed - falling back to a clipboard copy");
+            }
+
             // Use SchematicUtils for safe entity handling
             Object clipboard = addon.getSchematicUtils().copyToClipboard(center, range, true);
 
@@ -1009,7 +1051,9 @@ public class RelocationManager {
             }
 
             // Use SchematicUtils to paste
-            boolean success = addon.getSchematicUtils().pasteFromClipboard(clipboard, newCenter);
+            boolean success = clipboard instanceof IslandSnapshotStore.IslandCopy
+                ? addon.getIslandSnapshotStore().paste((IslandSnapshotStore.IslandCopy) clipboard, newCenter)
+                : addon.getSchematicUtils().pasteFromClipboard(clipboard, newCenter);
             if (success) {
                 addon.log("Pasted island to new location");
             }
@@ -1051,7 +1095,8 @@ public class RelocationManager {
     /**
      * Save island to a clipboard asynchronously
      */
-    private void saveIslandToClipboardAsync(Island island, Location center, java.util.function.Consumer<Object> callback) {
+    private void saveIslandToClipboardAsync(Island island, Location center, Location newCenter,
+                                            java.util.function.Consumer<Object> callback) {
         try {
             World world = center.getWorld();
             if (world == null) {
@@ -1063,8 +1108,7 @@ public class RelocationManager {
             int protectionRange = island.getProtectionRange();
             int range = Math.max(islandSpacing / 2, protectionRange);
 
-            // Use SchematicUtils async method
-            addon.getSchematicUtils().copyToClipboardAsync(center, range, true, clipboard -> {
+            copyIslandForMoveAsync(center, newCenter, range, clipboard -> {
                 if (clipboard != null) {
                     addon.log("Saved island to clipboard for relocation");
                 }
@@ -1089,8 +1133,7 @@ public class RelocationManager {
                 return;
             }
 
-            // Use SchematicUtils async method
-            addon.getSchematicUtils().pasteFromClipboardAsync(clipboard, newCenter, success -> {
+            pasteIslandCopyAsync(clipboard, newCenter, success -> {
                 if (success) {
                     addon.log("Pasted island to new location");
                 }
@@ -1134,85 +1177,168 @@ public class RelocationManager {
         }
     }
 
+    /**
+     * Whether an island can be moved as chunk sections: the move is a whole number of chunks,
+     * so every section lands on exactly one section at the target
+     */
+    private boolean isSectionMove(Location oldCenter, Location newCenter) {
+        return addon.getSettings().isChunkAlignedRelocation()
+            && addon.getIslandSnapshotStore() != null
+            && ((newCenter.getBlockX() - oldCenter.getBlockX()) & 15) == 0
+            && ((newCenter.getBlockZ() - oldCenter.getBlockZ()) & 15) == 0
+            && newCenter.getBlockY() == oldCenter.getBlockY();
+    }
+
+    /**
+     * Copy an island for a move: as chunk sections when the move is chunk-aligned,
+     * otherwise - or if the section copy fails - as a FAWE clipboard.
+     * The callback runs on the main thread.
+     */
+    private void copyIslandForMoveAsync(Location oldCenter, Location newCenter, int range,
+                                        java.util.function.Consumer<Object> callback) {
+        if (!isSectionMove(oldCenter, newCenter)) {
+            addon.getSchematicUtils().copyToClipboardAsync(oldCenter, range, true, callback);
+            return;
+        }
+        addon.getIslandSnapshotStore().copySections(oldCenter, range).whenComplete((copy, error) ->
+            Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
+                if (copy != null) {
+                    callback.accept(copy);
+                    return;
+                }
+                addon.logWarning("Section copy failed - falling back to a clipboard copy"
+                    + (error != null ? ": " + error.getMessage() : ""));
+                addon.getSchematicUtils().copyToClipboardAsync(oldCenter, range, true, callback);
+            }));
+    }
+
+    /**
+     * Paste what {@link #copyIslandForMoveAsync} copied. The callback runs on the main thread.
+     */
+    private void pasteIslandCopyAsync(Object copy, Location newCenter, java.util.function.Consumer<Boolean> callback) {
+        if (!(copy instanceof IslandSnapshotStore.IslandCopy)) {
+            addon.getSchematicUtils().pasteFromClipboardAsync(copy, newCenter, callback);
+            return;
+        }
+        IslandSnapshotStore.IslandCopy sections = (IslandSnapshotStore.IslandCopy) copy;
+        Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
+            boolean success = addon.getIslandSnapshotStore().paste(sections, newCenter);
+            Bukkit.getScheduler().runTask(addon.getPlugin(), () -> callback.accept(success));
+        });
+    }
+
     // ==================== DIMENSION BLOCK RELOCATION ====================
 
     /**
-     * Relocate blocks in BSkyBlock's native sub-dimensions (nether and end).
+     * Relocate blocks in BSkyBlock's native sub-dimensions (nether and end), and in any
+     * DimensionManager world that shares the island being moved.
      * This is needed because BSkyBlock stores dimension islands at specific coordinates:
      * - Nether: X/8, Z/8 (1:8 scaling with overworld)
      * - End: Same X,Z as overworld (1:1)
      *
+     * The worlds share no state, so up to {@link #MAX_PARALLEL_DIMENSIONS} are relocated at
+     * once. The callback runs once every dimension has finished or failed.
+     *
+     * @param island The island being moved
      * @param oldCenter The old island center in overworld
      * @param newCenter The new island center in overworld
      * @param range The island range for block operations
-     * @param callback Called when all dimensions are relocated
+     * @param callback Called with true if every dimension was relocated
      */
-    private void relocateDimensionBlocksAsync(Location oldCenter, Location newCenter, int range,
+    private void relocateDimensionBlocksAsync(Island island, Location oldCenter, Location newCenter, int range,
                                                java.util.function.Consumer<Boolean> callback) {
-        var bskyblock = addon.getBSkyBlockAddon();
-        if (bskyblock == null) {
-            addon.log("No BSkyBlock addon - skipping dimension block relocation");
+        List<World> worlds = getDimensionWorldsToRelocate(island, oldCenter);
+        if (worlds.isEmpty()) {
+            addon.log("No nether/end or dimension worlds - skipping dimension block relocation");
             callback.accept(true);
             return;
         }
 
-        World netherWorld = bskyblock.getNetherWorld();
-        World endWorld = bskyblock.getEndWorld();
-
-        // If no dimension worlds, nothing to do
-        if (netherWorld == null && endWorld == null) {
-            addon.log("No nether/end worlds - skipping dimension block relocation");
-            callback.accept(true);
-            return;
+        long start = System.currentTimeMillis();
+        addon.log("Starting dimension block relocation for " + worlds.size() + " world(s)");
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        for (World world : worlds) {
+            results.put(world.getName(), null);
         }
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(worlds.size());
 
-        addon.log("Starting dimension block relocation for nether/end");
-
-        // Chain: relocate nether first, then end
-        Runnable relocateEnd = () -> {
-            if (endWorld != null) {
-                sendProgressToAllOnline("&eRelocating End dimension...");
-                // End uses 1:1 scaling
-                Location oldEndCenter = new Location(endWorld,
-                    oldCenter.getX(), oldCenter.getY(), oldCenter.getZ());
-                Location newEndCenter = new Location(endWorld,
-                    newCenter.getX(), newCenter.getY(), newCenter.getZ());
-
-                relocateSingleDimensionAsync(oldEndCenter, newEndCenter, range, success -> {
-                    if (success) {
-                        addon.log("End dimension blocks relocated successfully");
-                    } else {
-                        addon.logWarning("Failed to relocate End dimension blocks");
-                    }
-                    callback.accept(true); // Continue even if dimension relocation fails
-                });
-            } else {
-                callback.accept(true);
+        // Each lane relocates one world at a time, taking the next world when it finishes
+        Runnable[] lane = new Runnable[1];
+        lane[0] = () -> {
+            int index = next.getAndIncrement();
+            if (index >= worlds.size()) {
+                return;
             }
-        };
-
-        if (netherWorld != null) {
-            sendProgressToAllOnline("&eRelocating Nether dimension...");
+            World world = worlds.get(index);
+            sendProgressToAllOnline("&eRelocating " + world.getName() + "...");
             // BSkyBlock places islands at the SAME coordinates in all dimensions
             // The 1:8 nether scaling only applies to vanilla portal mechanics, NOT island placement
-            Location oldNetherCenter = new Location(netherWorld,
-                oldCenter.getX(), oldCenter.getY(), oldCenter.getZ());
-            Location newNetherCenter = new Location(netherWorld,
-                newCenter.getX(), newCenter.getY(), newCenter.getZ());
+            Location oldDimensionCenter = new Location(world, oldCenter.getX(), oldCenter.getY(), oldCenter.getZ());
+            Location newDimensionCenter = new Location(world, newCenter.getX(), newCenter.getY(), newCenter.getZ());
 
             // Use same range as overworld (BSkyBlock uses same island size in all dimensions)
-            relocateSingleDimensionAsync(oldNetherCenter, newNetherCenter, range, success -> {
+            relocateSingleDimensionAsync(oldDimensionCenter, newDimensionCenter, range, success -> {
                 if (success) {
-                    addon.log("Nether dimension blocks relocated successfully");
+                    addon.log(world.getName() + " blocks relocated successfully");
+                } else {
+                    addon.logWarning("Failed to relocate " + world.getName() + " blocks");
+                }
+                boolean done;
+                synchronized (results) {
+                    results.put(world.getName(), success);
+                    done = remaining.decrementAndGet() == 0;
+                }
+                if (done) {
+                    boolean allSucceeded = !results.containsValue(false);
+                    addon.log("Dimension block relocation finished in " + (System.currentTimeMillis() - start)
+                        + "ms: " + results);
+                    callback.accept(allSucceeded);
                 } else {
-                    addon.logWarning("Failed to relocate Nether dimension blocks");
+                    lane[0].run();
                 }
-                // Continue to End regardless of nether success
-                relocateEnd.run();
             });
-        } else {
-            relocateEnd.run();
+        };
+        for (int i = 0; i < Math.min(MAX_PARALLEL_DIMENSIONS, worlds.size()); i++) {
+            lane[0].run();
+        }
+    }
+
+    /**
+     * Worlds besides the island's own whose blocks move with it: BSkyBlock's nether and end,
+     * plus DimensionManager worlds where the island at the old center is this same island.
+     * A dimension with its own separate island keeps it where it is.
+     */
+    private List<World> getDimensionWorldsToRelocate(Island island, Location oldCenter) {
+        List<World> worlds = new ArrayList<>();
+        var bskyblock = addon.getBSkyBlockAddon();
+        if (bskyblock != null) {
+            for (World world : new World[]{bskyblock.getNetherWorld(), bskyblock.getEndWorld()}) {
+                if (world != null && !world.equals(oldCenter.getWorld()) && !worlds.contains(world)) {
+                    worlds.add(world);
+                }
+            }
         }
+
+        DimensionManager dimManager = addon.getDimensionManager();
+        if (dimManager != null && dimManager.isEnabled()) {
+            for (DimensionConfig config : dimManager.getEnabledDimensions()) {
+                World world = dimManager.getWorld(config.getDimensionKey());
+                if (world == null || world.equals(oldCenter.getWorld()) || worlds.contains(world)) {
+                    continue;
+                }
+                Location oldDimensionCenter = new Location(world, oldCenter.getX(), oldCenter.getY(), oldCenter.getZ());
+                boolean shared = addon.getIslands().getIslandAt(oldDimensionCenter)
+                    .map(other -> other.getUniqueId().equals(island.getUniqueId()))
+                    .orElse(false);
+                if (shared) {
+                    worlds.add(world);
+                } else {
+                    addon.log("Not relocating blocks in " + world.getName() + " - it has no part of this island");
+                }
+            }
+        }
+        return worlds;
     }
 
     /**
@@ -1241,7 +1367,7 @@ public class RelocationManager {
         addon.log("Captured " + capturedEntities.size() + " entities in " + world.getName());
 
         // Step 1: Copy blocks to clipboard
-        addon.getSchematicUtils().copyToClipboardAsync(oldCenter, range, true, clipboard -> {
+        copyIslandForMoveAsync(oldCenter, newCenter, range, clipboard -> {
             if (clipboard == null) {
                 addon.logWarning("Failed to copy blocks in " + world.getName());
                 callback.accept(false);
@@ -1260,7 +1386,7 @@ public class RelocationManager {
                     }
 
                     // Step 4: Paste at new location
-                    addon.getSchematicUtils().pasteFromClipboardAsync(clipboard, newCenter, pasteSuccess -> {
+                    pasteIslandCopyAsync(clipboard, newCenter, pasteSuccess -> {
                         if (!pasteSuccess) {
                             addon.logWarning("Failed to paste blocks in " + world.getName());
                             callback.accept(false);
@@ -1269,9 +1395,14 @@ public class RelocationManager {
 
                         // Step 5: Restore entities at new location
                         Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
-                            int restoredCount = addon.getEntityStorage().restoreEntitiesInMemory(capturedEntities, newCenter);
-                            addon.log("Restored " + restoredCount + " entities in " + world.getName());
-                            callback.accept(true);
+                            addon.getEntityStorage().restoreEntitiesInMemory(capturedEntities, newCenter).whenComplete((restoredCount, error) -> {
+                                if (error != null) {
+                                    addon.logWarning("Failed to restore entities in " + world.getName() + ": " + error.getMessage());
+                                } else {
+                                    addon.log("Restored " + restoredCount + " entities in " + world.getName());
+                                }
+                                callback.accept(true);
+                            });
                         });
                     });
                 });
@@ -1335,7 +1466,7 @@ public class RelocationManager {
 
     /**
      * Safely teleport player and team members to new island location.
-     * This method loads the chunk first to prevent falling through blocks.
+     * The landing spot is found from a chunk snapshot off the main thread, see {@link world.bentobox.islandselector.utils.SafeSpotFinder}.
      *
      * @param island The main dimension island
      * @param owner The island owner
@@ -1348,7 +1479,6 @@ public class RelocationManager {
             // Determine target world and island based on origin dimension
             World targetWorld = newCenter.getWorld();
             Island targetIsland = island;
-            Location targetHome = null;
 
             // Check if player was in a CUSTOM dimension world (not BSkyBlock's native worlds)
             // BSkyBlock's native worlds (overworld, nether, end) are sub-worlds of the same island
@@ -1365,7 +1495,6 @@ public class RelocationManager {
                         if (dimIsland != null) {
                             targetIsland = dimIsland;
                             targetWorld = originWorld;
-                            targetHome = dimIsland.getHome("");
                             addon.log("Player was in custom dimension '" + originDimKey + "' - teleporting back there");
                         }
                     }
@@ -1382,23 +1511,12 @@ public class RelocationManager {
                 return;
             }
 
-            // First, load the chunk at the target location synchronously
-            Location chunkLoadLocation = targetHome != null ? targetHome : newCenter;
-            int chunkX = chunkLoadLocation.getBlockX() >> 4;
-            int chunkZ = chunkLoadLocation.getBlockZ() >> 4;
-
-            // Force load the chunk and surrounding chunks
-            targetWorld.loadChunk(chunkX, chunkZ, true);
-            targetWorld.loadChunk(chunkX + 1, chunkZ, true);
-            targetWorld.loadChunk(chunkX - 1, chunkZ, true);
-            targetWorld.loadChunk(chunkX, chunkZ + 1, true);
-            targetWorld.loadChunk(chunkX, chunkZ - 1, true);
-
             // Final variables for lambda
             final Island finalTargetIsland = targetIsland;
             final World finalTargetWorld = targetWorld;
 
-            // Wait a bit for chunks to fully generate, then teleport
+            // Wait a bit for the paste to settle, then teleport
+            // The home's chunk is loaded asynchronously by the safe spot search
             Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
                 // CRITICAL: Find a home that is in the TARGET world, not just any default home.
                 // getHome("") returns the default home which could be in ANY dimension (nether, end).
@@ -1428,15 +1546,12 @@ public class RelocationManager {
 
                 // Only teleport owner if they were on the island when relocation started
                 if (playerWasOnIsland) {
-                    // Use BentoBox SafeSpotTeleport for owner, targeting home location
-                    // IMPORTANT: Do NOT use .island() as it searches across ALL dimensions (nether, end)
+                    // Find a safe spot at the home off the main thread, then teleport the owner
+                    // IMPORTANT: No island for the fallback search, as it searches across ALL dimensions (nether, end)
                     // and may teleport to End if it finds a "safer" spot there
-                    new SafeSpotTeleport.Builder(addon.getPlugin())
-                        .entity(owner)
-                        .location(homeLocation)
-                        .thenRun(() -> addon.log("Teleported " + owner.getName() + " to relocated island home in " + finalTargetWorld.getName()))
-                        .ifFail(() -> owner.sendMessage(colorize("&eCouldn't find safe spot - use /island go")))
-                        .buildFuture();
+                    addon.getSafeSpotFinder().teleport(owner, homeLocation, null,
+                        () -> addon.log("Teleported " + owner.getName() + " to relocated island home in " + finalTargetWorld.getName()),
+                        () -> owner.sendMessage(colorize("&eCouldn't find safe spot - use /island go")));
                 } else {
                     addon.log("Skipping owner teleport - " + owner.getName() + " was not on island");
                 }
@@ -1449,11 +1564,10 @@ public class RelocationManager {
                         if (member != null && member.isOnline()) {
                             // Only teleport if member is currently on the island
                             if (island.onIsland(member.getLocation())) {
-                                new SafeSpotTeleport.Builder(addon.getPlugin())
-                                    .entity(member)
-                                    .location(finalHomeLocation)
-                                    .thenRun(() -> member.sendMessage(colorize("&eYour island has been relocated to a new location!")))
-                                    .buildFuture();
+                                // Same home as the owner, so the safe spot is usually cached
+                                addon.getSafeSpotFinder().teleport(member, finalHomeLocation, null,
+                                    () -> member.sendMessage(colorize("&eYour island has been relocated to a new location!")),
+                                    () -> { });
                             } else {
                                 addon.log("Skipping team member teleport - " + member.getName() + " not on island");
                             }
@@ -1464,7 +1578,7 @@ public class RelocationManager {
                 // Handle visitors - teleport them away from the OLD location
                 handleVisitorsAfterRelocation(island, owner);
 
-            }, 20L); // Wait 1 second for chunks to fully generate
+            }, 20L); // Wait 1 second for the paste to settle
 
         } catch (Exception e) {
             addon.logError("Failed to teleport players: " + e.getMessage());
@@ -1472,39 +1586,6 @@ public class RelocationManager {
         }
     }
 
-    /**
-     * Find a safe location to teleport to (standing on a solid block)
-     */
-    private Location findSafeLocation(Location center) {
-        World world = center.getWorld();
-        if (world == null) {
-            return center;
-        }
-
-        int x = center.getBlockX();
-        int z = center.getBlockZ();
-
-        // Start from a reasonable height and work down to find solid ground
-        int startY = Math.min(center.getBlockY() + 10, world.getMaxHeight() - 2);
-
-        for (int y = startY; y > world.getMinHeight(); y--) {
-            Location loc = new Location(world, x + 0.5, y, z + 0.5);
-            Location below = new Location(world, x, y - 1, z);
-            Location above = new Location(world, x, y + 1, z);
-
-            // Check if we can stand here: solid below, air at feet and head
-            if (below.getBlock().getType().isSolid() &&
-                !loc.getBlock().getType().isSolid() &&
-                !above.getBlock().getType().isSolid()) {
-
-                return loc;
-            }
-        }
-
-        // Fallback: return center with a higher Y to be safe
-        return new Location(world, x + 0.5, 100, z + 0.5);
-    }
-
     /**
      * Handle visitors after relocation - teleport them away from the old (now cleared) location
      */
@@ -13,7 +13,6 @@ import world.bentobox.islandselector.integrations.NovaIntegration.NovaBlockData;
 import java.io.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Manager for handling player slots
@@ -23,6 +22,9 @@ public class SlotManager {
     private final IslandSelector addon;
     private final Database<SlotData> database;
     private final Map<String, SlotData> slotCache; // Key: uniqueId (playerUUID-slotNumber)
+    // Secondary index over slotCache so per-player lookups don't scan every slot row.
+    // Entries are immutable and replaced wholesale, so readers on async threads never see a partial update.
+    private final Map<UUID, PlayerSlots> playerIndex;
     // Note: Cleaned up by PlayerConnectionListener.onPlayerQuit() when player disconnects
     // Thread-safe maps for cross-thread access
     private final Map<UUID, Integer> pendingSlotCreations; // Track which slot a new island should go into
@@ -32,6 +34,7 @@ public class SlotManager {
         this.addon = addon;
         this.database = new Database<>(addon, SlotData.class);
         this.slotCache = new ConcurrentHashMap<>();
+        this.playerIndex = new ConcurrentHashMap<>();
         this.pendingSlotCreations = new ConcurrentHashMap<>();
         this.pendingSlotRestorations = new ConcurrentHashMap<>();
         loadAllSlots();
@@ -108,9 +111,11 @@ public class SlotManager {
      */
     private void loadAllSlots() {
         slotCache.clear();
+        playerIndex.clear();
         List<SlotData> allSlots = database.loadObjects();
         for (SlotData slot : allSlots) {
             slotCache.put(slot.getUniqueId(), slot);
+            indexSlot(slot);
         }
         addon.log("Loaded " + allSlots.size() + " player slots from database");
     }
@@ -119,10 +124,8 @@ public class SlotManager {
      * Get all slots for a player
      */
     public List<SlotData> getPlayerSlots(UUID playerUUID) {
-        return slotCache.values().stream()
-                .filter(slot -> playerUUID.equals(slot.getPlayerUUIDAsUUID()))
-                .sorted(Comparator.comparingInt(SlotData::getSlotNumber))
-                .collect(Collectors.toList());
+        PlayerSlots entry = playerIndex.get(playerUUID);
+        return entry != null ? List.of(entry.slots) : new ArrayList<>();
     }
 
     /**
@@ -137,11 +140,22 @@ public class SlotManager {
      * Get the active slot for a player
      */
     public SlotData getActiveSlot(UUID playerUUID) {
-        return slotCache.values().stream()
-                .filter(slot -> playerUUID.equals(slot.getPlayerUUIDAsUUID()))
-                .filter(SlotData::isActive)
-                .findFirst()
-                .orElse(null);
+        PlayerSlots entry = playerIndex.get(playerUUID);
+        if (entry == null) {
+            return null;
+        }
+        // The pointer is refreshed on saveSlot, but callers flip the flag before saving,
+        // so confirm it and fall back to the player's own (tiny) slot array if it went stale
+        SlotData active = entry.active;
+        if (active != null && active.isActive()) {
+            return active;
+        }
+        for (SlotData slot : entry.slots) {
+            if (slot.isActive()) {
+                return slot;
+            }
+        }
+        return null;
     }
 
     /**
@@ -213,18 +227,33 @@ public class SlotManager {
      * Check if a player has any islands
      */
     public boolean hasAnyIsland(UUID playerUUID) {
-        return slotCache.values().stream()
-                .anyMatch(slot -> playerUUID.equals(slot.getPlayerUUIDAsUUID()) && slot.hasIsland());
+        PlayerSlots entry = playerIndex.get(playerUUID);
+        if (entry == null) {
+            return false;
+        }
+        for (SlotData slot : entry.slots) {
+            if (slot.hasIsland()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Get the number of slots with islands for a player
      */
     public int getIslandCount(UUID playerUUID) {
-        return (int) slotCache.values().stream()
-                .filter(slot -> playerUUID.equals(slot.getPlayerUUIDAsUUID()))
-                .filter(SlotData::hasIsland)
-                .count();
+        PlayerSlots entry = playerIndex.get(playerUUID);
+        if (entry == null) {
+            return 0;
+        }
+        int count = 0;
+        for (SlotData slot : entry.slots) {
+            if (slot.hasIsland()) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
@@ -290,6 +319,7 @@ public class SlotManager {
 
         if (slot != null) {
             slotCache.remove(uniqueId);
+            unindexSlot(slot);
             database.deleteID(uniqueId);
         }
     }
@@ -372,9 +402,81 @@ public class SlotManager {
      */
     public void saveSlot(SlotData slot) {
         slotCache.put(slot.getUniqueId(), slot);
+        indexSlot(slot);
         database.saveObjectAsync(slot);
     }
 
+    /**
+     * Insert or refresh a slot in the per-player index.
+     * Keeps the player's slots sorted by slot number and re-points the active slot.
+     */
+    private void indexSlot(SlotData slot) {
+        UUID playerUUID = slot.getPlayerUUIDAsUUID();
+        if (playerUUID == null) {
+            return;
+        }
+        playerIndex.compute(playerUUID, (uuid, entry) -> {
+            SlotData[] current = entry != null ? entry.slots : new SlotData[0];
+            SlotData[] updated;
+            int existing = indexOfSlot(current, slot.getSlotNumber());
+            if (existing >= 0) {
+                updated = current.clone();
+                updated[existing] = slot;
+            } else {
+                int insertAt = -(existing + 1);
+                updated = new SlotData[current.length + 1];
+                System.arraycopy(current, 0, updated, 0, insertAt);
+                updated[insertAt] = slot;
+                System.arraycopy(current, insertAt, updated, insertAt + 1, current.length - insertAt);
+            }
+            return new PlayerSlots(updated);
+        });
+    }
+
+    /**
+     * Remove a slot from the per-player index, dropping the player's entry once it is empty
+     */
+    private void unindexSlot(SlotData slot) {
+        UUID playerUUID = slot.getPlayerUUIDAsUUID();
+        if (playerUUID == null) {
+            return;
+        }
+        playerIndex.computeIfPresent(playerUUID, (uuid, entry) -> {
+            int existing = indexOfSlot(entry.slots, slot.getSlotNumber());
+            if (existing < 0) {
+                return entry;
+            }
+            if (entry.slots.length == 1) {
+                return null;
+            }
+            SlotData[] updated = new SlotData[entry.slots.length - 1];
+            System.arraycopy(entry.slots, 0, updated, 0, existing);
+            System.arraycopy(entry.slots, existing + 1, updated, existing, updated.length - existing);
+            return new PlayerSlots(updated);
+        });
+    }
+
+    /**
+     * Binary search a sorted slot array by slot number.
+     * Returns the index if found, otherwise (-(insertion point) - 1) like {@link Arrays#binarySearch}.
+     */
+    private static int indexOfSlot(SlotData[] slots, int slotNumber) {
+        int low = 0;
+        int high = slots.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midNumber = slots[mid].getSlotNumber();
+            if (midNumber < slotNumber) {
+                low = mid + 1;
+            } else if (midNumber > slotNumber) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
     /**
      * Get slot schematic file path (legacy single-dimension)
      */
@@ -449,10 +551,7 @@ public class SlotManager {
      * Get all player UUIDs that have slot data
      */
     public Set<UUID> getAllPlayersWithSlots() {
-        return slotCache.values().stream()
-                .map(SlotData::getPlayerUUIDAsUUID)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        return new HashSet<>(playerIndex.keySet());
     }
 
     /**
@@ -474,15 +573,14 @@ public class SlotManager {
         for (SlotData slot : slots) {
             String uniqueId = slot.getUniqueId();
             slotCache.remove(uniqueId);
+            unindexSlot(slot);
             database.deleteID(uniqueId);
 
-            // Delete schematic file
+            // Delete schematic file, releasing any stored sections only it used
             File schematicFile = new File(getSlotSchematicPath(playerUUID, slot.getSlotNumber()));
-            if (schematicFile.exists()) {
-                if (!schematicFile.delete()) {
-                    addon.logError("Failed to delete schematic file: " + schematicFile.getAbsolutePath());
-                    success = false;
-                }
+            if (!addon.getIslandSnapshotStore().delete(schematicFile)) {
+                addon.logError("Failed to delete schematic file: " + schematicFile.getAbsolutePath());
+                success = false;
             }
         }
 
@@ -1072,4 +1170,25 @@ public class SlotManager {
         pendingSlotCreations.remove(playerUUID);
         pendingSlotRestorations.remove(playerUUID);
     }
+
+    /**
+     * Immutable snapshot of one player's slots, sorted by slot number,
+     * with a pointer to whichever slot was active when it was built.
+     */
+    private static final class PlayerSlots {
+        private final SlotData[] slots;
+        private final SlotData active;
+
+        private PlayerSlots(SlotData[] slots) {
+            this.slots = slots;
+            SlotData found = null;
+            for (SlotData slot : slots) {
+                if (slot.isActive()) {
+                    found = slot;
+                    break;
+                }
+            }
+            this.active = found;
+        }
+    }
 }
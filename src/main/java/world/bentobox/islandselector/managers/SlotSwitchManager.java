@@ -9,21 +9,32 @@ import world.bentobox.bentobox.util.teleport.SafeSpotTeleport;
 import world.bentobox.islandselector.IslandSelector;
 import world.bentobox.islandselector.database.SlotData;
 import world.bentobox.islandselector.events.SlotSwitchEvent;
+import world.bentobox.islandselector.managers.OperationScheduler.OperationType;
+import world.bentobox.islandselector.managers.OperationScheduler.Permit;
 import world.bentobox.islandselector.models.DimensionConfig;
+import world.bentobox.islandselector.utils.ChunkReader;
 import world.bentobox.islandselector.utils.CustomCommandExecutor;
 import world.bentobox.islandselector.integrations.NovaIntegration.NovaBlockData;
 import world.bentobox.islandselector.integrations.NovaIntegration.RestoreResult;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Manager for handling slot switching operations.
@@ -31,8 +42,16 @@ import java.util.concurrent.TimeoutException;
  */
 public class SlotSwitchManager {
 
+    // Enough workers for overworld, nether and end to run side by side
+    private static final int SWITCH_WORKER_THREADS = 3;
+    // Upper bound on a single save/clear/load phase across all dimensions
+    private static final long DIMENSION_PHASE_TIMEOUT_SECONDS = 300;
+
     private final IslandSelector addon;
 
+    // Runs the off-main-thread switch stages, including each dimension's FAWE work
+    private final ExecutorService switchExecutor;
+
     // Track players currently in a switch operation to prevent concurrent switches
     private final Set<UUID> switchingPlayers = ConcurrentHashMap.newKeySet();
 
@@ -41,6 +60,19 @@ public class SlotSwitchManager {
 
     public SlotSwitchManager(IslandSelector addon) {
         this.addon = addon;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.switchExecutor = Executors.newFixedThreadPool(SWITCH_WORKER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "IslandSelector-Switch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stop accepting switch work. Called when the addon is disabled.
+     */
+    public void shutdown() {
+        switchExecutor.shutdown();
     }
 
     /**
@@ -57,6 +89,28 @@ public class SlotSwitchManager {
         return addon.isSchematicOperationsAvailable();
     }
 
+    /**
+     * Start reading a slot's islands and entities ahead of a switch to it, e.g. while the
+     * player looks at the confirmation screen. The switch's load step picks them up.
+     */
+    public void prefetchSlot(SlotData slotData) {
+        if (!isAvailable()) {
+            return;
+        }
+        for (File file : getSlotFiles(slotData)) {
+            addon.getIslandSnapshotStore().prefetch(file);
+        }
+    }
+
+    /**
+     * Drop whatever was prefetched for a slot that isn't going to be loaded after all
+     */
+    public void discardPrefetch(SlotData slotData) {
+        for (File file : getSlotFiles(slotData)) {
+            addon.getIslandSnapshotStore().discardPrefetch(file);
+        }
+    }
+
     /**
      * Perform a complete slot switch operation
      * This is run asynchronously to avoid blocking the server
@@ -75,6 +129,7 @@ public class SlotSwitchManager {
         // Prevent concurrent slot switches for the same player
         if (switchingPlayers.contains(playerUUID)) {
             player.sendMessage(colorize("&cA slot switch is already in progress! Please wait."));
+            discardPrefetch(toSlot);
             return;
         }
         switchingPlayers.add(playerUUID);
@@ -95,6 +150,7 @@ public class SlotSwitchManager {
                 switchingPlayers.remove(playerUUID);
                 // Clean up any captured Nova blocks on cancellation
                 switchNovaBlocks.remove(playerUUID);
+                discardPrefetch(toSlot);
                 addon.log("SlotSwitchEvent cancelled for " + player.getName() +
                          " from slot " + fromSlot.getSlotNumber() + " to " + toSlot.getSlotNumber());
                 if (event.getCancellationReason() != null) {
@@ -105,15 +161,30 @@ public class SlotSwitchManager {
                 return;
             }
 
-            // Event not cancelled - proceed with the switch asynchronously
-            performSlotSwitchAsync(player, fromSlot, toSlot);
+            // Event not cancelled - wait for an operation slot, then switch asynchronously
+            addon.getOperationScheduler().acquire(OperationType.SLOT_SWITCH, playerUUID)
+                .whenComplete((permit, error) -> {
+                    if (error != null) {
+                        switchingPlayers.remove(playerUUID);
+                        switchNovaBlocks.remove(playerUUID);
+                        discardPrefetch(toSlot);
+                        player.sendMessage(colorize("&cSlot switch cancelled - the server is shutting down."));
+                        return;
+                    }
+                    performSlotSwitchAsync(player, fromSlot, toSlot, permit);
+                });
         });
     }
 
     /**
-     * Internal method to perform the actual slot switch asynchronously
+     * Internal method to perform the actual slot switch asynchronously.
+     *
+     * The switch is a chain of stages. Each stage hands back a future that completes when
+     * its work - a FAWE operation on a worker thread, or entity work on the main thread -
+     * actually finishes, so no thread is parked waiting between stages.
+     * The operation permit is released once the switch, or its rollback, has finished.
      */
-    private void performSlotSwitchAsync(Player player, SlotData fromSlot, SlotData toSlot) {
+    private void performSlotSwitchAsync(Player player, SlotData fromSlot, SlotData toSlot, Permit permit) {
         UUID playerUUID = player.getUniqueId();
 
         // Step 0: Teleport player to SERVER spawn for safety during the switch
@@ -123,6 +194,8 @@ public class SlotSwitchManager {
         }
         if (spawnWorld == null) {
             switchingPlayers.remove(playerUUID);
+            discardPrefetch(toSlot);
+            permit.release();
             player.sendMessage(colorize("&cCannot switch slots - no spawn world available!"));
             return;
         }
@@ -134,393 +207,327 @@ public class SlotSwitchManager {
             .buildFuture();
         sendProgress(player, "&eTeleported to spawn for safety during slot switch...");
 
-        // Run asynchronously to avoid blocking main thread
-        Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
-            try {
-                // Step 1: Send progress message
-                sendProgress(player, "&eStarting slot switch...");
-
-                // Step 1.5: Create backup if configured
-                if (addon.getSettings().isBackupOnSwitch()) {
-                    sendProgress(player, "&eCreating backup of current island...");
-                    boolean backed = addon.getBackupManager().createBackup(playerUUID, fromSlot.getSlotNumber());
-                    if (backed) {
-                        addon.log("Auto-backup created for " + player.getName() + " slot " + fromSlot.getSlotNumber());
-                    } else {
-                        addon.logError("Auto-backup failed for " + player.getName() + " slot " + fromSlot.getSlotNumber() + " - continuing switch anyway");
-                        // Don't cancel switch if backup fails - it's a safety feature, not critical
-                    }
-                }
-
-                // Step 1.6: Save challenge progress for the current slot (Challenges addon integration)
-                ChallengesIntegration challenges = addon.getChallengesIntegration();
-                if (challenges.isEnabled()) {
-                    sendProgress(player, "&eSaving challenge progress...");
-                    challenges.saveSlotChallenges(playerUUID, fromSlot.getSlotNumber());
-                }
+        SwitchContext ctx = new SwitchContext(player, fromSlot, toSlot);
 
-                // Step 1.7: Save island homes for the current slot (multi-dimension aware)
-                sendProgress(player, "&eSaving island homes...");
-                if (isMultiDimensionEnabled()) {
-                    addon.getSlotManager().saveAllDimensionHomes(playerUUID, fromSlot.getSlotNumber());
-                } else {
-                    GridManager gm = addon.getGridManager();
-                    if (gm != null) {
-                        World bskyblockWorld = gm.getBSkyBlockWorld();
-                        if (bskyblockWorld != null) {
-                            Island fromIsland = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
-                            if (fromIsland != null) {
-                                addon.getSlotManager().saveIslandHomes(playerUUID, fromSlot.getSlotNumber(), fromIsland);
-                            }
-                        }
-                    }
-                }
-
-                // Step 1.8: Capture and remove Nova blocks before schematic save
-                if (isNovaEnabled()) {
-                    sendProgress(player, "&eCapturing Nova machines...");
-                    captureNovaBlocksForSwitch(playerUUID, player);
-                    removeNovaBlocksForSwitch(playerUUID);
-                }
-
-                // Save captured Nova blocks for the current slot (for later restoration when switching back)
-                Map<String, List<NovaBlockData>> capturedNova = switchNovaBlocks.remove(playerUUID);
-                if (capturedNova != null && !capturedNova.isEmpty()) {
-                    addon.getSlotManager().saveNovaBlocks(playerUUID, fromSlot.getSlotNumber(), capturedNova);
-                }
-
-                // Step 2: Save current island to schematic (multi-dimension aware)
+        // Step 1: Backup, challenges, homes and Nova machines of the current slot
+        runStep(ctx, "prepare", () -> onWorker(() -> prepareSwitch(ctx)), null, false)
+            // Step 2: Save current island to schematic (multi-dimension aware)
+            .thenCompose(v -> runStep(ctx, "save", () -> {
                 sendProgress(player, "&eSaving current island...");
-                boolean saved = saveAllDimensionIslands(playerUUID, fromSlot);
-                if (!saved) {
-                    switchingPlayers.remove(playerUUID);
-                    sendError(player, "&cFailed to save current island! Switch cancelled.");
+                return saveAllDimensionIslands(playerUUID, fromSlot);
+            }, "&cFailed to save current island! Switch cancelled.", false))
+            // Step 3: Clear current island blocks and entities from world
+            .thenCompose(v -> runStep(ctx, "clear", () -> {
+                ctx.fromIslandCleared = true;
+                sendProgress(player, "&eClearing current island from world...");
+                return clearAllDimensionIslands(playerUUID, fromSlot);
+            }, "&cFailed to clear current island!", true))
+            // Step 4: Load target slot schematic (multi-dimension aware)
+            .thenCompose(v -> runStep(ctx, "load", () -> {
+                sendProgress(player, "&eLoading target island...");
+                return loadAllDimensionIslands(playerUUID, toSlot);
+            }, "&cFailed to load target island!", true))
+            // Step 4.5: Restore challenges, homes and Nova machines of the target slot
+            .thenCompose(v -> runStep(ctx, "restore", () -> onWorker(() -> restoreSwitchedSlot(ctx)), null, false))
+            // Steps 5-7: Update database, teleport and finish on the main thread
+            .thenCompose(v -> runStep(ctx, "finish", () -> onMainThread(() -> finishSwitch(ctx)), null, false))
+            .whenComplete((v, error) -> {
+                // Unused if the switch stopped before loading
+                discardPrefetch(toSlot);
+                if (error == null) {
+                    permit.release();
                     return;
                 }
+                handleSwitchFailure(ctx, error).whenComplete((done, failureError) -> permit.release());
+            });
+    }
 
-                // Step 3: Clear current island blocks and entities from world
-                // This MUST happen on main thread and complete before loading new schematic
-                sendProgress(player, "&eClearing current island from world...");
+    /**
+     * Save everything about the current slot that isn't blocks or entities.
+     * Runs on a worker thread.
+     */
+    private boolean prepareSwitch(SwitchContext ctx) {
+        Player player = ctx.player;
+        UUID playerUUID = player.getUniqueId();
+        SlotData fromSlot = ctx.fromSlot;
 
-                // Use CompletableFuture for proper async coordination
-                CompletableFuture<Boolean> clearFuture = new CompletableFuture<>();
+        sendProgress(player, "&eStarting slot switch...");
 
-                Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
-                    try {
-                        // Multi-dimension aware clearing
-                        boolean success = clearAllDimensionIslands(playerUUID, fromSlot);
-                        clearFuture.complete(success);
-                    } catch (Exception e) {
-                        clearFuture.completeExceptionally(e);
-                    }
-                });
+        // Step 1.5: Create backup if configured
+        if (addon.getSettings().isBackupOnSwitch()) {
+            sendProgress(player, "&eCreating backup of current island...");
+            boolean backed = addon.getBackupManager().createBackup(playerUUID, fromSlot.getSlotNumber());
+            if (backed) {
+                addon.log("Auto-backup created for " + player.getName() + " slot " + fromSlot.getSlotNumber());
+            } else {
+                addon.logError("Auto-backup failed for " + player.getName() + " slot " + fromSlot.getSlotNumber() + " - continuing switch anyway");
+                // Don't cancel switch if backup fails - it's a safety feature, not critical
+            }
+        }
 
-                // Wait for clearing to complete with proper timeout handling
-                boolean clearSuccess;
-                try {
-                    clearSuccess = clearFuture.get(30, TimeUnit.SECONDS);
-                } catch (TimeoutException e) {
-                    addon.logError("Timeout waiting for island clearing");
-                    switchingPlayers.remove(playerUUID);
-                    sendError(player, "&cTimeout clearing island! Please contact an admin.");
-                    return;
-                } catch (Exception e) {
-                    addon.logError("Error during island clearing: " + e.getMessage());
-                    switchingPlayers.remove(playerUUID);
-                    sendError(player, "&cFailed to clear current island! Please contact an admin.");
-                    return;
-                }
+        // Step 1.6: Save challenge progress for the current slot (Challenges addon integration)
+        ChallengesIntegration challenges = addon.getChallengesIntegration();
+        if (challenges.isEnabled()) {
+            sendProgress(player, "&eSaving challenge progress...");
+            challenges.saveSlotChallenges(playerUUID, fromSlot.getSlotNumber());
+        }
 
-                if (!clearSuccess) {
-                    switchingPlayers.remove(playerUUID);
-                    sendError(player, "&cFailed to clear current island! Please contact an admin.");
-                    return;
+        // Step 1.7: Save island homes for the current slot (multi-dimension aware)
+        sendProgress(player, "&eSaving island homes...");
+        if (isMultiDimensionEnabled()) {
+            addon.getSlotManager().saveAllDimensionHomes(playerUUID, fromSlot.getSlotNumber());
+        } else {
+            GridManager gm = addon.getGridManager();
+            if (gm != null) {
+                World bskyblockWorld = gm.getBSkyBlockWorld();
+                if (bskyblockWorld != null) {
+                    Island fromIsland = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
+                    if (fromIsland != null) {
+                        addon.getSlotManager().saveIslandHomes(playerUUID, fromSlot.getSlotNumber(), fromIsland);
+                    }
                 }
+            }
+        }
 
-                // Allow FAWE operations to complete (SchematicUtils operations are synchronous
-                // within the async thread, but a brief delay ensures block updates propagate)
-                Thread.sleep(500);
+        // Step 1.8: Capture and remove Nova blocks before schematic save
+        if (isNovaEnabled()) {
+            sendProgress(player, "&eCapturing Nova machines...");
+            captureNovaBlocksForSwitch(playerUUID, player);
+            removeNovaBlocksForSwitch(playerUUID);
+        }
 
-                // Step 4: Load target slot schematic (multi-dimension aware)
-                sendProgress(player, "&eLoading target island...");
-                boolean loaded = loadAllDimensionIslands(playerUUID, toSlot);
-                if (!loaded) {
-                    switchingPlayers.remove(playerUUID);
-                    sendError(player, "&cFailed to load target island! Please contact an admin.");
-                    return;
-                }
+        // Save captured Nova blocks for the current slot (for later restoration when switching back)
+        Map<String, List<NovaBlockData>> capturedNova = switchNovaBlocks.remove(playerUUID);
+        if (capturedNova != null && !capturedNova.isEmpty()) {
+            // Kept so a switch that fails before the island is cleared can put the machines back
+            ctx.capturedNova = capturedNova;
+            addon.getSlotManager().saveNovaBlocks(playerUUID, fromSlot.getSlotNumber(), capturedNova);
+        }
+        return true;
+    }
 
-                // Brief delay to ensure block updates propagate before proceeding
-                // (SchematicUtils paste is synchronous, but block lighting/updates may need time)
-                Thread.sleep(500);
+    /**
+     * Restore everything about the target slot that isn't blocks or entities.
+     * Runs on a worker thread.
+     */
+    private boolean restoreSwitchedSlot(SwitchContext ctx) {
+        Player player = ctx.player;
+        UUID playerUUID = player.getUniqueId();
+        SlotData toSlot = ctx.toSlot;
 
-                // Step 4.5: Restore challenge progress for the target slot (Challenges addon integration)
-                if (challenges.isEnabled()) {
-                    sendProgress(player, "&eRestoring challenge progress...");
-                    challenges.restoreSlotChallenges(playerUUID, toSlot.getSlotNumber());
-                }
+        // Step 4.5: Restore challenge progress for the target slot (Challenges addon integration)
+        ChallengesIntegration challenges = addon.getChallengesIntegration();
+        if (challenges.isEnabled()) {
+            sendProgress(player, "&eRestoring challenge progress...");
+            challenges.restoreSlotChallenges(playerUUID, toSlot.getSlotNumber());
+        }
 
-                // Step 4.6: Restore island homes for the target slot (multi-dimension aware)
-                sendProgress(player, "&eRestoring island homes...");
-                if (isMultiDimensionEnabled()) {
-                    addon.getSlotManager().restoreAllDimensionHomes(playerUUID, toSlot.getSlotNumber());
-                } else {
-                    GridManager gm = addon.getGridManager();
-                    if (gm != null) {
-                        World bskyblockWorld = gm.getBSkyBlockWorld();
-                        if (bskyblockWorld != null) {
-                            Island toIsland = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
-                            if (toIsland != null) {
-                                addon.getSlotManager().restoreIslandHomes(playerUUID, toSlot.getSlotNumber(), toIsland);
-                            }
-                        }
+        // Step 4.6: Restore island homes for the target slot (multi-dimension aware)
+        sendProgress(player, "&eRestoring island homes...");
+        if (isMultiDimensionEnabled()) {
+            addon.getSlotManager().restoreAllDimensionHomes(playerUUID, toSlot.getSlotNumber());
+        } else {
+            GridManager gm = addon.getGridManager();
+            if (gm != null) {
+                World bskyblockWorld = gm.getBSkyBlockWorld();
+                if (bskyblockWorld != null) {
+                    Island toIsland = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
+                    if (toIsland != null) {
+                        addon.getSlotManager().restoreIslandHomes(playerUUID, toSlot.getSlotNumber(), toIsland);
                     }
                 }
+            }
+        }
 
-                // Step 4.65: Restore Nova blocks for the target slot
-                if (isNovaEnabled()) {
-                    sendProgress(player, "&eRestoring Nova machines...");
-                    restoreNovaBlocksForSwitch(playerUUID, player, toSlot.getSlotNumber());
-                }
-
-                // Step 4.7: Update blueprint permissions for the target slot
-                // This must run on main thread as it modifies player permissions
-                String blueprintName = toSlot.getBlueprintBundle();
-                if (blueprintName != null && !blueprintName.isEmpty()) {
-                    Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
-                        BlueprintChallengesManager bcm = addon.getBlueprintChallengesManager();
-                        if (bcm != null) {
-                            bcm.updateBlueprintPermissions(player, blueprintName);
-                        }
-                    });
-                }
+        // Step 4.65: Restore Nova blocks for the target slot
+        if (isNovaEnabled()) {
+            sendProgress(player, "&eRestoring Nova machines...");
+            restoreNovaBlocksForSwitch(playerUUID, player, toSlot.getSlotNumber());
+        }
+        return true;
+    }
 
-                // Step 5: Update database (back to main thread)
-                final int fromSlotNumber = fromSlot.getSlotNumber();
-                final int toSlotNumber = toSlot.getSlotNumber();
-                Bukkit.getScheduler().runTask(addon.getPlugin(), () -> {
-                    // Update active status
-                    addon.getSlotManager().switchSlot(playerUUID, toSlotNumber);
+    /**
+     * Final main-thread stage: permissions, database, teleport and commands
+     */
+    private boolean finishSwitch(SwitchContext ctx) {
+        Player player = ctx.player;
+        UUID playerUUID = player.getUniqueId();
+        SlotData toSlot = ctx.toSlot;
+
+        // Step 4.7: Update blueprint permissions for the target slot
+        String blueprintName = toSlot.getBlueprintBundle();
+        if (blueprintName != null && !blueprintName.isEmpty()) {
+            BlueprintChallengesManager bcm = addon.getBlueprintChallengesManager();
+            if (bcm != null) {
+                bcm.updateBlueprintPermissions(player, blueprintName);
+            }
+        }
 
-                    // Step 6: Teleport player and team members
-                    sendProgress(player, "&eTeleporting to new island...");
-                    teleportPlayersToSlot(playerUUID, player, toSlot);
+        // Step 5: Update active status
+        addon.getSlotManager().switchSlot(playerUUID, toSlot.getSlotNumber());
 
-                    // Step 7: Send completion message and execute custom commands
-                    sendSuccess(player, "&aSlot switch complete! Welcome to &e" + toSlot.getSlotName());
+        // Step 6: Teleport player and team members
+        sendProgress(player, "&eTeleporting to new island...");
+        teleportPlayersToSlot(playerUUID, player, toSlot);
 
-                    // Clear switching flag on success
-                    switchingPlayers.remove(playerUUID);
+        // Step 7: Send completion message and execute custom commands
+        sendSuccess(player, "&aSlot switch complete! Welcome to &e" + toSlot.getSlotName());
 
-                    // Execute custom commands after slot switch (with delay to ensure teleport completes)
-                    Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-                        executeSlotSwitchCommands(player, fromSlotNumber, toSlotNumber);
-                    }, 30L); // 1.5 second delay after completion message
-                });
+        // Clear switching flag on success
+        switchingPlayers.remove(playerUUID);
+        addon.log("Slot switch for " + player.getName() + " from slot " + ctx.fromSlot.getSlotNumber()
+            + " to " + toSlot.getSlotNumber() + " took " + ctx.describeTimings());
 
-            } catch (Exception e) {
-                addon.logError("Error during slot switch for " + player.getName() + ": " + e.getMessage());
-                e.printStackTrace();
-                switchingPlayers.remove(playerUUID);
-                // Clean up any captured Nova blocks on error
-                switchNovaBlocks.remove(playerUUID);
-                sendError(player, "&cAn error occurred during slot switch. Please contact an admin.");
-            }
-        });
+        // Execute custom commands after slot switch (with delay to ensure teleport completes)
+        final int fromSlotNumber = ctx.fromSlot.getSlotNumber();
+        final int toSlotNumber = toSlot.getSlotNumber();
+        Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
+            executeSlotSwitchCommands(player, fromSlotNumber, toSlotNumber);
+        }, 30L); // 1.5 second delay after completion message
+        return true;
     }
 
     /**
-     * Save an island to a schematic file
-     * @param playerUUID The player's UUID to find their island
-     * @param slotData The slot data for file naming
+     * Run one stage of a switch and record how long it took.
+     *
+     * @param stage Starts the stage and returns a future for its outcome
+     * @param failureMessage Message for the player if the stage reports failure
+     * @param rollbackOnFailure Whether a failure leaves the world half-switched and needs a rollback
      */
-    private boolean saveIslandToSchematic(UUID playerUUID, SlotData slotData) {
-        try {
-            // Get island directly by player UUID (not by slot's stored island UUID)
-            World bskyblockWorld = addon.getGridManager().getBSkyBlockWorld();
-            if (bskyblockWorld == null) {
-                addon.logError("BSkyBlock world not available for saving schematic");
-                return false;
-            }
-
-            Island island = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
-            if (island == null) {
-                addon.logError("Island not found for player: " + playerUUID + " in slot: " + slotData.getUniqueId());
-                return false;
-            }
-
-            // Get island bounds
-            Location center = island.getCenter();
-            World world = center.getWorld();
-            if (world == null) {
-                return false;
+    private CompletableFuture<Void> runStep(SwitchContext ctx, String name, Supplier<CompletableFuture<Boolean>> stage,
+                                            String failureMessage, boolean rollbackOnFailure) {
+        long start = System.currentTimeMillis();
+        return stage.get().handle((success, error) -> {
+            ctx.recordStep(name, System.currentTimeMillis() - start);
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof PhaseTimeoutException) {
+                throw new SwitchAbortedException(name, failureMessage, rollbackOnFailure,
+                    ((PhaseTimeoutException) cause).pending);
             }
-
-            int islandSpacing = addon.getIslandSpacing();
-            int protectionRange = island.getProtectionRange();
-            int range = Math.max(islandSpacing / 2, protectionRange);
-
-            // Get schematic file path
-            File schematicFile = getSchematicFile(slotData);
-
-            // Step 1: Save entities SEPARATELY (FAWE entity handling is unreliable)
-            // This must be done on main thread - schedule it
-            final int finalRange = range;
-            final Location finalCenter = center;
-            final World finalWorld = world;
-
-            // Save entities synchronously if we're on main thread, otherwise schedule
-            if (Bukkit.isPrimaryThread()) {
-                int entitiesSaved = addon.getEntityStorage().saveEntities(finalWorld, finalCenter, finalRange, schematicFile);
-                addon.log("Saved " + entitiesSaved + " entities for slot: " + slotData.getUniqueId());
-            } else {
-                // We need to save entities on main thread - use a future
-                try {
-                    Bukkit.getScheduler().callSyncMethod(addon.getPlugin(), () -> {
-                        int saved = addon.getEntityStorage().saveEntities(finalWorld, finalCenter, finalRange, schematicFile);
-                        addon.log("Saved " + saved + " entities for slot: " + slotData.getUniqueId());
-                        return saved;
-                    }).get(); // Wait for completion
-                } catch (Exception e) {
-                    addon.logWarning("Failed to save entities: " + e.getMessage());
-                }
+            if (error != null) {
+                throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
             }
-
-            // Step 2: Save blocks using FAWE (without entities - we handle those separately)
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, true, schematicFile);
-
-            if (success) {
-                addon.log("Saved island schematic for slot: " + slotData.getUniqueId());
+            if (!Boolean.TRUE.equals(success)) {
+                throw new SwitchAbortedException(name, failureMessage, rollbackOnFailure, null);
             }
-            return success;
-
-        } catch (Exception e) {
-            addon.logError("Failed to save schematic for slot " + slotData.getUniqueId() + ": " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+            return null;
+        });
     }
 
     /**
-     * Load a schematic file to the world
-     * @param playerUUID The player's UUID to find their island location
-     * @param slotData The slot data for file naming
+     * Report a failed switch to the player, rolling the world back first when the failure
+     * happened after the current island was already cleared. A stage that timed out is left
+     * to finish before anything else touches the island.
+     * @return Future completed once any rollback has finished
      */
-    private boolean loadSchematicToWorld(UUID playerUUID, SlotData slotData) {
-        try {
-            // Get schematic file
-            File schematicFile = getSchematicFile(slotData);
-            if (!schematicFile.exists()) {
-                addon.logError("Schematic file not found for slot: " + slotData.getUniqueId());
-                return false;
-            }
+    private CompletableFuture<Void> handleSwitchFailure(SwitchContext ctx, Throwable error) {
+        Player player = ctx.player;
+        UUID playerUUID = player.getUniqueId();
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
 
-            // Get island location directly by player UUID (not by slot's stored island UUID)
-            World bskyblockWorld = addon.getGridManager().getBSkyBlockWorld();
-            if (bskyblockWorld == null) {
-                addon.logError("BSkyBlock world not available for loading schematic");
-                return false;
-            }
+        // Clean up any captured Nova blocks on error
+        switchNovaBlocks.remove(playerUUID);
 
-            Island island = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
-            if (island == null) {
-                addon.logError("Island not found for player: " + playerUUID + " in slot: " + slotData.getUniqueId());
-                return false;
-            }
+        if (!(cause instanceof SwitchAbortedException)) {
+            addon.logError("Error during slot switch for " + player.getName() + ": " + cause.getMessage());
+            cause.printStackTrace();
+            return restoreCapturedNova(ctx).handle((v, novaError) -> {
+                switchingPlayers.remove(playerUUID);
+                sendError(player, "&cAn error occurred during slot switch. Please contact an admin.");
+                return null;
+            });
+        }
 
-            Location center = island.getCenter();
-            if (center.getWorld() == null) {
-                return false;
-            }
+        SwitchAbortedException aborted = (SwitchAbortedException) cause;
+        addon.logError("Slot switch for " + player.getName() + " failed at " + aborted.step + " after " + ctx.describeTimings());
 
-            // Step 1: Use SchematicUtils to load and paste the schematic (blocks only)
-            boolean success = addon.getSchematicUtils().loadAndPaste(schematicFile, center);
-            if (!success) {
-                addon.logError("Failed to paste schematic for slot: " + slotData.getUniqueId());
-                return false;
-            }
-            addon.log("Loaded island schematic for slot: " + slotData.getUniqueId());
+        // A timed-out phase may still be writing to the island; touching it again now would mix the two
+        CompletableFuture<Void> settled = CompletableFuture.completedFuture(null);
+        if (aborted.pending != null) {
+            addon.logWarning("Waiting for the timed-out " + aborted.step + " of " + player.getName()
+                + " to finish before cleaning up");
+            settled = aborted.pending.handle((v, pendingError) -> null);
+        }
 
-            // Step 2: Restore entities SEPARATELY (must be on main thread)
-            final Location finalCenter = center;
-            final World finalWorld = center.getWorld();
+        if (!aborted.rollback) {
+            return settled.thenCompose(v -> restoreCapturedNova(ctx)).handle((v, novaError) -> {
+                switchingPlayers.remove(playerUUID);
+                sendError(player, aborted.getMessage());
+                return null;
+            });
+        }
 
-            if (Bukkit.isPrimaryThread()) {
-                int entitiesRestored = addon.getEntityStorage().loadEntities(finalWorld, finalCenter, schematicFile);
-                addon.log("Restored " + entitiesRestored + " entities for slot: " + slotData.getUniqueId());
+        return settled.thenCompose(v -> rollbackSwitch(playerUUID, player, ctx.fromSlot)).handle((restored, rollbackError) -> {
+            switchingPlayers.remove(playerUUID);
+            if (rollbackError == null && Boolean.TRUE.equals(restored)) {
+                sendError(player, aborted.getMessage() + " Your previous island has been restored.");
             } else {
-                // Schedule entity restoration on main thread
-                try {
-                    Bukkit.getScheduler().callSyncMethod(addon.getPlugin(), () -> {
-                        int restored = addon.getEntityStorage().loadEntities(finalWorld, finalCenter, schematicFile);
-                        addon.log("Restored " + restored + " entities for slot: " + slotData.getUniqueId());
-                        return restored;
-                    }).get(); // Wait for completion
-                } catch (Exception e) {
-                    addon.logWarning("Failed to restore entities: " + e.getMessage());
+                if (rollbackError != null) {
+                    addon.logError("Rollback failed for " + player.getName() + " slot " + ctx.fromSlot.getSlotNumber()
+                        + " - island may need restoring from backup");
                 }
+                sendError(player, aborted.getMessage() + " Please contact an admin.");
             }
-
-            return true;
-
-        } catch (Exception e) {
-            addon.logError("Failed to load schematic for slot " + slotData.getUniqueId() + ": " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+            return null;
+        });
     }
 
     /**
-     * Clear island blocks AND entities from the world.
-     * Must be called from main thread for entity removal.
-     *
-     * @param playerUUID The player's UUID to find their island
-     * @param slotData The slot data (for logging)
-     * @return true if successful, false otherwise
+     * Put back the Nova machines removed in the prepare stage when the switch failed before
+     * the current island was cleared, so the player doesn't keep an island without them.
+     * A rollback restores them itself from slot storage.
      */
-    private boolean clearIslandBlocksAndEntities(UUID playerUUID, SlotData slotData) {
-        try {
-            // Get island directly by player UUID (not by slot's stored island UUID)
-            World bskyblockWorld = addon.getGridManager().getBSkyBlockWorld();
-            if (bskyblockWorld == null) {
-                addon.logError("BSkyBlock world not available for clearing");
-                return false;
-            }
-
-            Island island = addon.getIslands().getIsland(bskyblockWorld, playerUUID);
-            if (island == null) {
-                addon.logError("Island not found for player: " + playerUUID + " when clearing: " + slotData.getUniqueId());
-                return false;
-            }
-
-            Location center = island.getCenter();
-            World world = center.getWorld();
-            if (world == null) {
-                return false;
+    private CompletableFuture<Void> restoreCapturedNova(SwitchContext ctx) {
+        Map<String, List<NovaBlockData>> captured = ctx.capturedNova;
+        if (captured == null || ctx.fromIslandCleared || !isNovaEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return onWorker(() -> {
+            restoreNovaBlocks(ctx.player.getUniqueId(), ctx.player, captured);
+            return true;
+        }).handle((v, e) -> {
+            if (e != null) {
+                addon.logError("Failed to restore Nova machines for " + ctx.player.getName() + ": " + e.getMessage());
             }
+            return null;
+        });
+    }
 
-            int islandSpacing = addon.getIslandSpacing();
-            int protectionRange = island.getProtectionRange();
-            int range = Math.max(islandSpacing / 2, protectionRange);
-
-            // Step 1: Remove entities FIRST (must be on main thread - we're already here)
-            addon.log("Removing entities in region for slot: " + slotData.getUniqueId());
-            int removedEntities = addon.getWorldEditIntegration().removeEntitiesInRegion(world, center, range);
-            addon.log("Removed " + removedEntities + " entities for slot: " + slotData.getUniqueId());
-
-            // Step 2: Clear blocks using FAWE
-            boolean success = addon.getSchematicUtils().clearRegion(center, range);
-            if (success) {
-                addon.log("Cleared island blocks for slot: " + slotData.getUniqueId());
+    /**
+     * Run an action on the main thread - straight away if already on it
+     */
+    private <T> CompletableFuture<T> onMainThread(Supplier<T> action) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(action.get());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
             }
+        };
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(addon.getPlugin(), task);
+        }
+        return future;
+    }
 
-            return success;
+    /**
+     * Run an action on the switch worker pool
+     */
+    private <T> CompletableFuture<T> onWorker(Supplier<T> action) {
+        return CompletableFuture.supplyAsync(action, switchExecutor);
+    }
 
-        } catch (Exception e) {
-            addon.logError("Failed to clear island for slot " + slotData.getUniqueId() + ": " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+    /**
+     * Protection range used for every schematic operation on an island
+     */
+    private int getIslandRange(Island island) {
+        int islandSpacing = addon.getIslandSpacing();
+        int protectionRange = island.getProtectionRange();
+        return Math.max(islandSpacing / 2, protectionRange);
     }
 
     /**
@@ -565,7 +572,7 @@ public class SlotSwitchManager {
 
     /**
      * Safely teleport player and team members to island home location.
-     * This method loads chunks first to prevent falling through blocks,
+     * This method loads chunks first, without blocking the main thread, to prevent falling through blocks,
      * and uses a chunk refresh technique to fix invisible blocks after FAWE paste.
      */
     private void teleportPlayersSafely(Island island, Player owner, Location targetLocation) {
@@ -583,37 +590,22 @@ public class SlotSwitchManager {
             int centerChunkX = targetLocation.getBlockX() >> 4;
             int centerChunkZ = targetLocation.getBlockZ() >> 4;
 
-            for (int dx = -chunkRange; dx <= chunkRange; dx++) {
-                for (int dz = -chunkRange; dz <= chunkRange; dz++) {
-                    world.loadChunk(centerChunkX + dx, centerChunkZ + dz, true);
+            ChunkReader.load(addon, world, centerChunkX - chunkRange, centerChunkZ - chunkRange,
+                    centerChunkX + chunkRange, centerChunkZ + chunkRange).whenComplete((chunks, error) -> {
+                if (error != null) {
+                    addon.logWarning("Could not preload island chunks before teleport: " + error.getMessage());
                 }
-            }
-
-            // Wait for chunks to fully generate and FAWE to complete, then teleport
-            Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-                // Step 1: Teleport players using the chunk refresh teleport technique
-                teleportWithChunkRefresh(owner, island, targetLocation);
-
-                // Teleport team members with the same technique
-                for (UUID memberUUID : island.getMemberSet()) {
-                    if (!memberUUID.equals(owner.getUniqueId())) {
-                        Player member = Bukkit.getPlayer(memberUUID);
-                        if (member != null && member.isOnline()) {
-                            teleportWithChunkRefresh(member, island, targetLocation);
-                            member.sendMessage(colorize("&eYou have been teleported to the new island slot."));
+                // Wait for FAWE to complete, then teleport
+                Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
+                    try {
+                        teleportPlayersToIsland(island, owner, targetLocation);
+                    } finally {
+                        if (chunks != null) {
+                            ChunkReader.release(addon, chunks);
                         }
                     }
-                }
-
-                // Handle visitors - teleport them away from the island
-                teleportVisitorsAway(island, owner);
-
-                // Schedule additional chunk refresh for nearby players after teleports complete
-                Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-                    refreshChunksForPlayer(owner, targetLocation);
-                }, 20L);
-
-            }, 30L); // Wait 1.5 seconds for chunks to fully generate
+                }, 30L);
+            });
 
         } catch (Exception e) {
             addon.logError("Failed to teleport players safely: " + e.getMessage());
@@ -621,15 +613,62 @@ public class SlotSwitchManager {
         }
     }
 
+    /**
+     * Teleport the owner and team members onto the island and send visitors away. The chunks
+     * the switch changed are resent once, when the first of the team lands - or, if nobody
+     * does, once every teleport has failed, so the chunk marks don't linger.
+     */
+    private void teleportPlayersToIsland(Island island, Player owner, Location targetLocation) {
+        List<Player> team = new ArrayList<>();
+        team.add(owner);
+        for (UUID memberUUID : island.getMemberSet()) {
+            if (!memberUUID.equals(owner.getUniqueId())) {
+                Player member = Bukkit.getPlayer(memberUUID);
+                if (member != null && member.isOnline()) {
+                    team.add(member);
+                }
+            }
+        }
+
+        // Main thread only
+        int[] pending = {team.size()};
+        boolean[] resent = {false};
+        Consumer<Boolean> onDone = landed -> {
+            pending[0]--;
+            if (resent[0] || (!landed && pending[0] > 0)) {
+                return;
+            }
+            resent[0] = true;
+            Location center = island.getCenter() != null ? island.getCenter() : targetLocation;
+            int queued = addon.getChunkResendQueue().resend(center, addon.getIslandSpacing() / 2);
+            addon.log("Queued " + queued + " changed chunks to resend after slot switch");
+        };
+
+        // Step 1: Teleport the owner and team members using the chunk refresh teleport technique
+        for (Player player : team) {
+            teleportWithChunkRefresh(player, island, targetLocation, onDone);
+            if (player != owner) {
+                player.sendMessage(colorize("&eYou have been teleported to the new island slot."));
+            }
+        }
+
+        // Handle visitors - teleport them away from the island
+        teleportVisitorsAway(island, owner);
+    }
+
     /**
      * Teleport a player with chunk refresh to fix invisible blocks.
      * This works by briefly teleporting the player far away to force chunk unload,
      * then teleporting them to the destination. This ensures the client fetches fresh chunk data.
+     *
+     * @param onDone Given true on the main thread once the player is at the destination, or false
+     *               if the teleport failed or the player left
      */
-    private void teleportWithChunkRefresh(Player player, Island island, Location destination) {
+    private void teleportWithChunkRefresh(Player player, Island island, Location destination, Consumer<Boolean> onDone) {
         World world = destination.getWorld();
         if (world == null) {
             addon.logError("Cannot teleport - world is null");
+            onDone.accept(false);
             return;
         }
 
@@ -644,190 +683,23 @@ public class SlotSwitchManager {
         // Second teleport: after a short delay, teleport to actual destination
         // The client will request fresh chunk data since the chunks are now "new" to it
         Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-            // Use SafeSpotTeleport for the final destination
-            new SafeSpotTeleport.Builder(addon.getPlugin())
-                .entity(player)
-                .island(island)
-                .location(destination)
-                .thenRun(() -> {
+            if (!player.isOnline()) {
+                onDone.accept(false);
+                return;
+            }
+            // Find a safe spot at the destination off the main thread, then teleport
+            addon.getSafeSpotFinder().teleport(player, destination, island,
+                () -> {
                     addon.log("Teleported " + player.getName() + " to island home with chunk refresh");
-                    // Send one more chunk refresh after landing
-                    Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-                        sendChunkUpdatesToPlayer(player, destination);
-                    }, 10L);
-                })
-                .ifFail(() -> player.sendMessage(colorize("&eCouldn't find safe spot - use /island go")))
-                .buildFuture();
+                    onDone.accept(true);
+                },
+                () -> {
+                    player.sendMessage(colorize("&eCouldn't find safe spot - use /island go"));
+                    onDone.accept(false);
+                });
         }, 5L); // Very short delay - just enough for client to register the position change
     }
 
-    /**
-     * Send chunk updates to a player for the area around a location.
-     * This uses block state updates which are more reliable than refreshChunk.
-     */
-    private void sendChunkUpdatesToPlayer(Player player, Location center) {
-        World world = center.getWorld();
-        if (world == null) return;
-
-        int islandSpacing = addon.getIslandSpacing();
-        int range = islandSpacing / 2;
-        int chunkRange = (range >> 4) + 1;
-        int centerChunkX = center.getBlockX() >> 4;
-        int centerChunkZ = center.getBlockZ() >> 4;
-
-        // For each chunk in the island area
-        for (int dx = -chunkRange; dx <= chunkRange; dx++) {
-            for (int dz = -chunkRange; dz <= chunkRange; dz++) {
-                org.bukkit.Chunk chunk = world.getChunkAt(centerChunkX + dx, centerChunkZ + dz);
-
-                // Check if player can see this chunk
-                int playerChunkX = player.getLocation().getBlockX() >> 4;
-                int playerChunkZ = player.getLocation().getBlockZ() >> 4;
-                int viewDistance = Bukkit.getViewDistance();
-
-                if (Math.abs(chunk.getX() - playerChunkX) <= viewDistance &&
-                    Math.abs(chunk.getZ() - playerChunkZ) <= viewDistance) {
-
-                    // Try to force chunk resend
-                    try {
-                        world.refreshChunk(chunk.getX(), chunk.getZ());
-                    } catch (Exception ignored) {
-                        // refreshChunk is deprecated but still works on some versions
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Refresh chunks around a location for a player and nearby players to fix invisible blocks.
-     * This is necessary after FAWE schematic pasting which doesn't always send proper chunk updates.
-     */
-    private void refreshChunksForPlayer(Player player, Location center) {
-        World world = center.getWorld();
-        if (world == null) return;
-
-        // Get island bounds for proper chunk coverage
-        int islandSpacing = addon.getIslandSpacing();
-        int range = islandSpacing / 2;
-        int chunkRange = (range >> 4) + 2; // Convert to chunks and add buffer
-
-        int centerChunkX = center.getBlockX() >> 4;
-        int centerChunkZ = center.getBlockZ() >> 4;
-
-        // Collect all chunks in the island area
-        java.util.List<org.bukkit.Chunk> chunksToRefresh = new java.util.ArrayList<>();
-        for (int dx = -chunkRange; dx <= chunkRange; dx++) {
-            for (int dz = -chunkRange; dz <= chunkRange; dz++) {
-                org.bukkit.Chunk chunk = world.getChunkAt(centerChunkX + dx, centerChunkZ + dz);
-                chunk.load(true);
-                chunksToRefresh.add(chunk);
-            }
-        }
-
-        // Schedule chunk refresh for all nearby players after a short delay
-        // This gives FAWE time to finish any pending operations
-        Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-            refreshChunksForNearbyPlayers(world, center, chunksToRefresh);
-        }, 10L); // 0.5 second delay
-
-        // Do another refresh after a longer delay for any stragglers
-        Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-            refreshChunksForNearbyPlayers(world, center, chunksToRefresh);
-        }, 40L); // 2 second delay
-    }
-
-    /**
-     * Refresh chunks for all players near the given location.
-     * Uses multiple techniques to ensure clients receive updated chunk data.
-     */
-    private void refreshChunksForNearbyPlayers(World world, Location center, java.util.List<org.bukkit.Chunk> chunks) {
-        int refreshRadius = addon.getIslandSpacing() + 100; // Island size + view distance buffer
-
-        for (Player player : world.getPlayers()) {
-            if (player.getLocation().distanceSquared(center) < refreshRadius * refreshRadius) {
-                forceChunkResendToPlayer(player, chunks);
-            }
-        }
-    }
-
-    /**
-     * Force resend chunk data to a specific player.
-     * Uses Paper's native chunk resend if available, otherwise falls back to workarounds.
-     */
-    private void forceChunkResendToPlayer(Player player, java.util.List<org.bukkit.Chunk> chunks) {
-        try {
-            for (org.bukkit.Chunk chunk : chunks) {
-                // Check if player can see this chunk (within view distance)
-                int playerChunkX = player.getLocation().getBlockX() >> 4;
-                int playerChunkZ = player.getLocation().getBlockZ() >> 4;
-                int viewDistance = Bukkit.getViewDistance();
-
-                if (Math.abs(chunk.getX() - playerChunkX) <= viewDistance &&
-                    Math.abs(chunk.getZ() - playerChunkZ) <= viewDistance) {
-
-                    // Method 1: Try Paper's chunk refresh (most reliable)
-                    try {
-                        // Paper 1.19+ has player.getWorld().refreshChunk() but it's deprecated
-                        // Instead, use the chunk's addPluginChunkTicket to force reload
-                        boolean hadTicket = chunk.isForceLoaded();
-                        if (!hadTicket) {
-                            chunk.addPluginChunkTicket(addon.getPlugin());
-                        }
-
-                        // Force chunk to regenerate lighting and resend
-                        chunk.getWorld().refreshChunk(chunk.getX(), chunk.getZ());
-
-                        if (!hadTicket) {
-                            // Schedule ticket removal
-                            Bukkit.getScheduler().runTaskLater(addon.getPlugin(), () -> {
-                                chunk.removePluginChunkTicket(addon.getPlugin());
-                            }, 5L);
-                        }
-                    } catch (Exception e) {
-                        // Fallback: deprecated but still works on some versions
-                        chunk.getWorld().refreshChunk(chunk.getX(), chunk.getZ());
-                    }
-                }
-            }
-        } catch (Exception e) {
-            addon.logWarning("Chunk refresh failed: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Find a safe location to teleport to (standing on a solid block)
-     */
-    private Location findSafeLocation(Location center) {
-        World world = center.getWorld();
-        if (world == null) {
-            return center;
-        }
-
-        int x = center.getBlockX();
-        int z = center.getBlockZ();
-
-        // Start from a reasonable height and work down to find solid ground
-        int startY = Math.min(center.getBlockY() + 10, world.getMaxHeight() - 2);
-
-        for (int y = startY; y > world.getMinHeight(); y--) {
-            Location loc = new Location(world, x + 0.5, y, z + 0.5);
-            Location below = new Location(world, x, y - 1, z);
-            Location above = new Location(world, x, y + 1, z);
-
-            // Check if we can stand here: solid below, air at feet and head
-            if (below.getBlock().getType().isSolid() &&
-                !loc.getBlock().getType().isSolid() &&
-                !above.getBlock().getType().isSolid()) {
-
-                return loc;
-            }
-        }
-
-        // Fallback: return center with a higher Y to be safe
-        return new Location(world, x + 0.5, 100, z + 0.5);
-    }
-
     /**
      * Teleport visitors away from the island during slot switch
      * Visitors are non-team members who are currently on the island
@@ -946,6 +818,21 @@ public class SlotSwitchManager {
         return new File(path);
     }
 
+    /**
+     * Get the schematic files a slot is loaded from: one per enabled dimension,
+     * or the single slot file in single-dimension mode
+     */
+    private List<File> getSlotFiles(SlotData slotData) {
+        if (!isMultiDimensionEnabled()) {
+            return List.of(getSchematicFile(slotData));
+        }
+        List<File> files = new ArrayList<>();
+        for (DimensionConfig config : getEnabledDimensions()) {
+            files.add(getSchematicFile(slotData, config.getDimensionKey()));
+        }
+        return files;
+    }
+
     /**
      * Check if multi-dimension mode is enabled
      */
@@ -1178,9 +1065,15 @@ public class SlotSwitchManager {
         }
 
         // Load Nova blocks from slot storage (if any were saved for this slot)
-        Map<String, List<NovaBlockData>> dimensionBlocks = addon.getSlotManager()
-            .loadNovaBlocks(playerUUID, toSlotNumber);
+        restoreNovaBlocks(playerUUID, player, addon.getSlotManager().loadNovaBlocks(playerUUID, toSlotNumber));
+    }
 
+    /**
+     * Place Nova blocks back on the player's islands in every dimension they were captured from
+     *
+     * @param dimensionBlocks Captured blocks by dimension key, may be null
+     */
+    private void restoreNovaBlocks(UUID playerUUID, Player player, Map<String, List<NovaBlockData>> dimensionBlocks) {
         if (dimensionBlocks == null || dimensionBlocks.isEmpty()) {
             return;
         }
@@ -1238,253 +1131,377 @@ public class SlotSwitchManager {
     // ==================== MULTI-DIMENSION SUPPORT ====================
 
     /**
-     * Save island schematic for a specific dimension.
+     * Save all dimension islands to schematics. Dimensions are saved in parallel.
      *
      * @param playerUUID The player's UUID
      * @param slotData The slot data
-     * @param dimensionKey The dimension key
-     * @param world The dimension world
-     * @return true if save was successful
+     * @return Future completed with true if all saves were successful
      */
-    private boolean saveIslandToSchematicForDimension(UUID playerUUID, SlotData slotData,
-                                                       String dimensionKey, World world) {
-        try {
-            Island island = addon.getIslands().getIsland(world, playerUUID);
-            if (island == null) {
-                addon.log("No island found for player in dimension " + dimensionKey);
-                return true; // Not an error - player may not have island in this dimension
+    public CompletableFuture<Boolean> saveAllDimensionIslands(UUID playerUUID, SlotData slotData) {
+        if (!isMultiDimensionEnabled()) {
+            World world = getPrimaryWorld("saving schematic");
+            if (world == null) {
+                return CompletableFuture.completedFuture(false);
             }
+            return saveIslandAsync(playerUUID, slotData, "island", world, getSchematicFile(slotData), true);
+        }
 
-            Location center = island.getCenter();
-            if (center == null || center.getWorld() == null) {
-                return true;
-            }
+        return forAllDimensions("save", slotData, (dimensionKey, world) ->
+            saveIslandAsync(playerUUID, slotData, dimensionKey, world, getSchematicFile(slotData, dimensionKey), false));
+    }
 
-            int islandSpacing = addon.getIslandSpacing();
-            int protectionRange = island.getProtectionRange();
-            int range = Math.max(islandSpacing / 2, protectionRange);
+    /**
+     * Load all dimension islands from schematics. Dimensions are loaded in parallel.
+     *
+     * @param playerUUID The player's UUID
+     * @param slotData The slot data
+     * @return Future completed with true if all loads were successful
+     */
+    public CompletableFuture<Boolean> loadAllDimensionIslands(UUID playerUUID, SlotData slotData) {
+        if (!isMultiDimensionEnabled()) {
+            World world = getPrimaryWorld("loading schematic");
+            if (world == null) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return loadIslandAsync(playerUUID, slotData, "island", world, getSchematicFile(slotData), true);
+        }
 
-            File schematicFile = getSchematicFile(slotData, dimensionKey);
+        return forAllDimensions("load", slotData, (dimensionKey, world) ->
+            loadIslandAsync(playerUUID, slotData, dimensionKey, world, getSchematicFile(slotData, dimensionKey), false));
+    }
 
-            // Ensure parent directory exists
-            schematicFile.getParentFile().mkdirs();
+    /**
+     * Clear all dimension islands. Entities are removed on the main thread, then
+     * blocks are cleared for every dimension in parallel.
+     *
+     * @param playerUUID The player's UUID
+     * @param slotData The slot data
+     * @return Future completed with true if all clears were successful
+     */
+    public CompletableFuture<Boolean> clearAllDimensionIslands(UUID playerUUID, SlotData slotData) {
+        if (!isMultiDimensionEnabled()) {
+            World world = getPrimaryWorld("clearing");
+            if (world == null) {
+                return CompletableFuture.completedFuture(false);
+            }
+            return clearIslandAsync(playerUUID, slotData, "island", world, true);
+        }
 
-            // Save entities if on main thread
-            final int finalRange = range;
-            final Location finalCenter = center;
-            final World finalWorld = world;
+        return forAllDimensions("clear", slotData, (dimensionKey, world) ->
+            clearIslandAsync(playerUUID, slotData, dimensionKey, world, false));
+    }
 
-            if (Bukkit.isPrimaryThread()) {
-                addon.getEntityStorage().saveEntities(finalWorld, finalCenter, finalRange, schematicFile);
-            } else {
-                try {
-                    Bukkit.getScheduler().callSyncMethod(addon.getPlugin(), () -> {
-                        addon.getEntityStorage().saveEntities(finalWorld, finalCenter, finalRange, schematicFile);
-                        return true;
-                    }).get();
-                } catch (Exception e) {
-                    addon.logWarning("Failed to save entities for dimension " + dimensionKey + ": " + e.getMessage());
+    /**
+     * Save one island to a schematic. Entities are saved SEPARATELY on the main thread
+     * (FAWE entity handling is unreliable), then blocks are saved by the snapshot store,
+     * which only writes the chunk sections changed since the slot's last save.
+     *
+     * @param label Dimension key, or "island" in single-dimension mode
+     * @param required Whether a missing island is an error rather than nothing to save
+     */
+    private CompletableFuture<Boolean> saveIslandAsync(UUID playerUUID, SlotData slotData, String label,
+                                                      World world, File schematicFile, boolean required) {
+        return onMainThread(() -> {
+            Island island = addon.getIslands().getIsland(world, playerUUID);
+            if (island == null || island.getCenter() == null || island.getCenter().getWorld() == null) {
+                if (required) {
+                    addon.logError("Island not found for player: " + playerUUID + " in slot: " + slotData.getUniqueId());
+                } else {
+                    addon.log("No island found for player in dimension " + label);
                 }
+                return null;
             }
 
-            // Save blocks
-            boolean success = addon.getSchematicUtils().copyAndSave(center, range, true, schematicFile);
-            if (success) {
-                addon.log("Saved island schematic for " + dimensionKey + ": " + slotData.getUniqueId());
+            IslandRegion region = new IslandRegion(island.getCenter(), getIslandRange(island));
+            schematicFile.getParentFile().mkdirs();
+            try {
+                int saved = addon.getEntityStorage().saveEntities(world, region.center, region.range, schematicFile);
+                addon.log("Saved " + saved + " entities for " + label + ": " + slotData.getUniqueId());
+            } catch (Exception e) {
+                addon.logWarning("Failed to save entities for " + label + ": " + e.getMessage());
             }
-            return success;
-
-        } catch (Exception e) {
-            addon.logError("Failed to save schematic for dimension " + dimensionKey + ": " + e.getMessage());
+            return region;
+        }).thenCompose(region -> {
+            if (region == null) {
+                return CompletableFuture.completedFuture(!required);
+            }
+            return addon.getIslandSnapshotStore().save(region.center, region.range, schematicFile).thenApply(success -> {
+                if (success) {
+                    addon.log("Saved island schematic for " + label + ": " + slotData.getUniqueId());
+                }
+                return success;
+            });
+        }).exceptionally(e -> {
+            addon.logError("Failed to save schematic for " + label + " of slot " + slotData.getUniqueId() + ": " + e.getMessage());
             return false;
-        }
+        });
     }
 
     /**
-     * Load island schematic for a specific dimension.
+     * Paste one island from its schematic on a worker thread, then restore its
+     * entities on the main thread, time-sliced across ticks.
      *
-     * @param playerUUID The player's UUID
-     * @param slotData The slot data
-     * @param dimensionKey The dimension key
-     * @param world The dimension world
-     * @return true if load was successful
+     * @param label Dimension key, or "island" in single-dimension mode
+     * @param required Whether a missing schematic is an error rather than nothing to load
      */
-    private boolean loadSchematicForDimension(UUID playerUUID, SlotData slotData,
-                                               String dimensionKey, World world) {
-        try {
-            File schematicFile = getSchematicFile(slotData, dimensionKey);
-            if (!schematicFile.exists()) {
-                addon.log("No schematic file for dimension " + dimensionKey + " - skipping");
-                return true; // Not an error - may not have saved this dimension yet
+    private CompletableFuture<Boolean> loadIslandAsync(UUID playerUUID, SlotData slotData, String label,
+                                                      World world, File schematicFile, boolean required) {
+        if (!schematicFile.exists()) {
+            if (required) {
+                addon.logError("Schematic file not found for slot: " + slotData.getUniqueId());
+                return CompletableFuture.completedFuture(false);
             }
+            addon.log("No schematic file for dimension " + label + " - skipping");
+            return CompletableFuture.completedFuture(true); // Not an error - may not have saved this dimension yet
+        }
 
+        return onWorker(() -> {
             Island island = addon.getIslands().getIsland(world, playerUUID);
-            if (island == null) {
-                addon.logError("Island not found for player in dimension " + dimensionKey);
-                return false;
+            if (island == null || island.getCenter() == null || island.getCenter().getWorld() == null) {
+                addon.logError("Island not found for player: " + playerUUID + " in " + label);
+                return null;
             }
 
             Location center = island.getCenter();
-            if (center == null || center.getWorld() == null) {
-                return false;
+            if (!addon.getIslandSnapshotStore().paste(schematicFile, center)) {
+                addon.logError("Failed to paste schematic for " + label + " of slot " + slotData.getUniqueId());
+                return null;
             }
-
-            // Load and paste blocks
-            boolean success = addon.getSchematicUtils().loadAndPaste(schematicFile, center);
-            if (!success) {
-                addon.logError("Failed to paste schematic for dimension " + dimensionKey);
-                return false;
+            return center;
+        }).thenCompose(center -> {
+            if (center == null) {
+                return CompletableFuture.completedFuture(false);
             }
-
-            // Restore entities
-            final Location finalCenter = center;
-            final World finalWorld = world;
-
-            if (Bukkit.isPrimaryThread()) {
-                addon.getEntityStorage().loadEntities(finalWorld, finalCenter, schematicFile);
-            } else {
-                try {
-                    Bukkit.getScheduler().callSyncMethod(addon.getPlugin(), () -> {
-                        addon.getEntityStorage().loadEntities(finalWorld, finalCenter, schematicFile);
-                        return true;
-                    }).get();
-                } catch (Exception e) {
-                    addon.logWarning("Failed to restore entities for dimension " + dimensionKey + ": " + e.getMessage());
+            // Entities are spawned over several ticks; the stage finishes when the last one is in
+            return addon.getEntityStorage().loadEntities(world, center, schematicFile).handle((restored, e) -> {
+                if (e != null) {
+                    addon.logWarning("Failed to restore entities for " + label + ": " + e.getMessage());
+                } else {
+                    addon.log("Restored " + restored + " entities for " + label + ": " + slotData.getUniqueId());
                 }
-            }
-
-            addon.log("Loaded island schematic for " + dimensionKey + ": " + slotData.getUniqueId());
-            return true;
-
-        } catch (Exception e) {
-            addon.logError("Failed to load schematic for dimension " + dimensionKey + ": " + e.getMessage());
+                addon.log("Loaded island schematic for " + label + ": " + slotData.getUniqueId());
+                return true;
+            });
+        }).exceptionally(e -> {
+            addon.logError("Failed to load schematic for " + label + " of slot " + slotData.getUniqueId() + ": " + e.getMessage());
             return false;
-        }
+        });
     }
 
     /**
-     * Clear island blocks and entities for a specific dimension.
-     * Must be called from main thread.
+     * Remove one island's entities on the main thread, then clear its blocks on a worker thread.
      *
-     * @param playerUUID The player's UUID
-     * @param slotData The slot data
-     * @param dimensionKey The dimension key
-     * @param world The dimension world
-     * @return true if clear was successful
+     * @param label Dimension key, or "island" in single-dimension mode
+     * @param required Whether a missing island is an error rather than nothing to clear
      */
-    private boolean clearIslandForDimension(UUID playerUUID, SlotData slotData,
-                                             String dimensionKey, World world) {
-        try {
+    private CompletableFuture<Boolean> clearIslandAsync(UUID playerUUID, SlotData slotData, String label,
+                                                       World world, boolean required) {
+        return onMainThread(() -> {
             Island island = addon.getIslands().getIsland(world, playerUUID);
-            if (island == null) {
-                return true; // No island in this dimension
-            }
-
-            Location center = island.getCenter();
-            if (center == null || center.getWorld() == null) {
-                return true;
+            if (island == null || island.getCenter() == null || island.getCenter().getWorld() == null) {
+                if (required) {
+                    addon.logError("Island not found for player: " + playerUUID + " when clearing: " + slotData.getUniqueId());
+                }
+                return null;
             }
 
-            int islandSpacing = addon.getIslandSpacing();
-            int protectionRange = island.getProtectionRange();
-            int range = Math.max(islandSpacing / 2, protectionRange);
-
-            // Remove entities
-            addon.getWorldEditIntegration().removeEntitiesInRegion(world, center, range);
-
-            // Clear blocks
-            boolean success = addon.getSchematicUtils().clearRegion(center, range);
-            if (success) {
-                addon.log("Cleared island for " + dimensionKey + ": " + slotData.getUniqueId());
+            IslandRegion region = new IslandRegion(island.getCenter(), getIslandRange(island));
+            int removed = addon.getWorldEditIntegration().removeEntitiesInRegion(world, region.center, region.range);
+            addon.log("Removed " + removed + " entities for " + label + ": " + slotData.getUniqueId());
+            return region;
+        }).thenCompose(region -> {
+            if (region == null) {
+                return CompletableFuture.completedFuture(!required);
             }
-
-            return success;
-
-        } catch (Exception e) {
-            addon.logError("Failed to clear island for dimension " + dimensionKey + ": " + e.getMessage());
+            return onWorker(() -> {
+                boolean success = addon.getSchematicUtils().clearBlocks(region.center, region.range);
+                if (success) {
+                    addon.log("Cleared island for " + label + ": " + slotData.getUniqueId());
+                }
+                return success;
+            });
+        }).exceptionally(e -> {
+            addon.logError("Failed to clear island for " + label + " of slot " + slotData.getUniqueId() + ": " + e.getMessage());
             return false;
-        }
+        });
     }
 
     /**
-     * Save all dimension islands to schematics.
+     * Put the from-slot island back after a failed clear or load, so a failed switch leaves
+     * the player with the island they started with. Uses the schematics saved in step 2.
      *
-     * @param playerUUID The player's UUID
-     * @param slotData The slot data
-     * @return true if all saves were successful
+     * @return Future completed with true if the original island was restored in every dimension
      */
-    public boolean saveAllDimensionIslands(UUID playerUUID, SlotData slotData) {
-        if (!isMultiDimensionEnabled()) {
-            return saveIslandToSchematic(playerUUID, slotData);
-        }
+    private CompletableFuture<Boolean> rollbackSwitch(UUID playerUUID, Player player, SlotData fromSlot) {
+        addon.logWarning("Rolling back slot switch for " + player.getName() + " to slot " + fromSlot.getSlotNumber());
+        sendProgress(player, "&eRestoring your previous island...");
+        return clearAllDimensionIslands(playerUUID, fromSlot)
+            .thenCompose(cleared -> cleared
+                ? loadAllDimensionIslands(playerUUID, fromSlot)
+                : CompletableFuture.completedFuture(false))
+            .thenCompose(restored -> {
+                if (!restored) {
+                    addon.logError("Rollback failed for " + player.getName() + " slot " + fromSlot.getSlotNumber()
+                        + " - island may need restoring from backup");
+                    return CompletableFuture.completedFuture(false);
+                }
+                if (!isNovaEnabled()) {
+                    return CompletableFuture.completedFuture(true);
+                }
+                return onWorker(() -> {
+                    restoreNovaBlocksForSwitch(playerUUID, player, fromSlot.getSlotNumber());
+                    return true;
+                });
+            });
+    }
 
-        boolean success = true;
+    /**
+     * Run one phase of a switch for every enabled dimension at once, so the phase takes
+     * about as long as the slowest world rather than the sum of all of them.
+     *
+     * @param phase Name of the phase for logging
+     * @param slotData The slot being processed
+     * @param task Starts the work for one dimension
+     * @return Future completed with true if every dimension succeeded, or exceptionally with a
+     *         {@link PhaseTimeoutException} if the phase ran past its time limit
+     */
+    private CompletableFuture<Boolean> forAllDimensions(String phase, SlotData slotData, DimensionTask task) {
+        long start = System.currentTimeMillis();
         DimensionManager dimManager = addon.getDimensionManager();
+        Map<String, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
 
         for (DimensionConfig config : dimManager.getEnabledDimensions()) {
-            World world = dimManager.getWorld(config.getDimensionKey());
+            String dimensionKey = config.getDimensionKey();
+            World world = dimManager.getWorld(dimensionKey);
             if (world != null) {
-                if (!saveIslandToSchematicForDimension(playerUUID, slotData, config.getDimensionKey(), world)) {
-                    success = false;
-                }
+                results.put(dimensionKey, task.run(dimensionKey, world));
             }
         }
 
-        return success;
+        CompletableFuture<Void> all = CompletableFuture.allOf(results.values().toArray(new CompletableFuture[0]));
+        return all.copy()
+            .orTimeout(DIMENSION_PHASE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .handle((ignored, error) -> {
+                if (error instanceof TimeoutException) {
+                    addon.logError("Timed out after " + DIMENSION_PHASE_TIMEOUT_SECONDS + "s waiting for dimension "
+                        + phase + " of slot " + slotData.getUniqueId());
+                    // The per-dimension work keeps running; hand it back so nothing touches the island until it ends
+                    throw new PhaseTimeoutException(all);
+                }
+
+                List<String> failed = new ArrayList<>();
+                for (Map.Entry<String, CompletableFuture<Boolean>> entry : results.entrySet()) {
+                    CompletableFuture<Boolean> result = entry.getValue();
+                    if (!result.isDone() || result.isCompletedExceptionally() || !result.getNow(false)) {
+                        failed.add(entry.getKey());
+                    }
+                }
+
+                if (failed.isEmpty()) {
+                    addon.log("Finished " + phase + " of " + results.size() + " dimension(s) for slot "
+                        + slotData.getUniqueId() + " in " + (System.currentTimeMillis() - start) + "ms");
+                } else {
+                    addon.logError("Failed to " + phase + " dimension(s) " + failed + " for slot " + slotData.getUniqueId());
+                }
+                return failed.isEmpty();
+            });
+    }
+
+    private World getPrimaryWorld(String action) {
+        World world = addon.getGridManager().getBSkyBlockWorld();
+        if (world == null) {
+            addon.logError("BSkyBlock world not available for " + action);
+        }
+        return world;
     }
 
     /**
-     * Load all dimension islands from schematics.
-     *
-     * @param playerUUID The player's UUID
-     * @param slotData The slot data
-     * @return true if all loads were successful
+     * Starts one dimension's share of a switch phase
      */
-    public boolean loadAllDimensionIslands(UUID playerUUID, SlotData slotData) {
-        if (!isMultiDimensionEnabled()) {
-            return loadSchematicToWorld(playerUUID, slotData);
-        }
+    @FunctionalInterface
+    private interface DimensionTask {
+        CompletableFuture<Boolean> run(String dimensionKey, World world);
+    }
 
-        boolean success = true;
-        DimensionManager dimManager = addon.getDimensionManager();
+    /**
+     * Center and range of an island, resolved on the main thread for a worker to use
+     */
+    private static final class IslandRegion {
+        private final Location center;
+        private final int range;
 
-        for (DimensionConfig config : dimManager.getEnabledDimensions()) {
-            World world = dimManager.getWorld(config.getDimensionKey());
-            if (world != null) {
-                if (!loadSchematicForDimension(playerUUID, slotData, config.getDimensionKey(), world)) {
-                    success = false;
-                }
-            }
+        private IslandRegion(Location center, int range) {
+            this.center = center;
+            this.range = range;
         }
-
-        return success;
     }
 
     /**
-     * Clear all dimension islands.
-     * Must be called from main thread.
-     *
-     * @param playerUUID The player's UUID
-     * @param slotData The slot data
-     * @return true if all clears were successful
+     * One in-flight switch and how long each of its stages took
      */
-    public boolean clearAllDimensionIslands(UUID playerUUID, SlotData slotData) {
-        if (!isMultiDimensionEnabled()) {
-            return clearIslandBlocksAndEntities(playerUUID, slotData);
+    private static final class SwitchContext {
+        private final Player player;
+        private final SlotData fromSlot;
+        private final SlotData toSlot;
+        private final long startTime = System.currentTimeMillis();
+        // Nova machines removed from the current island in the prepare stage
+        private volatile Map<String, List<NovaBlockData>> capturedNova;
+        // Set once the clear stage starts, after which the world no longer holds the current island
+        private volatile boolean fromIslandCleared;
+        // Stages run one after another, each completing before the next starts
+        private final Map<String, Long> stepMillis = new LinkedHashMap<>();
+
+        private SwitchContext(Player player, SlotData fromSlot, SlotData toSlot) {
+            this.player = player;
+            this.fromSlot = fromSlot;
+            this.toSlot = toSlot;
         }
 
-        boolean success = true;
-        DimensionManager dimManager = addon.getDimensionManager();
+        private synchronized void recordStep(String step, long millis) {
+            stepMillis.put(step, millis);
+        }
 
-        for (DimensionConfig config : dimManager.getEnabledDimensions()) {
-            World world = dimManager.getWorld(config.getDimensionKey());
-            if (world != null) {
-                if (!clearIslandForDimension(playerUUID, slotData, config.getDimensionKey(), world)) {
-                    success = false;
+        private synchronized String describeTimings() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(System.currentTimeMillis() - startTime).append("ms (");
+            boolean first = true;
+            for (Map.Entry<String, Long> entry : stepMillis.entrySet()) {
+                if (!first) {
+                    sb.append(", ");
                 }
+                sb.append(entry.getKey()).append('=').append(entry.getValue()).append("ms");
+                first = false;
             }
+            return sb.append(')').toString();
         }
+    }
 
-        return success;
+    /**
+     * A switch stage reported failure
+     */
+    private static final class SwitchAbortedException extends RuntimeException {
+        private final String step;
+        private final boolean rollback;
+        // Work of a timed-out stage that is still running, or null
+        private final CompletableFuture<?> pending;
+
+        private SwitchAbortedException(String step, String playerMessage, boolean rollback, CompletableFuture<?> pending) {
+            super(playerMessage);
+            this.step = step;
+            this.rollback = rollback;
+            this.pending = pending;
+        }
+    }
+
+    /**
+     * A switch phase ran past its time limit while its work was still running
+     */
+    private static final class PhaseTimeoutException extends RuntimeException {
+        private final CompletableFuture<?> pending;
+
+        private PhaseTimeoutException(CompletableFuture<?> pending) {
+            super("Switch phase timed out");
+            this.pending = pending;
+        }
     }
 }
@@ -0,0 +1,200 @@
+package world.bentobox.islandselector.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import world.bentobox.islandselector.IslandSelector;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads a rectangle of chunks on the main thread without stalling it: chunks are loaded
+ * asynchronously and held with a plugin ticket, then read a few per tick within a time budget.
+ * The reader typically takes a {@link org.bukkit.ChunkSnapshot} for work on a worker thread.
+ * Results come back all at once, or streamed into a bounded queue as they are read.
+ */
+public final class ChunkReader {
+
+    // Main-thread time spent per tick reading chunks
+    private static final long BUDGET_NANOS = 5_000_000L;
+
+    private ChunkReader() {
+    }
+
+    /**
+     * Read every chunk in a rectangle. Call from any thread; the future completes on the main thread.
+     *
+     * @return Future completed with one result per chunk
+     */
+    public static <T> CompletableFuture<List<T>> read(IslandSelector addon, World world, int minChunkX, int minChunkZ,
+                                                      int maxChunkX, int maxChunkZ, Function<Chunk, T> reader) {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        loadChunks(addon, world, minChunkX, minChunkZ, maxChunkX, maxChunkZ, result,
+            chunks -> readChunks(addon, chunks, reader, result));
+        return result;
+    }
+
+    /**
+     * Read every chunk in a rectangle into a queue, for a worker that processes each one while
+     * later chunks are still being read. While the queue is full, reading waits a tick rather
+     * than read ahead. Call from any thread; the future completes on the main thread once every
+     * chunk is queued. Cancel it to stop reading, e.g. because the worker gave up.
+     *
+     * @param queue Bounded queue the results are offered to, in chunk order
+     * @return Future completed with the number of chunks queued
+     */
+    public static <T> CompletableFuture<Integer> stream(IslandSelector addon, World world, int minChunkX, int minChunkZ,
+                                                        int maxChunkX, int maxChunkZ, Function<Chunk, T> reader,
+                                                        BlockingQueue<T> queue) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        loadChunks(addon, world, minChunkX, minChunkZ, maxChunkX, maxChunkZ, result,
+            chunks -> streamChunks(addon, chunks, reader, queue, result));
+        return result;
+    }
+
+    /**
+     * Load every chunk in a rectangle in parallel and hold each with a plugin ticket, so work
+     * that follows - such as a paste - finds them loaded rather than loading them one by one
+     * on the main thread. Release them with {@link #release(IslandSelector, List)}.
+     * Call from any thread; the future completes on the main thread.
+     *
+     * @return Future completed with the held chunks
+     */
+    public static CompletableFuture<List<Chunk>> load(IslandSelector addon, World world, int minChunkX, int minChunkZ,
+                                                      int maxChunkX, int maxChunkZ) {
+        CompletableFuture<List<Chunk>> result = new CompletableFuture<>();
+        loadChunks(addon, world, minChunkX, minChunkZ, maxChunkX, maxChunkZ, result, result::complete);
+        return result;
+    }
+
+    /**
+     * Drop the tickets taken by {@link #load}, letting the chunks unload as usual. Call from any thread.
+     */
+    public static void release(IslandSelector addon, List<Chunk> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        runOnMain(addon, () -> {
+            for (Chunk chunk : chunks) {
+                chunk.removePluginChunkTicket(addon.getPlugin());
+            }
+        });
+    }
+
+    /**
+     * Load every chunk in a rectangle, then hand them to the main thread with a ticket held on each
+     */
+    private static void loadChunks(IslandSelector addon, World world, int minChunkX, int minChunkZ,
+                                   int maxChunkX, int maxChunkZ, CompletableFuture<?> result,
+                                   Consumer<List<Chunk>> then) {
+        runOnMain(addon, () -> {
+            List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    loads.add(world.getChunkAtAsync(chunkX, chunkZ).thenApply(chunk -> {
+                        // Keep it loaded until it is read
+                        chunk.addPluginChunkTicket(addon.getPlugin());
+                        return chunk;
+                    }));
+                }
+            }
+            CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((v, error) -> {
+                if (error != null) {
+                    for (CompletableFuture<Chunk> load : loads) {
+                        if (load.isDone() && !load.isCompletedExceptionally()) {
+                            load.join().removePluginChunkTicket(addon.getPlugin());
+                        }
+                    }
+                    result.completeExceptionally(error);
+                    return;
+                }
+                List<Chunk> chunks = new ArrayList<>(loads.size());
+                for (CompletableFuture<Chunk> load : loads) {
+                    chunks.add(load.join());
+                }
+                runOnMain(addon, () -> then.accept(chunks));
+            });
+        });
+    }
+
+    /**
+     * Read every chunk in a rectangle right away. Main thread only; loads chunks synchronously.
+     */
+    public static <T> List<T> readNow(World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ,
+                                      Function<Chunk, T> reader) {
+        List<T> results = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                results.add(reader.apply(world.getChunkAt(chunkX, chunkZ)));
+            }
+        }
+        return results;
+    }
+
+    private static <T> void readChunks(IslandSelector addon, List<Chunk> chunks, Function<Chunk, T> reader,
+                                       CompletableFuture<List<T>> result) {
+        List<T> results = new ArrayList<>(chunks.size());
+        Iterator<Chunk> pending = chunks.iterator();
+        Bukkit.getScheduler().runTaskTimer(addon.getPlugin(), task -> {
+            long deadline = System.nanoTime() + BUDGET_NANOS;
+            try {
+                while (pending.hasNext() && System.nanoTime() < deadline) {
+                    Chunk chunk = pending.next();
+                    results.add(reader.apply(chunk));
+                    chunk.removePluginChunkTicket(addon.getPlugin());
+                }
+            } catch (Exception e) {
+                task.cancel();
+                while (pending.hasNext()) {
+                    pending.next().removePluginChunkTicket(addon.getPlugin());
+                }
+                result.completeExceptionally(e);
+                return;
+            }
+            if (!pending.hasNext()) {
+                task.cancel();
+                result.complete(results);
+            }
+        }, 0L, 1L);
+    }
+
+    private static <T> void streamChunks(IslandSelector addon, List<Chunk> chunks, Function<Chunk, T> reader,
+                                         BlockingQueue<T> queue, CompletableFuture<Integer> result) {
+        Iterator<Chunk> pending = chunks.iterator();
+        Bukkit.getScheduler().runTaskTimer(addon.getPlugin(), task -> {
+            long deadline = System.nanoTime() + BUDGET_NANOS;
+            try {
+                // Only this task adds to the queue, so a free slot stays free until it is filled
+                while (!result.isDone() && pending.hasNext() && queue.remainingCapacity() > 0
+                        && System.nanoTime() < deadline) {
+                    Chunk chunk = pending.next();
+                    queue.add(reader.apply(chunk));
+                    chunk.removePluginChunkTicket(addon.getPlugin());
+                }
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+            if (result.isDone() || !pending.hasNext()) {
+                task.cancel();
+                while (pending.hasNext()) {
+                    pending.next().removePluginChunkTicket(addon.getPlugin());
+                }
+                result.complete(chunks.size());
+            }
+        }, 0L, 1L);
+    }
+
+    private static void runOnMain(IslandSelector addon, Runnable action) {
+        if (Bukkit.isPrimaryThread()) {
+            action.run();
+        } else {
+            Bukkit.getScheduler().runTask(addon.getPlugin(), action);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package world.bentobox.islandselector.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of decoded islands, bounded by an approximate byte size rather
+ * than an entry count, so a few big islands can't crowd out memory the way a fixed number
+ * of entries could.
+ *
+ * Each value is stored with the size the caller measured for it. Adding a value evicts the
+ * least recently used entries until the total fits the budget again; a value bigger than
+ * the whole budget is not cached at all. Thread-safe.
+ */
+public class ClipboardCache<K, V> {
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long bytes;
+
+        private Entry(V value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+
+    // Access order: iteration starts at the least recently used entry
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long budget;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * @param budget Maximum total size in bytes, 0 to cache nothing
+     */
+    public ClipboardCache(long budget) {
+        this.budget = Math.max(0, budget);
+    }
+
+    /**
+     * Look up a value, counting a hit or a miss
+     *
+     * @return The value, or null if it isn't cached
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value;
+    }
+
+    /**
+     * Look up a value without counting a hit or a miss, e.g. to reuse parts of it
+     *
+     * @return The value, or null if it isn't cached
+     */
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Whether a value is cached, without counting a hit or a miss or refreshing it
+     */
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Cache a value, replacing any value under the same key
+     *
+     * @param size Approximate size of the value in bytes
+     * @return true if the value was cached, false if it is bigger than the budget
+     */
+    public synchronized boolean put(K key, V value, long size) {
+        remove(key);
+        if (size > budget) {
+            return false;
+        }
+        entries.put(key, new Entry<>(value, size));
+        bytes += size;
+        trim();
+        return true;
+    }
+
+    /**
+     * Drop a value, e.g. because the file it was decoded from changed
+     */
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    /**
+     * Drop every value
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Change the budget, evicting entries if it shrank
+     */
+    public synchronized void setBudget(long budget) {
+        this.budget = Math.max(0, budget);
+        trim();
+    }
+
+    public synchronized long getBudget() {
+        return budget;
+    }
+
+    /**
+     * Total size of the cached values in bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private void remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        if (entry != null) {
+            bytes -= entry.bytes;
+        }
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (bytes > budget && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+}
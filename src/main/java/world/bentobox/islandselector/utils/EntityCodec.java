@@ -0,0 +1,406 @@
+package world.bentobox.islandselector.utils;
+
+import world.bentobox.islandselector.utils.EntityStorage.SerializedEntity;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary format for {@code .entities} files.
+ *
+ * Layout (big-endian, varints are unsigned LEB128):
+ * <pre>
+ *   header:  int magic, byte version, byte compression
+ *   frames:  byte tag, then
+ *              TAG_STRING - modified UTF-8 string, appended to the string table
+ *              TAG_ENTITY - varint length, entity payload
+ *              TAG_END    - nothing, ends the stream
+ * </pre>
+ * Entity types, names and other repeated strings are written once as string frames ahead
+ * of the first entity that uses them, then referenced by index, so the file can be written
+ * and read one entity at a time. Each entity is length-prefixed: a reader skips payload bytes
+ * it doesn't know about, and a payload that fails to decode loses only that entity.
+ *
+ * Files written before this format (GZIP'd Java serialization of a
+ * {@code List<SerializedEntity>}) are still read.
+ */
+public final class EntityCodec {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4953454E; // "ISEN"
+
+    private static final int COMPRESSION_NONE = 0;
+    private static final int COMPRESSION_DEFLATE = 1;
+
+    private static final int TAG_END = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TAG_ENTITY = 2;
+
+    private static final int F_CUSTOM_NAME = 1;
+    private static final int F_NAME_VISIBLE = 1 << 1;
+    private static final int F_LIVING = 1 << 2;
+    private static final int F_ADULT = 1 << 3;
+    private static final int F_AGE_LOCK = 1 << 4;
+    private static final int F_TAMED = 1 << 5;
+    private static final int F_OWNER = 1 << 6;
+    private static final int F_VILLAGER = 1 << 7;
+    private static final int F_TRADES = 1 << 8;
+    private static final int F_FRAME_ITEM = 1 << 9;
+    private static final int F_FRAME_FIXED = 1 << 10;
+    private static final int F_FRAME_VISIBLE = 1 << 11;
+    private static final int F_HANGING = 1 << 12;
+
+    private EntityCodec() {
+    }
+
+    /**
+     * Streams entities into the binary format. Must be closed to finish the file.
+     */
+    public static final class Writer implements AutoCloseable {
+        private final Deflater deflater;
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringIndex = new HashMap<>();
+        private final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(256);
+        private final DataOutputStream payload = new DataOutputStream(payloadBytes);
+        private int count;
+
+        /**
+         * @param target Stream to write to; closed with this writer
+         * @param compress Whether to deflate the frames (fastest level)
+         */
+        public Writer(OutputStream target, boolean compress) throws IOException {
+            DataOutputStream header = new DataOutputStream(target);
+            header.writeInt(MAGIC);
+            header.writeByte(VERSION);
+            header.writeByte(compress ? COMPRESSION_DEFLATE : COMPRESSION_NONE);
+            header.flush();
+            if (compress) {
+                deflater = new Deflater(Deflater.BEST_SPEED);
+                out = new DataOutputStream(new DeflaterOutputStream(target, deflater, 8192));
+            } else {
+                deflater = null;
+                out = new DataOutputStream(new java.io.BufferedOutputStream(target, 8192));
+            }
+        }
+
+        public void write(SerializedEntity entity) throws IOException {
+            payloadBytes.reset();
+            encode(entity);
+            payload.flush();
+            out.writeByte(TAG_ENTITY);
+            writeVarInt(out, payloadBytes.size());
+            payloadBytes.writeTo(out);
+            count++;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                out.writeByte(TAG_END);
+                out.close();
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+        }
+
+        private void encode(SerializedEntity e) throws IOException {
+            UUID owner = parseUUID(e.ownerUUID);
+            boolean villager = e.villagerProfession != null || e.villagerType != null
+                    || e.villagerLevel != 0 || e.villagerExperience != 0;
+            boolean living = e.health != 0 || e.maxHealth != 0 || e.remainingAir != 0 || e.noDamageTicks != 0
+                    || e.age != 0;
+
+            int flags = 0;
+            if (e.customName != null) flags |= F_CUSTOM_NAME;
+            if (e.customNameVisible) flags |= F_NAME_VISIBLE;
+            if (living) flags |= F_LIVING;
+            if (e.isAdult) flags |= F_ADULT;
+            if (e.ageLock) flags |= F_AGE_LOCK;
+            if (e.isTamed) flags |= F_TAMED;
+            if (owner != null) flags |= F_OWNER;
+            if (villager) flags |= F_VILLAGER;
+            if (e.villagerTrades != null) flags |= F_TRADES;
+            if (e.itemFrameData != null) flags |= F_FRAME_ITEM;
+            if (e.itemFrameFixed) flags |= F_FRAME_FIXED;
+            if (e.itemFrameVisible) flags |= F_FRAME_VISIBLE;
+            if (e.hangingFace != null) flags |= F_HANGING;
+
+            writeVarInt(payload, flags);
+            writeString(e.entityType);
+            payload.writeDouble(e.relX);
+            payload.writeDouble(e.relY);
+            payload.writeDouble(e.relZ);
+            payload.writeFloat(e.yaw);
+            payload.writeFloat(e.pitch);
+            payload.writeDouble(e.velX);
+            payload.writeDouble(e.velY);
+            payload.writeDouble(e.velZ);
+            if (e.customName != null) {
+                writeString(e.customName);
+            }
+            if (living) {
+                payload.writeDouble(e.health);
+                payload.writeDouble(e.maxHealth);
+                payload.writeInt(e.remainingAir);
+                payload.writeInt(e.noDamageTicks);
+                payload.writeInt(e.age);
+            }
+            if (owner != null) {
+                payload.writeLong(owner.getMostSignificantBits());
+                payload.writeLong(owner.getLeastSignificantBits());
+            }
+            if (villager) {
+                writeString(e.villagerProfession);
+                writeString(e.villagerType);
+                writeVarInt(payload, e.villagerLevel);
+                writeVarInt(payload, e.villagerExperience);
+            }
+            if (e.villagerTrades != null || e.itemFrameData != null) {
+                writeVarInt(payload, e.itemFormat);
+            }
+            if (e.villagerTrades != null) {
+                writeBytes(e.villagerTrades);
+            }
+            if (e.itemFrameData != null) {
+                writeBytes(e.itemFrameData);
+                writeVarInt(payload, e.itemFrameRotation);
+            }
+            if (e.hangingFace != null) {
+                writeString(e.hangingFace);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(payload, 0);
+                return;
+            }
+            Integer index = stringIndex.get(value);
+            if (index == null) {
+                index = stringIndex.size();
+                stringIndex.put(value, index);
+                // Defined in the main stream, so it lands ahead of the entity frame using it
+                out.writeByte(TAG_STRING);
+                out.writeUTF(value);
+            }
+            writeVarInt(payload, index + 1);
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            writeVarInt(payload, bytes.length);
+            payload.write(bytes);
+        }
+    }
+
+    /**
+     * Read an entity file in either the binary format or the legacy Java serialization format,
+     * handing each entity to the consumer as it is decoded.
+     *
+     * @param in Stream to read; not closed
+     * @param consumer Receives each decoded entity
+     * @return Number of entities that could not be decoded and were skipped
+     */
+    @SuppressWarnings("unchecked")
+    public static int read(InputStream in, Consumer<SerializedEntity> consumer) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, 8192);
+        buffered.mark(4);
+        DataInputStream header = new DataInputStream(buffered);
+        int magic = header.readInt();
+        if ((magic >>> 16) == 0x1F8B) {
+            // Legacy file - GZIP stream of a serialized List<SerializedEntity>
+            buffered.reset();
+            try (ObjectInputStream ois = new ObjectInputStream(new GZIPInputStream(buffered))) {
+                for (SerializedEntity entity : (List<SerializedEntity>) ois.readObject()) {
+                    consumer.accept(entity);
+                }
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new IOException("Unreadable legacy entity file: " + e.getMessage(), e);
+            }
+            return 0;
+        }
+        if (magic != MAGIC) {
+            throw new IOException("Not an entity file");
+        }
+        int version = header.readUnsignedByte();
+        if (version > VERSION) {
+            throw new IOException("Entity file format " + version + " is newer than supported (" + VERSION + ")");
+        }
+        int compression = header.readUnsignedByte();
+
+        Inflater inflater = null;
+        DataInputStream frames;
+        if (compression == COMPRESSION_DEFLATE) {
+            inflater = new Inflater();
+            frames = new DataInputStream(new InflaterInputStream(buffered, inflater, 8192));
+        } else if (compression == COMPRESSION_NONE) {
+            frames = header;
+        } else {
+            throw new IOException("Unknown entity file compression " + compression);
+        }
+
+        try {
+            List<String> strings = new ArrayList<>();
+            int skipped = 0;
+            while (true) {
+                int tag = frames.read();
+                if (tag == TAG_END) {
+                    return skipped;
+                }
+                if (tag == -1) {
+                    throw new EOFException("Entity file ended without an end marker");
+                }
+                if (tag == TAG_STRING) {
+                    strings.add(frames.readUTF());
+                } else if (tag == TAG_ENTITY) {
+                    byte[] bytes = new byte[readVarInt(frames)];
+                    frames.readFully(bytes);
+                    SerializedEntity entity;
+                    try {
+                        entity = decode(new DataInputStream(new ByteArrayInputStream(bytes)), strings);
+                    } catch (IOException | IndexOutOfBoundsException e) {
+                        skipped++;
+                        continue;
+                    }
+                    consumer.accept(entity);
+                } else {
+                    throw new IOException("Unknown entity file frame " + tag);
+                }
+            }
+        } finally {
+            if (inflater != null) {
+                inflater.end();
+            }
+        }
+    }
+
+    /**
+     * Read every entity in a file into a list
+     */
+    public static List<SerializedEntity> readAll(InputStream in) throws IOException {
+        List<SerializedEntity> entities = new ArrayList<>();
+        read(in, entities::add);
+        return entities;
+    }
+
+    private static SerializedEntity decode(DataInputStream in, List<String> strings) throws IOException {
+        SerializedEntity e = new SerializedEntity();
+        int flags = readVarInt(in);
+        e.entityType = readString(in, strings);
+        e.relX = in.readDouble();
+        e.relY = in.readDouble();
+        e.relZ = in.readDouble();
+        e.yaw = in.readFloat();
+        e.pitch = in.readFloat();
+        e.velX = in.readDouble();
+        e.velY = in.readDouble();
+        e.velZ = in.readDouble();
+        if ((flags & F_CUSTOM_NAME) != 0) {
+            e.customName = readString(in, strings);
+        }
+        e.customNameVisible = (flags & F_NAME_VISIBLE) != 0;
+        if ((flags & F_LIVING) != 0) {
+            e.health = in.readDouble();
+            e.maxHealth = in.readDouble();
+            e.remainingAir = in.readInt();
+            e.noDamageTicks = in.readInt();
+            e.age = in.readInt();
+        }
+        e.isAdult = (flags & F_ADULT) != 0;
+        e.ageLock = (flags & F_AGE_LOCK) != 0;
+        e.isTamed = (flags & F_TAMED) != 0;
+        if ((flags & F_OWNER) != 0) {
+            e.ownerUUID = new UUID(in.readLong(), in.readLong()).toString();
+        }
+        if ((flags & F_VILLAGER) != 0) {
+            e.villagerProfession = readString(in, strings);
+            e.villagerType = readString(in, strings);
+            e.villagerLevel = readVarInt(in);
+            e.villagerExperience = readVarInt(in);
+        }
+        if ((flags & (F_TRADES | F_FRAME_ITEM)) != 0) {
+            e.itemFormat = readVarInt(in);
+        }
+        if ((flags & F_TRADES) != 0) {
+            e.villagerTrades = readBytes(in);
+        }
+        if ((flags & F_FRAME_ITEM) != 0) {
+            e.itemFrameData = readBytes(in);
+            e.itemFrameRotation = readVarInt(in);
+        }
+        e.itemFrameFixed = (flags & F_FRAME_FIXED) != 0;
+        e.itemFrameVisible = (flags & F_FRAME_VISIBLE) != 0;
+        if ((flags & F_HANGING) != 0) {
+            e.hangingFace = readString(in, strings);
+        }
+        // Anything after this was added by a newer writer and is ignored
+        return e;
+    }
+
+    private static String readString(DataInputStream in, List<String> strings) throws IOException {
+        int ref = readVarInt(in);
+        return ref == 0 ? null : strings.get(ref - 1);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    private static UUID parseUUID(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package world.bentobox.islandselector.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import world.bentobox.islandselector.IslandSelector;
+import world.bentobox.islandselector.utils.EntityStorage.SerializedEntity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Spawns restored entities a few at a time so a big farm doesn't land in a single tick.
+ *
+ * A main-thread timer spends at most {@code performance.entity-restore-budget-ms} per tick
+ * working through queued restores in arrival order, always spawning at least one entity per
+ * tick so it keeps moving. Within a restore, entities closest to an online player in that
+ * world are spawned first. The timer only runs while there is work queued.
+ */
+public class EntityRestoreQueue {
+
+    private final IslandSelector addon;
+    private final EntityStorage storage;
+
+    // Main thread only
+    private final Deque<Job> jobs = new ArrayDeque<>();
+    private BukkitTask task;
+
+    /**
+     * One island's worth of entities to spawn
+     */
+    private static final class Job {
+        private final World world;
+        private final Location center;
+        private final List<SerializedEntity> entities;
+        private final CompletableFuture<Integer> future = new CompletableFuture<>();
+        private int next;
+        private int restored;
+
+        private Job(World world, Location center, List<SerializedEntity> entities) {
+            this.world = world;
+            this.center = center;
+            this.entities = entities;
+        }
+    }
+
+    EntityRestoreQueue(IslandSelector addon, EntityStorage storage) {
+        this.addon = addon;
+        this.storage = storage;
+    }
+
+    /**
+     * Queue entities to be spawned around a center. Must be called from the main thread.
+     *
+     * @return Future completed on the main thread with the number of entities spawned
+     */
+    CompletableFuture<Integer> submit(World world, Location center, List<SerializedEntity> entities) {
+        if (entities.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        Job job = new Job(world, center, prioritise(world, center, entities));
+        jobs.add(job);
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(addon.getPlugin(), this::tick, 0L, 1L);
+        }
+        return job.future;
+    }
+
+    /**
+     * Number of entities still waiting to be spawned
+     */
+    public int getPendingCount() {
+        int pending = 0;
+        for (Job job : jobs) {
+            pending += job.entities.size() - job.next;
+        }
+        return pending;
+    }
+
+    /**
+     * Spawn everything still queued right now. Called on shutdown so captured entities aren't lost.
+     */
+    public void flush() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        while (!jobs.isEmpty()) {
+            Job job = jobs.peek();
+            while (job.next < job.entities.size()) {
+                spawnNext(job);
+            }
+            finish(jobs.poll());
+        }
+    }
+
+    private void tick() {
+        long deadline = System.nanoTime() + Math.max(1, addon.getSettings().getEntityRestoreBudgetMs()) * 1_000_000L;
+        boolean spawnedAny = false;
+        while (!jobs.isEmpty() && (!spawnedAny || System.nanoTime() < deadline)) {
+            Job job = jobs.peek();
+            if (job.next < job.entities.size()) {
+                spawnNext(job);
+                spawnedAny = true;
+            }
+            if (job.next >= job.entities.size()) {
+                finish(jobs.poll());
+            }
+        }
+        if (jobs.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void spawnNext(Job job) {
+        SerializedEntity serialized = job.entities.get(job.next++);
+        try {
+            if (storage.spawnEntity(serialized, job.world, job.center) != null) {
+                job.restored++;
+            }
+        } catch (Exception e) {
+            addon.logWarning("Failed to restore entity " + serialized.entityType + ": " + e.getMessage());
+        }
+    }
+
+    private void finish(Job job) {
+        addon.log("Restored " + job.restored + " of " + job.entities.size() + " entities around "
+            + job.center.getBlockX() + "," + job.center.getBlockZ());
+        job.future.complete(job.restored);
+    }
+
+    /**
+     * Order entities by distance to the nearest online player in the target world, so whatever
+     * a player can see comes back first. Keeps the original order if nobody is there.
+     */
+    private List<SerializedEntity> prioritise(World world, Location center, List<SerializedEntity> entities) {
+        List<double[]> players = new ArrayList<>();
+        for (Player player : world.getPlayers()) {
+            Location loc = player.getLocation();
+            players.add(new double[]{loc.getX() - center.getX(), loc.getZ() - center.getZ()});
+        }
+        List<SerializedEntity> ordered = new ArrayList<>(entities);
+        if (players.isEmpty()) {
+            return ordered;
+        }
+        ordered.sort(Comparator.comparingDouble(e -> {
+            double best = Double.MAX_VALUE;
+            for (double[] p : players) {
+                double dx = e.relX - p[0];
+                double dz = e.relZ - p[1];
+                best = Math.min(best, dx * dx + dz * dz);
+            }
+            return best;
+        }));
+        return ordered;
+    }
+}
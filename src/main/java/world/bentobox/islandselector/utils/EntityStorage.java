@@ -17,13 +17,11 @@ import org.bukkit.entity.Villager;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.MerchantRecipe;
 import org.bukkit.util.io.BukkitObjectInputStream;
-import org.bukkit.util.io.BukkitObjectOutputStream;
 import world.bentobox.islandselector.IslandSelector;
 
 import java.io.*;
 import java.util.*;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Handles entity serialization and storage for slot switching and relocation.
@@ -37,7 +35,12 @@ import java.util.zip.GZIPOutputStream;
  */
 public class EntityStorage {
 
+    // Item encodings for villager trades and item frame contents
+    static final int ITEM_FORMAT_BUKKIT = 0; // BukkitObjectOutputStream - older captures only
+    static final int ITEM_FORMAT_PAPER = 1;  // ItemStack.serializeAsBytes
+
     private final IslandSelector addon;
+    private final EntityRestoreQueue restoreQueue;
 
     // Cached max health attribute - determined at runtime for MC version compatibility
     // MC 1.21+ uses MAX_HEALTH (and Attribute is an interface), older versions use GENERIC_MAX_HEALTH (enum)
@@ -93,6 +96,14 @@ public class EntityStorage {
 
     public EntityStorage(IslandSelector addon) {
         this.addon = addon;
+        this.restoreQueue = new EntityRestoreQueue(addon, this);
+    }
+
+    /**
+     * Get the queue that spawns restored entities across ticks
+     */
+    public EntityRestoreQueue getRestoreQueue() {
+        return restoreQueue;
     }
 
     // ==================== MC VERSION COMPATIBILITY HELPERS ====================
@@ -219,29 +230,14 @@ public class EntityStorage {
             return captured;
         }
 
-        int minX = center.getBlockX() - range;
-        int maxX = center.getBlockX() + range;
-        int minZ = center.getBlockZ() - range;
-        int maxZ = center.getBlockZ() + range;
-
-        for (Entity entity : world.getEntities()) {
-            if (entity instanceof Player) {
-                continue;
-            }
-
-            Location loc = entity.getLocation();
-
-            if (loc.getBlockX() >= minX && loc.getBlockX() <= maxX &&
-                loc.getBlockZ() >= minZ && loc.getBlockZ() <= maxZ) {
-
-                try {
-                    SerializedEntity serialized = serializeEntity(entity, center);
-                    if (serialized != null) {
-                        captured.add(serialized);
-                    }
-                } catch (Exception e) {
-                    addon.logWarning("Failed to capture entity " + entity.getType() + ": " + e.getMessage());
+        for (Entity entity : getEntitiesInRegion(world, center, range)) {
+            try {
+                SerializedEntity serialized = serializeEntity(entity, center);
+                if (serialized != null) {
+                    captured.add(serialized);
                 }
+            } catch (Exception e) {
+                addon.logWarning("Failed to capture entity " + entity.getType() + ": " + e.getMessage());
             }
         }
 
@@ -252,48 +248,37 @@ public class EntityStorage {
     /**
      * Restore entities from an in-memory capture at a new location.
      * This is used for relocation where entities were captured with captureEntitiesInMemory.
-     * Must be called from the main thread.
+     * Must be called from the main thread. Entities are spawned over as many ticks as
+     * the restore budget needs.
      *
      * NOTE: This does NOT clear existing entities first - call removeEntities() before this if needed.
      *
      * @param capturedEntities The list from captureEntitiesInMemory
      * @param newCenter The new center location to restore at
-     * @return Number of entities restored
+     * @return Future completed on the main thread with the number of entities restored
      */
-    public int restoreEntitiesInMemory(List<Object> capturedEntities, Location newCenter) {
+    public CompletableFuture<Integer> restoreEntitiesInMemory(List<Object> capturedEntities, Location newCenter) {
         if (capturedEntities == null || capturedEntities.isEmpty() || newCenter == null) {
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
         if (!Bukkit.isPrimaryThread()) {
             addon.logError("EntityStorage.restoreEntitiesInMemory must be called from main thread!");
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
         World world = newCenter.getWorld();
         if (world == null) {
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
-        int restored = 0;
+        List<SerializedEntity> entities = new ArrayList<>(capturedEntities.size());
         for (Object obj : capturedEntities) {
-            if (!(obj instanceof SerializedEntity)) {
-                continue;
-            }
-
-            SerializedEntity serialized = (SerializedEntity) obj;
-            try {
-                Entity entity = deserializeEntity(serialized, world, newCenter);
-                if (entity != null) {
-                    restored++;
-                }
-            } catch (Exception e) {
-                addon.logWarning("Failed to restore entity " + serialized.entityType + ": " + e.getMessage());
+            if (obj instanceof SerializedEntity) {
+                entities.add((SerializedEntity) obj);
             }
         }
-
-        addon.log("Restored " + restored + " of " + capturedEntities.size() + " entities from memory");
-        return restored;
+        return restoreQueue.submit(world, newCenter, entities);
     }
 
     // ==================== FILE-BASED SAVE/LOAD ====================
@@ -319,51 +304,31 @@ public class EntityStorage {
             return -1;
         }
 
-        List<SerializedEntity> entities = new ArrayList<>();
-
-        int minX = center.getBlockX() - range;
-        int maxX = center.getBlockX() + range;
-        int minZ = center.getBlockZ() - range;
-        int maxZ = center.getBlockZ() + range;
-
-        for (Entity entity : world.getEntities()) {
-            // Skip players
-            if (entity instanceof Player) {
-                continue;
-            }
-
-            Location loc = entity.getLocation();
-
-            // Check if entity is within the region
-            if (loc.getBlockX() >= minX && loc.getBlockX() <= maxX &&
-                loc.getBlockZ() >= minZ && loc.getBlockZ() <= maxZ) {
-
+        // Stream each entity straight to the file as it is serialized
+        File entityFile = getEntityFile(file);
+        entityFile.getParentFile().mkdirs();
+        List<SerializedEntity> saved = new ArrayList<>();
+        try (EntityCodec.Writer writer = new EntityCodec.Writer(new FileOutputStream(entityFile), true)) {
+            for (Entity entity : getEntitiesInRegion(world, center, range)) {
+                SerializedEntity serialized;
                 try {
-                    SerializedEntity serialized = serializeEntity(entity, center);
-                    if (serialized != null) {
-                        entities.add(serialized);
-                    }
+                    serialized = serializeEntity(entity, center);
                 } catch (Exception e) {
                     addon.logWarning("Failed to serialize entity " + entity.getType() + ": " + e.getMessage());
+                    continue;
+                }
+                if (serialized != null) {
+                    writer.write(serialized);
+                    saved.add(serialized);
                 }
-            }
-        }
-
-        // Save to file
-        File entityFile = getEntityFile(file);
-        try {
-            entityFile.getParentFile().mkdirs();
-            try (FileOutputStream fos = new FileOutputStream(entityFile);
-                 GZIPOutputStream gzos = new GZIPOutputStream(fos);
-                 ObjectOutputStream oos = new ObjectOutputStream(gzos)) {
-
-                oos.writeObject(entities);
             }
 
-            addon.log("Saved " + entities.size() + " entities to " + entityFile.getName());
-            return entities.size();
+            addon.log("Saved " + writer.getCount() + " entities to " + entityFile.getName());
+            cacheEntities(entityFile, saved);
+            return writer.getCount();
 
         } catch (Exception e) {
+            cacheEntities(entityFile, null);
             addon.logError("Failed to save entities: " + e.getMessage());
             e.printStackTrace();
             return -1;
@@ -372,45 +337,28 @@ public class EntityStorage {
 
     /**
      * Load entities from a file and spawn them in the world.
-     * Must be called from the main thread.
-     *
-     * IMPORTANT: This method assumes the area has already been cleared of entities!
-     * Call removeEntities() before calling this method to prevent duplication.
+     * Can be called from any thread: the file is read on the calling thread, and the area is
+     * cleared and entities spawned on the main thread over as many ticks as the restore budget needs.
      *
      * @param world The world to spawn entities in
      * @param center The center location (entities are spawned relative to this)
      * @param file The schematic file (will look for .entities file)
-     * @return Number of entities restored, or -1 on error
+     * @return Future completed with the number of entities restored, or -1 on error
      */
-    @SuppressWarnings("unchecked")
-    public int loadEntities(World world, Location center, File file) {
+    public CompletableFuture<Integer> loadEntities(World world, Location center, File file) {
         if (world == null || center == null) {
-            return -1;
-        }
-
-        // Ensure we're on the main thread
-        if (!Bukkit.isPrimaryThread()) {
-            addon.logError("EntityStorage.loadEntities must be called from main thread!");
-            return -1;
+            return CompletableFuture.completedFuture(-1);
         }
 
         File entityFile = getEntityFile(file);
         if (!entityFile.exists()) {
             addon.log("No entity file found: " + entityFile.getName() + " (this is normal for new islands)");
-            return 0;
+            return CompletableFuture.completedFuture(0);
         }
 
-        List<SerializedEntity> entities;
-        try (FileInputStream fis = new FileInputStream(entityFile);
-             GZIPInputStream gzis = new GZIPInputStream(fis);
-             ObjectInputStream ois = new ObjectInputStream(gzis)) {
-
-            entities = (List<SerializedEntity>) ois.readObject();
-
-        } catch (Exception e) {
-            addon.logError("Failed to load entities: " + e.getMessage());
-            e.printStackTrace();
-            return -1;
+        List<SerializedEntity> entities = readEntities(entityFile);
+        if (entities == null) {
+            return CompletableFuture.completedFuture(-1);
         }
 
         // Calculate the range based on saved entities (approximate)
@@ -423,27 +371,84 @@ public class EntityStorage {
             }
             maxRange = (int) maxDist + 10;
         }
+        final int clearRange = maxRange;
 
-        // CRITICAL: Remove any existing entities in the area FIRST to prevent duplication
-        // This handles cases where FAWE might have already placed some entities
-        addon.log("Clearing existing entities before restoration to prevent duplication...");
-        int removedBeforeRestore = removeEntities(world, center, maxRange);
-        addon.log("Removed " + removedBeforeRestore + " existing entities before restoring saved entities");
-
-        int restored = 0;
-        for (SerializedEntity serialized : entities) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        Runnable restore = () -> {
             try {
-                Entity entity = deserializeEntity(serialized, world, center);
-                if (entity != null) {
-                    restored++;
-                }
+                // CRITICAL: Remove any existing entities in the area FIRST to prevent duplication
+                // This handles cases where FAWE might have already placed some entities
+                addon.log("Clearing existing entities before restoration to prevent duplication...");
+                int removedBeforeRestore = removeEntities(world, center, clearRange);
+                addon.log("Removed " + removedBeforeRestore + " existing entities before restoring saved entities");
+
+                restoreQueue.submit(world, center, entities).whenComplete((restored, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(restored);
+                    }
+                });
             } catch (Exception e) {
-                addon.logWarning("Failed to restore entity " + serialized.entityType + ": " + e.getMessage());
+                result.completeExceptionally(e);
+            }
+        };
+        if (Bukkit.isPrimaryThread()) {
+            restore.run();
+        } else {
+            Bukkit.getScheduler().runTask(addon.getPlugin(), restore);
+        }
+        return result;
+    }
+
+    /**
+     * Read an entity file, or take the entities from the slot island cache if they're still there
+     *
+     * @return The entities, or null on error
+     */
+    private List<SerializedEntity> readEntities(File entityFile) {
+        IslandSnapshotStore snapshotStore = addon.getIslandSnapshotStore();
+        List<SerializedEntity> cached = snapshotStore != null ? snapshotStore.getCachedEntities(entityFile) : null;
+        if (cached != null) {
+            return cached;
+        }
+        List<SerializedEntity> entities = readEntityFile(entityFile);
+        if (entities != null) {
+            cacheEntities(entityFile, entities);
+        }
+        return entities;
+    }
+
+    /**
+     * Read an entity file. Safe on any thread.
+     *
+     * @return The entities, or null on error
+     */
+    List<SerializedEntity> readEntityFile(File entityFile) {
+        // Reads both the binary format and older Java-serialized files
+        List<SerializedEntity> entities = new ArrayList<>();
+        try (FileInputStream fis = new FileInputStream(entityFile)) {
+            int skipped = EntityCodec.read(fis, entities::add);
+            if (skipped > 0) {
+                addon.logWarning("Skipped " + skipped + " unreadable entities in " + entityFile.getName());
             }
+
+        } catch (Exception e) {
+            addon.logError("Failed to load entities: " + e.getMessage());
+            e.printStackTrace();
+            return null;
         }
+        return entities;
+    }
 
-        addon.log("Restored " + restored + " of " + entities.size() + " entities from " + entityFile.getName());
-        return restored;
+    /**
+     * Keep a slot's entity list decoded for its next load, or forget it if null
+     */
+    private void cacheEntities(File entityFile, List<SerializedEntity> entities) {
+        IslandSnapshotStore snapshotStore = addon.getIslandSnapshotStore();
+        if (snapshotStore != null) {
+            snapshotStore.cacheEntities(entityFile, entities);
+        }
     }
 
     /**
@@ -467,25 +472,8 @@ public class EntityStorage {
             return 0;
         }
 
-        int minX = center.getBlockX() - range;
-        int maxX = center.getBlockX() + range;
-        int minZ = center.getBlockZ() - range;
-        int maxZ = center.getBlockZ() + range;
-
-        // Collect entities to remove (to avoid ConcurrentModificationException)
-        List<Entity> toRemove = new ArrayList<>();
-
-        for (Entity entity : world.getEntities()) {
-            if (entity instanceof Player) {
-                continue;
-            }
-
-            Location loc = entity.getLocation();
-            if (loc.getBlockX() >= minX && loc.getBlockX() <= maxX &&
-                loc.getBlockZ() >= minZ && loc.getBlockZ() <= maxZ) {
-                toRemove.add(entity);
-            }
-        }
+        // Collected up front (to avoid ConcurrentModificationException)
+        List<Entity> toRemove = getEntitiesInRegion(world, center, range);
 
         int removed = 0;
         for (Entity entity : toRemove) {
@@ -515,10 +503,62 @@ public class EntityStorage {
         return removed;
     }
 
+    /**
+     * Find all non-player entities in a region by walking only the chunks that overlap it,
+     * so the cost scales with the island rather than with every entity in the world.
+     * Must be called from the main thread.
+     *
+     * Chunks that aren't loaded are skipped rather than loaded: their entities are still
+     * on disk, out of the world, and come back with the chunk. The skipped count is logged.
+     *
+     * @param world The world
+     * @param center The center location
+     * @param range The range from center
+     * @return Entities inside the region, in a list safe to modify while removing them
+     */
+    public List<Entity> getEntitiesInRegion(World world, Location center, int range) {
+        List<Entity> found = new ArrayList<>();
+        if (world == null || center == null) {
+            return found;
+        }
+
+        int minX = center.getBlockX() - range;
+        int maxX = center.getBlockX() + range;
+        int minZ = center.getBlockZ() - range;
+        int maxZ = center.getBlockZ() + range;
+
+        int unloaded = 0;
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                if (!world.isChunkLoaded(chunkX, chunkZ)) {
+                    unloaded++;
+                    continue;
+                }
+                for (Entity entity : world.getChunkAt(chunkX, chunkZ).getEntities()) {
+                    if (entity instanceof Player) {
+                        continue;
+                    }
+                    // Edge chunks stick out past the region
+                    Location loc = entity.getLocation();
+                    if (loc.getBlockX() >= minX && loc.getBlockX() <= maxX &&
+                        loc.getBlockZ() >= minZ && loc.getBlockZ() <= maxZ) {
+                        found.add(entity);
+                    }
+                }
+            }
+        }
+
+        if (unloaded > 0) {
+            addon.log("Skipped " + unloaded + " unloaded chunk(s) around " + center.getBlockX() + "," + center.getBlockZ()
+                + " - their entities stay stored with the chunk");
+        }
+        return found;
+    }
+
     /**
      * Get the entity file path from a schematic file path
      */
-    private File getEntityFile(File schematicFile) {
+    static File getEntityFile(File schematicFile) {
         String path = schematicFile.getAbsolutePath();
         if (path.endsWith(".schem")) {
             path = path.substring(0, path.length() - 6) + ".entities";
@@ -599,23 +639,24 @@ public class EntityStorage {
                 if (recipes != null && !recipes.isEmpty()) {
                     try {
                         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        try (BukkitObjectOutputStream boos = new BukkitObjectOutputStream(baos)) {
-                            boos.writeInt(recipes.size());
+                        try (DataOutputStream dos = new DataOutputStream(baos)) {
+                            dos.writeInt(recipes.size());
                             for (MerchantRecipe recipe : recipes) {
                                 // Serialize each recipe component
-                                boos.writeObject(recipe.getResult());
-                                boos.writeInt(recipe.getIngredients().size());
+                                writeItem(dos, recipe.getResult());
+                                dos.writeInt(recipe.getIngredients().size());
                                 for (ItemStack ingredient : recipe.getIngredients()) {
-                                    boos.writeObject(ingredient);
+                                    writeItem(dos, ingredient);
                                 }
-                                boos.writeInt(recipe.getUses());
-                                boos.writeInt(recipe.getMaxUses());
-                                boos.writeBoolean(recipe.hasExperienceReward());
-                                boos.writeInt(recipe.getVillagerExperience());
-                                boos.writeFloat(recipe.getPriceMultiplier());
+                                dos.writeInt(recipe.getUses());
+                                dos.writeInt(recipe.getMaxUses());
+                                dos.writeBoolean(recipe.hasExperienceReward());
+                                dos.writeInt(recipe.getVillagerExperience());
+                                dos.writeFloat(recipe.getPriceMultiplier());
                             }
                         }
                         serialized.villagerTrades = baos.toByteArray();
+                        serialized.itemFormat = ITEM_FORMAT_PAPER;
                     } catch (Exception e) {
                         addon.logWarning("Failed to serialize villager trades: " + e.getMessage());
                     }
@@ -629,11 +670,8 @@ public class EntityStorage {
                 if (item != null && item.getType() != org.bukkit.Material.AIR) {
                     // Serialize the item to bytes
                     try {
-                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        try (BukkitObjectOutputStream boos = new BukkitObjectOutputStream(baos)) {
-                            boos.writeObject(item);
-                        }
-                        serialized.itemFrameData = baos.toByteArray();
+                        serialized.itemFrameData = item.serializeAsBytes();
+                        serialized.itemFormat = ITEM_FORMAT_PAPER;
                         serialized.itemFrameRotation = frame.getRotation().ordinal();
                         serialized.itemFrameFixed = frame.isFixed();
                         serialized.itemFrameVisible = frame.isVisible();
@@ -662,9 +700,9 @@ public class EntityStorage {
     }
 
     /**
-     * Deserialize and spawn an entity
+     * Deserialize and spawn an entity. Used by the restore queue.
      */
-    private Entity deserializeEntity(SerializedEntity serialized, World world, Location regionCenter) {
+    Entity spawnEntity(SerializedEntity serialized, World world, Location regionCenter) {
         EntityType type;
         try {
             type = EntityType.valueOf(serialized.entityType);
@@ -803,30 +841,31 @@ public class EntityStorage {
             if (serialized.villagerTrades != null) {
                 try {
                     ByteArrayInputStream bais = new ByteArrayInputStream(serialized.villagerTrades);
-                    try (BukkitObjectInputStream bois = new BukkitObjectInputStream(bais)) {
-                        int recipeCount = bois.readInt();
-                        List<MerchantRecipe> recipes = new ArrayList<>();
-
-                        for (int i = 0; i < recipeCount; i++) {
-                            ItemStack result = (ItemStack) bois.readObject();
-                            int ingredientCount = bois.readInt();
-                            List<ItemStack> ingredients = new ArrayList<>();
-                            for (int j = 0; j < ingredientCount; j++) {
-                                ingredients.add((ItemStack) bois.readObject());
-                            }
-                            int uses = bois.readInt();
-                            int maxUses = bois.readInt();
-                            boolean expReward = bois.readBoolean();
-                            int villagerExp = bois.readInt();
-                            float priceMultiplier = bois.readFloat();
-
-                            MerchantRecipe recipe = new MerchantRecipe(result, uses, maxUses, expReward, villagerExp, priceMultiplier);
-                            recipe.setIngredients(ingredients);
-                            recipes.add(recipe);
+                    boolean paper = serialized.itemFormat == ITEM_FORMAT_PAPER;
+                    // Older captures wrote the items with Bukkit object streams
+                    DataInput in = paper ? new DataInputStream(bais) : new BukkitObjectInputStream(bais);
+                    int recipeCount = in.readInt();
+                    List<MerchantRecipe> recipes = new ArrayList<>();
+
+                    for (int i = 0; i < recipeCount; i++) {
+                        ItemStack result = readItem(in, paper);
+                        int ingredientCount = in.readInt();
+                        List<ItemStack> ingredients = new ArrayList<>();
+                        for (int j = 0; j < ingredientCount; j++) {
+                            ingredients.add(readItem(in, paper));
                         }
-
-                        villager.setRecipes(recipes);
+                        int uses = in.readInt();
+                        int maxUses = in.readInt();
+                        boolean expReward = in.readBoolean();
+                        int villagerExp = in.readInt();
+                        float priceMultiplier = in.readFloat();
+
+                        MerchantRecipe recipe = new MerchantRecipe(result, uses, maxUses, expReward, villagerExp, priceMultiplier);
+                        recipe.setIngredients(ingredients);
+                        recipes.add(recipe);
                     }
+
+                    villager.setRecipes(recipes);
                 } catch (Exception e) {
                     addon.logWarning("Failed to restore villager trades: " + e.getMessage());
                 }
@@ -837,11 +876,16 @@ public class EntityStorage {
         if (entity instanceof ItemFrame && serialized.itemFrameData != null) {
             try {
                 ItemFrame frame = (ItemFrame) entity;
-                ByteArrayInputStream bais = new ByteArrayInputStream(serialized.itemFrameData);
-                try (BukkitObjectInputStream bois = new BukkitObjectInputStream(bais)) {
-                    ItemStack item = (ItemStack) bois.readObject();
-                    frame.setItem(item, false); // false = don't play sound
+                ItemStack item;
+                if (serialized.itemFormat == ITEM_FORMAT_PAPER) {
+                    item = ItemStack.deserializeBytes(serialized.itemFrameData);
+                } else {
+                    ByteArrayInputStream bais = new ByteArrayInputStream(serialized.itemFrameData);
+                    try (BukkitObjectInputStream bois = new BukkitObjectInputStream(bais)) {
+                        item = (ItemStack) bois.readObject();
+                    }
                 }
+                frame.setItem(item, false); // false = don't play sound
 
                 // Restore rotation
                 if (serialized.itemFrameRotation >= 0 && serialized.itemFrameRotation < org.bukkit.Rotation.values().length) {
@@ -868,6 +912,35 @@ public class EntityStorage {
         return entity;
     }
 
+    /**
+     * Write an item as a length-prefixed Paper byte blob (length 0 for an empty slot)
+     */
+    private static void writeItem(DataOutputStream out, ItemStack item) throws IOException {
+        if (item == null || item.getType().isAir()) {
+            out.writeInt(0);
+            return;
+        }
+        byte[] bytes = item.serializeAsBytes();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read an item written by {@link #writeItem}, or a Bukkit-serialized one from an older capture
+     */
+    private static ItemStack readItem(DataInput in, boolean paper) throws IOException, ClassNotFoundException {
+        if (!paper) {
+            return (ItemStack) ((ObjectInput) in).readObject();
+        }
+        int length = in.readInt();
+        if (length == 0) {
+            return new ItemStack(org.bukkit.Material.AIR);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return ItemStack.deserializeBytes(bytes);
+    }
+
     /**
      * Serializable container for entity data.
      *
@@ -875,7 +948,7 @@ public class EntityStorage {
      * existing .entities files. New fields must be Optional or have sensible
      * defaults when null (which is what happens when deserializing old files).
      */
-    private static class SerializedEntity implements Serializable {
+    static class SerializedEntity implements Serializable {
         // Keep at 1 for backwards compatibility - new fields will just be null/default when loading old files
         private static final long serialVersionUID = 1L;
 
@@ -916,5 +989,8 @@ public class EntityStorage {
 
         // Hanging entity facing direction (will be null when loading old entity files - that's OK)
         String hangingFace;        // BlockFace name
+
+        // How villagerTrades and itemFrameData encode items (0 in old entity files)
+        int itemFormat;            // ITEM_FORMAT_BUKKIT or ITEM_FORMAT_PAPER
     }
 }
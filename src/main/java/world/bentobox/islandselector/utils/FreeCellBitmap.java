@@ -0,0 +1,229 @@
+package world.bentobox.islandselector.utils;
+
+/**
+ * One bit per grid cell inside fixed bounds, set when the cell is free to claim.
+ *
+ * Each row of the grid starts on a fresh word so a row segment can be scanned a
+ * word at a time. Used by GridManager for constant-time free-cell counts and for
+ * "nearest free location" queries during auto-assignment.
+ */
+public class FreeCellBitmap {
+
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+    private final int width;
+    private final int wordsPerRow;
+    private final long[] words;
+    private int freeCount;
+
+    /**
+     * Create a bitmap covering the given inclusive bounds with every cell free
+     */
+    public FreeCellBitmap(int minX, int minZ, int maxX, int maxZ) {
+        if (maxX < minX || maxZ < minZ) {
+            throw new IllegalArgumentException("Invalid bounds " + minX + "," + minZ + " to " + maxX + "," + maxZ);
+        }
+        this.minX = minX;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxZ = maxZ;
+        this.width = maxX - minX + 1;
+        int height = maxZ - minZ + 1;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.words = new long[Math.multiplyExact(wordsPerRow, height)];
+
+        // Mark every in-bounds cell free, leaving the padding bits at the end of each row clear
+        long lastWordMask = (width & 63) == 0 ? -1L : (1L << (width & 63)) - 1;
+        for (int row = 0; row < height; row++) {
+            int base = row * wordsPerRow;
+            for (int w = 0; w < wordsPerRow - 1; w++) {
+                words[base + w] = -1L;
+            }
+            words[base + wordsPerRow - 1] = lastWordMask;
+        }
+        this.freeCount = width * height;
+    }
+
+    /**
+     * Check if this bitmap was built for exactly these bounds
+     */
+    public boolean hasBounds(int minX, int minZ, int maxX, int maxZ) {
+        return this.minX == minX && this.minZ == minZ && this.maxX == maxX && this.maxZ == maxZ;
+    }
+
+    /**
+     * Check if a cell lies within the bitmap bounds
+     */
+    public boolean contains(int x, int z) {
+        return x >= minX && x <= maxX && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Check if a cell is free. Cells outside the bounds are never free.
+     */
+    public synchronized boolean isFree(int x, int z) {
+        if (!contains(x, z)) {
+            return false;
+        }
+        int col = x - minX;
+        return (words[wordIndex(z - minZ, col)] & (1L << col)) != 0;
+    }
+
+    /**
+     * Mark a cell free or taken. Cells outside the bounds are ignored.
+     */
+    public synchronized void setFree(int x, int z, boolean free) {
+        if (!contains(x, z)) {
+            return;
+        }
+        int col = x - minX;
+        int index = wordIndex(z - minZ, col);
+        long bit = 1L << col;
+        boolean wasFree = (words[index] & bit) != 0;
+        if (wasFree == free) {
+            return;
+        }
+        if (free) {
+            words[index] |= bit;
+            freeCount++;
+        } else {
+            words[index] &= ~bit;
+            freeCount--;
+        }
+    }
+
+    /**
+     * Number of free cells within the bounds
+     */
+    public synchronized int getFreeCount() {
+        return freeCount;
+    }
+
+    /**
+     * Find the free cell closest (by straight-line distance) to the given cell.
+     * The search origin may lie outside the bounds.
+     *
+     * @return The nearest free coordinate, or null if the grid is full
+     */
+    public synchronized GridCoordinate findNearestFree(int x, int z) {
+        if (freeCount == 0) {
+            return null;
+        }
+
+        long bestDistSq = Long.MAX_VALUE;
+        int bestX = 0;
+        int bestZ = 0;
+
+        // Walk square rings outwards. A ring at Chebyshev radius r can't hold anything
+        // closer than r, so stop once r exceeds the best straight-line distance found.
+        int maxRadius = Math.max(Math.max(Math.abs(x - minX), Math.abs(x - maxX)),
+                Math.max(Math.abs(z - minZ), Math.abs(z - maxZ)));
+        for (int r = 0; r <= maxRadius; r++) {
+            if (bestDistSq != Long.MAX_VALUE && (long) r * r > bestDistSq) {
+                break;
+            }
+
+            // Top and bottom edges of the ring: scan the row segment for the cell nearest x
+            for (int side = 0; side < (r == 0 ? 1 : 2); side++) {
+                int rowZ = side == 0 ? z - r : z + r;
+                if (rowZ < minZ || rowZ > maxZ) {
+                    continue;
+                }
+                int from = Math.max(x - r, minX);
+                int to = Math.min(x + r, maxX);
+                if (from > to) {
+                    continue;
+                }
+                int candidate = nearestInRow(rowZ - minZ, from - minX, to - minX, Math.min(Math.max(x, from), to) - minX);
+                if (candidate >= 0) {
+                    long dx = candidate + minX - (long) x;
+                    long distSq = dx * dx + (long) r * r;
+                    if (distSq < bestDistSq) {
+                        bestDistSq = distSq;
+                        bestX = candidate + minX;
+                        bestZ = rowZ;
+                    }
+                }
+            }
+
+            // Left and right edges, excluding the corners already covered above
+            for (int side = 0; r > 0 && side < 2; side++) {
+                int colX = side == 0 ? x - r : x + r;
+                if (colX < minX || colX > maxX) {
+                    continue;
+                }
+                int fromZ = Math.max(z - r + 1, minZ);
+                int toZ = Math.min(z + r - 1, maxZ);
+                int col = colX - minX;
+                long bit = 1L << col;
+                for (int cz = fromZ; cz <= toZ; cz++) {
+                    if ((words[wordIndex(cz - minZ, col)] & bit) != 0) {
+                        long dz = cz - (long) z;
+                        long distSq = (long) r * r + dz * dz;
+                        if (distSq < bestDistSq) {
+                            bestDistSq = distSq;
+                            bestX = colX;
+                            bestZ = cz;
+                        }
+                    }
+                }
+            }
+        }
+
+        return bestDistSq == Long.MAX_VALUE ? null : new GridCoordinate(bestX, bestZ);
+    }
+
+    /**
+     * Find the set bit in [from, to] of a row that is closest to the pivot column
+     * @return The column index, or -1 if none is set
+     */
+    private int nearestInRow(int row, int from, int to, int pivot) {
+        int after = nextSetInRow(row, pivot, to);
+        int before = pivot > from ? previousSetInRow(row, pivot - 1, from) : -1;
+        if (after < 0) {
+            return before;
+        }
+        if (before < 0) {
+            return after;
+        }
+        return (pivot - before) <= (after - pivot) ? before : after;
+    }
+
+    private int nextSetInRow(int row, int from, int to) {
+        int base = row * wordsPerRow;
+        int w = from >>> 6;
+        long word = words[base + w] & (-1L << (from & 63));
+        while (true) {
+            if (word != 0) {
+                int col = (w << 6) + Long.numberOfTrailingZeros(word);
+                return col <= to ? col : -1;
+            }
+            if (++w > (to >>> 6)) {
+                return -1;
+            }
+            word = words[base + w];
+        }
+    }
+
+    private int previousSetInRow(int row, int from, int to) {
+        int base = row * wordsPerRow;
+        int w = from >>> 6;
+        long word = words[base + w] & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (word != 0) {
+                int col = (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+                return col >= to ? col : -1;
+            }
+            if (--w < (to >>> 6)) {
+                return -1;
+            }
+            word = words[base + w];
+        }
+    }
+
+    private int wordIndex(int row, int col) {
+        return row * wordsPerRow + (col >>> 6);
+    }
+}
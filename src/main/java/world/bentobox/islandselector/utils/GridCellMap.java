@@ -0,0 +1,283 @@
+package world.bentobox.islandselector.utils;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Open-addressing hash map keyed by a grid cell's packed (x, z) coordinate.
+ *
+ * Replaces string-keyed maps like {@code Map<String, GridLocation>} so that lookups
+ * build no key objects and iteration walks two flat arrays instead of hash buckets.
+ *
+ * Reads are lock-free and may run on any thread. Writes are serialized on the map.
+ * Cells are only ever added or replaced (a cleared grid location is reset in place,
+ * never untracked), which is what lets readers probe without locking.
+ *
+ * @param <V> The value stored per cell
+ */
+public class GridCellMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    // Fibonacci hashing multiplier - spreads neighbouring cells across the table
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private volatile Table<V> table;
+    private volatile int size;
+
+    public GridCellMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Number of cells expected, used to size the table up front
+     */
+    public GridCellMap(int expectedSize) {
+        this.table = new Table<>(capacityFor(expectedSize));
+    }
+
+    /**
+     * Pack a cell coordinate into the long key used by this map
+     */
+    public static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Unpack the X coordinate from a key
+     */
+    public static int keyX(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Unpack the Z coordinate from a key
+     */
+    public static int keyZ(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Get the value for a cell, or null if the cell is not tracked
+     */
+    public V get(int x, int z) {
+        return table.get(key(x, z));
+    }
+
+    /**
+     * Get the value for a coordinate, or null if the cell is not tracked
+     */
+    public V get(GridCoordinate coord) {
+        return get(coord.getX(), coord.getZ());
+    }
+
+    /**
+     * Check if a cell is tracked
+     */
+    public boolean containsKey(int x, int z) {
+        return get(x, z) != null;
+    }
+
+    /**
+     * Store a value for a cell
+     * @return The previous value, or null
+     */
+    public synchronized V put(int x, int z, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("GridCellMap does not accept null values");
+        }
+        long key = key(x, z);
+        V previous = table.put(key, value);
+        if (previous == null) {
+            growIfNeeded(++size);
+        }
+        return previous;
+    }
+
+    /**
+     * Store a value for a coordinate
+     * @return The previous value, or null
+     */
+    public V put(GridCoordinate coord, V value) {
+        return put(coord.getX(), coord.getZ(), value);
+    }
+
+    /**
+     * Get the value for a coordinate, creating it if the cell is not tracked yet
+     */
+    public V computeIfAbsent(GridCoordinate coord, Function<GridCoordinate, V> factory) {
+        V existing = get(coord);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (this) {
+            existing = get(coord);
+            if (existing != null) {
+                return existing;
+            }
+            V created = factory.apply(coord);
+            put(coord, created);
+            return created;
+        }
+    }
+
+    /**
+     * Drop every cell
+     */
+    public synchronized void clear() {
+        table = new Table<>(MIN_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Number of tracked cells
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Live, read-only view of the values in table order.
+     * Iteration is weakly consistent: cells added during iteration may or may not be seen.
+     */
+    public Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new ValueIterator<>(table);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private void growIfNeeded(int newSize) {
+        Table<V> current = table;
+        if (newSize <= current.threshold) {
+            return;
+        }
+        Table<V> grown = new Table<>(current.capacity() << 1);
+        for (int i = 0; i < current.capacity(); i++) {
+            V value = current.values.get(i);
+            if (value != null) {
+                grown.put(current.keys[i], value);
+            }
+        }
+        // Publish only once fully populated so lock-free readers never see a partial table
+        table = grown;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = (int) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR);
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * One generation of backing storage. A slot is empty while its value is null;
+     * the key is written before the value is published, so any reader that sees the
+     * value also sees the key.
+     */
+    private static final class Table<V> {
+        private final long[] keys;
+        private final AtomicReferenceArray<V> values;
+        private final int shift;
+        private final int mask;
+        private final int threshold;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        private int capacity() {
+            return keys.length;
+        }
+
+        private int slot(long key) {
+            return (int) ((key * GOLDEN) >>> shift);
+        }
+
+        private V get(long key) {
+            for (int i = slot(key); ; i = (i + 1) & mask) {
+                V value = values.get(i);
+                if (value == null) {
+                    return null;
+                }
+                if (keys[i] == key) {
+                    return value;
+                }
+            }
+        }
+
+        private V put(long key, V value) {
+            for (int i = slot(key); ; i = (i + 1) & mask) {
+                V existing = values.get(i);
+                if (existing == null) {
+                    keys[i] = key;
+                    values.lazySet(i, value);
+                    return null;
+                }
+                if (keys[i] == key) {
+                    values.lazySet(i, value);
+                    return existing;
+                }
+            }
+        }
+    }
+
+    private static final class ValueIterator<V> implements Iterator<V> {
+        private final Table<V> table;
+        private int index = -1;
+        private V next;
+
+        private ValueIterator(Table<V> table) {
+            this.table = table;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (++index < table.capacity()) {
+                V value = table.values.get(index);
+                if (value != null) {
+                    next = value;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public V next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            V current = next;
+            advance();
+            return current;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package world.bentobox.islandselector.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import world.bentobox.islandselector.IslandSelector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The part of an island region that actually holds blocks, so copies and clears can skip
+ * the empty air above, below and around a skyblock island.
+ *
+ * Measured from chunk section palettes: a section holding only air is skipped without
+ * looking at its blocks. The occupied sections are kept as cuboids, one per run of
+ * consecutive sections in a chunk column, and the box is their union, clipped to the
+ * region. Anything outside them is known to be air, so clearing just the occupied
+ * cuboids empties the whole region and a copy of the box pastes back exactly.
+ */
+public final class IslandBounds {
+
+    private final int minX, minY, minZ, maxX, maxY, maxZ;
+    private final int minSectionY;
+
+    private int minChunkX = Integer.MAX_VALUE;
+    private int maxChunkX = Integer.MIN_VALUE;
+    private int minChunkZ = Integer.MAX_VALUE;
+    private int maxChunkZ = Integer.MIN_VALUE;
+    private int minSection = Integer.MAX_VALUE;
+    private int maxSection = Integer.MIN_VALUE;
+    private final List<int[]> occupiedCuboids = new ArrayList<>();
+
+    /**
+     * Start measuring a region whose bottom is the world's lowest block
+     */
+    public IslandBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.minSectionY = minY >> 4;
+    }
+
+    /**
+     * Add one chunk of the region
+     *
+     * @param occupied Whether each section holds anything but air, counted up from the world's lowest section
+     */
+    public void include(int chunkX, int chunkZ, boolean[] occupied) {
+        int runStart = -1;
+        for (int section = 0; section <= occupied.length; section++) {
+            boolean filled = section < occupied.length && occupied[section];
+            if (filled && runStart < 0) {
+                runStart = section;
+            } else if (!filled && runStart >= 0) {
+                addRun(chunkX, chunkZ, runStart, section - 1);
+                runStart = -1;
+            }
+        }
+    }
+
+    private void addRun(int chunkX, int chunkZ, int firstSection, int lastSection) {
+        minSection = Math.min(minSection, firstSection);
+        maxSection = Math.max(maxSection, lastSection);
+        minChunkX = Math.min(minChunkX, chunkX);
+        maxChunkX = Math.max(maxChunkX, chunkX);
+        minChunkZ = Math.min(minChunkZ, chunkZ);
+        maxChunkZ = Math.max(maxChunkZ, chunkZ);
+        occupiedCuboids.add(new int[]{
+            Math.max(minX, chunkX << 4),
+            Math.max(minY, (minSectionY + firstSection) << 4),
+            Math.max(minZ, chunkZ << 4),
+            Math.min(maxX, (chunkX << 4) + 15),
+            Math.min(maxY, ((minSectionY + lastSection) << 4) + 15),
+            Math.min(maxZ, (chunkZ << 4) + 15)
+        });
+    }
+
+    /**
+     * The occupied sections, each run of consecutive sections in a chunk column merged
+     * into one cuboid clipped to the region
+     *
+     * @return Cuboids of {minX, minY, minZ, maxX, maxY, maxZ}, empty if the region is all air
+     */
+    public List<int[]> getOccupiedCuboids() {
+        return Collections.unmodifiableList(occupiedCuboids);
+    }
+
+    /**
+     * The occupied box, clipped to the region
+     *
+     * @return {minX, minY, minZ, maxX, maxY, maxZ}, or null if the region is all air
+     */
+    public int[] getBox() {
+        if (minSection == Integer.MAX_VALUE) {
+            return null;
+        }
+        return new int[]{
+            Math.max(minX, minChunkX << 4),
+            Math.max(minY, (minSectionY + minSection) << 4),
+            Math.max(minZ, minChunkZ << 4),
+            Math.min(maxX, (maxChunkX << 4) + 15),
+            Math.min(maxY, ((minSectionY + maxSection) << 4) + 15),
+            Math.min(maxZ, (maxChunkZ << 4) + 15)
+        };
+    }
+
+    /**
+     * Measure the occupied part of a full-height island region. Blocks until the chunks are
+     * read - a few per tick from a worker thread, all at once on the main thread.
+     */
+    public static IslandBounds measure(IslandSelector addon, World world, int minX, int minZ, int maxX, int maxZ) {
+        IslandBounds bounds = new IslandBounds(minX, world.getMinHeight(), minZ, maxX, world.getMaxHeight() - 1, maxZ);
+        List<ChunkSnapshot> snapshots = Bukkit.isPrimaryThread()
+            ? ChunkReader.readNow(world, minX >> 4, minZ >> 4, maxX >> 4, maxZ >> 4,
+                chunk -> chunk.getChunkSnapshot(false, false, false))
+            : ChunkReader.read(addon, world, minX >> 4, minZ >> 4, maxX >> 4, maxZ >> 4,
+                chunk -> chunk.getChunkSnapshot(false, false, false)).join();
+
+        int sections = ((world.getMaxHeight() - 1) >> 4) - (world.getMinHeight() >> 4) + 1;
+        for (ChunkSnapshot snapshot : snapshots) {
+            boolean[] occupied = new boolean[sections];
+            for (int section = 0; section < sections; section++) {
+                occupied[section] = !snapshot.isSectionEmpty(section);
+            }
+            bounds.include(snapshot.getX(), snapshot.getZ(), occupied);
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,272 @@
+package world.bentobox.islandselector.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A saved island as a list of sections in the {@link SectionStore}: where each section goes
+ * relative to the island center, and the content hash of what goes there.
+ *
+ * Written in place of the full schematic for slots and backups, at the same path, so every
+ * file name, listing and timestamp stays as it was. Older files holding a real schematic are
+ * told apart by their header. Layout (big-endian): {@code int magic, int version}, then deflated:
+ * <pre>
+ *   int hashCount, hashCount x 16-byte hash,
+ *   int sectionCount, sectionCount x (int relX, int relY, int relZ,
+ *                                     byte sizeX, byte sizeY, byte sizeZ, int hashIndex)
+ * </pre>
+ */
+public final class IslandSnapshot {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x49534953; // "ISIS"
+    static final int HASH_BYTES = 16;
+
+    /**
+     * Where one section goes and what it holds
+     */
+    public static final class Section {
+        private final int relX;
+        private final int relY;
+        private final int relZ;
+        private final int sizeX;
+        private final int sizeY;
+        private final int sizeZ;
+        private final String hash;
+
+        public Section(int relX, int relY, int relZ, int sizeX, int sizeY, int sizeZ, String hash) {
+            this.relX = relX;
+            this.relY = relY;
+            this.relZ = relZ;
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+            this.sizeZ = sizeZ;
+            this.hash = hash;
+        }
+
+        public int getRelX() {
+            return relX;
+        }
+
+        public int getRelY() {
+            return relY;
+        }
+
+        public int getRelZ() {
+            return relZ;
+        }
+
+        public int getSizeX() {
+            return sizeX;
+        }
+
+        public int getSizeY() {
+            return sizeY;
+        }
+
+        public int getSizeZ() {
+            return sizeZ;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+    }
+
+    private final List<Section> sections;
+
+    public IslandSnapshot(List<Section> sections) {
+        this.sections = sections;
+    }
+
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    /**
+     * Every distinct section hash this snapshot refers to
+     */
+    public Set<String> getHashes() {
+        Set<String> hashes = new LinkedHashSet<>();
+        for (Section section : sections) {
+            hashes.add(section.hash);
+        }
+        return hashes;
+    }
+
+    /**
+     * Whether a file holds a snapshot rather than a schematic
+     */
+    public static boolean isSnapshot(File file) {
+        if (!file.isFile() || file.length() < 8) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Write the snapshot atomically (temp file, then rename)
+     */
+    public void write(File file) throws IOException {
+        Map<String, Integer> hashIndex = new HashMap<>();
+        List<String> hashes = new ArrayList<>();
+        for (Section section : sections) {
+            if (hashIndex.putIfAbsent(section.hash, hashes.size()) == null) {
+                hashes.add(section.hash);
+            }
+        }
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream header = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                DeflaterOutputStream body = new DeflaterOutputStream(header, deflater);
+                DataOutputStream out = new DataOutputStream(body);
+                out.writeInt(hashes.size());
+                for (String hash : hashes) {
+                    out.write(fromHex(hash));
+                }
+                out.writeInt(sections.size());
+                for (Section section : sections) {
+                    out.writeInt(section.relX);
+                    out.writeInt(section.relY);
+                    out.writeInt(section.relZ);
+                    out.writeByte(section.sizeX);
+                    out.writeByte(section.sizeY);
+                    out.writeByte(section.sizeZ);
+                    out.writeInt(hashIndex.get(section.hash));
+                }
+                out.flush();
+                body.finish();
+            } finally {
+                deflater.end();
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a snapshot
+     *
+     * @throws IOException if the file is missing, not a snapshot or damaged
+     */
+    public static IslandSnapshot read(File file) throws IOException {
+        try (DataInputStream header = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (header.readInt() != MAGIC) {
+                throw new IOException("Not an island snapshot: " + file.getName());
+            }
+            int version = header.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported island snapshot version " + version + ": " + file.getName());
+            }
+            DataInputStream in = new DataInputStream(new InflaterInputStream(header));
+            List<String> hashes = readHashTable(in, file);
+
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Corrupt island snapshot: " + file.getName());
+            }
+            List<Section> sections = new ArrayList<>(Math.min(count, 1 << 16));
+            for (int i = 0; i < count; i++) {
+                int relX = in.readInt();
+                int relY = in.readInt();
+                int relZ = in.readInt();
+                int sizeX = in.readUnsignedByte();
+                int sizeY = in.readUnsignedByte();
+                int sizeZ = in.readUnsignedByte();
+                int index = in.readInt();
+                if (index < 0 || index >= hashes.size()) {
+                    throw new IOException("Corrupt island snapshot: " + file.getName());
+                }
+                sections.add(new Section(relX, relY, relZ, sizeX, sizeY, sizeZ, hashes.get(index)));
+            }
+            // Reading to the end of the stream checks its trailer, so a cut-off file isn't half-loaded
+            if (in.read() != -1) {
+                throw new IOException("Corrupt island snapshot: " + file.getName());
+            }
+            return new IslandSnapshot(sections);
+        } catch (EOFException e) {
+            throw new IOException("Truncated island snapshot: " + file.getName(), e);
+        }
+    }
+
+    /**
+     * Read just the section hashes a snapshot refers to
+     *
+     * @throws IOException if the file is not a snapshot or damaged
+     */
+    public static Set<String> readHashes(File file) throws IOException {
+        try (DataInputStream header = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (header.readInt() != MAGIC || header.readInt() != VERSION) {
+                throw new IOException("Not an island snapshot: " + file.getName());
+            }
+            return new LinkedHashSet<>(readHashTable(new DataInputStream(new InflaterInputStream(header)), file));
+        } catch (EOFException e) {
+            throw new IOException("Truncated island snapshot: " + file.getName(), e);
+        }
+    }
+
+    private static List<String> readHashTable(DataInputStream in, File file) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt island snapshot: " + file.getName());
+        }
+        List<String> hashes = new ArrayList<>(Math.min(count, 1 << 16));
+        byte[] hash = new byte[HASH_BYTES];
+        for (int i = 0; i < count; i++) {
+            in.readFully(hash);
+            hashes.add(toHex(hash));
+        }
+        return hashes;
+    }
+
+    static byte[] fromHex(String hex) {
+        if (hex.length() != HASH_BYTES * 2) {
+            throw new IllegalArgumentException("Bad section hash: " + hex);
+        }
+        byte[] bytes = new byte[HASH_BYTES];
+        for (int i = 0; i < HASH_BYTES; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hex.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
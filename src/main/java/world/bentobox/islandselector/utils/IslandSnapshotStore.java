@@ -0,0 +1,936 @@
+package world.bentobox.islandselector.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import world.bentobox.islandselector.IslandSelector;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Saves slot and backup islands as {@link IslandSnapshot}s: a list of chunk sections kept once
+ * each in the shared {@link SectionStore}, so the sky, ocean and untouched terrain repeated
+ * across every slot and backup cost nothing after the first copy.
+ *
+ * Sections are encoded straight from chunk snapshots taken on the main thread, a few chunks
+ * per tick, and hashed and written on a worker thread while later chunks are still being read.
+ * A small queue between the two keeps only a few chunks in memory at a time; only sections
+ * holding tile entities go through a FAWE copy, since their NBT isn't in a chunk snapshot. Snapshots are written at the usual
+ * {@code .schem} path, and files from before the store still paste as plain schematics.
+ *
+ * Each snapshot is written with a {@link SectionManifest} of its sections' fingerprints and
+ * hashes, so the next save of the same island only encodes, hashes and writes the sections that
+ * changed, also after a restart; the rest take their hash from the manifest. A file saved for the
+ * first time, like a new backup, starts from the newest manifest beside it. Slot islands always
+ * use the store; with {@code section-store-enabled} off, only backups are saved as full schematics.
+ *
+ * Slot islands are also kept decoded in a {@link ClipboardCache}, together with their entity
+ * lists, so switching back to a recent slot skips reading and inflating its sections. Saving a
+ * slot replaces its entry with what was just written; deleting it drops the entry.
+ * A slot about to be loaded can be read ahead with {@link #prefetch(File)}: the next paste
+ * takes the prefetched island instead of reading the file.
+ */
+public class IslandSnapshotStore {
+
+    private static final String AIR = "minecraft:air";
+
+    // Chunk snapshots read ahead of the encoder while saving; reading waits when it is full
+    private static final int SAVE_QUEUE_CHUNKS = 16;
+
+    private final IslandSelector addon;
+    private final SectionStore sectionStore;
+
+    // BlockData#getAsString is slow enough to matter across a whole island
+    private final Map<BlockData, String> stateStrings = new ConcurrentHashMap<>();
+    private final Map<Biome, String> biomeKeys = new ConcurrentHashMap<>();
+
+    // Fingerprint keys of the strings above, stable across restarts like the manifests they go into
+    private final Map<BlockData, Long> stateKeys = new ConcurrentHashMap<>();
+    private final Map<Biome, Long> biomeFingerprintKeys = new ConcurrentHashMap<>();
+
+    // Decoded slot islands keyed by their file, and entity lists keyed by their entity file
+    private final ClipboardCache<File, CachedIsland> cache = new ClipboardCache<>(0);
+    // Slot islands and entity lists read ahead of a likely paste; taken by the paste, or discarded
+    private final Map<File, CompletableFuture<CachedIsland>> prefetches = new ConcurrentHashMap<>();
+
+    public IslandSnapshotStore(IslandSelector addon) {
+        this.addon = addon;
+        this.sectionStore = new SectionStore(addon);
+    }
+
+    /**
+     * A slot island as pasted: its snapshot and each distinct section it uses,
+     * or the entities saved with it
+     */
+    private static final class CachedIsland {
+        private final IslandSnapshot snapshot;
+        private final Map<String, SectionBlob> sections;
+        private final List<EntityStorage.SerializedEntity> entities;
+
+        private CachedIsland(IslandSnapshot snapshot, Map<String, SectionBlob> sections,
+                             List<EntityStorage.SerializedEntity> entities) {
+            this.snapshot = snapshot;
+            this.sections = sections;
+            this.entities = entities;
+        }
+
+        private long getMemorySize() {
+            long size = 64L;
+            if (snapshot != null) {
+                size += 48L * snapshot.getSections().size();
+                for (SectionBlob blob : sections.values()) {
+                    size += 48L + blob.getMemorySize();
+                }
+            }
+            if (entities != null) {
+                size += 512L * entities.size();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Block, chunk and section bounds of an island
+     */
+    private static final class SectionArea {
+        private final int minX, maxX, minZ, maxZ, minY, maxY;
+        private final int minChunkX, maxChunkX, minChunkZ, maxChunkZ;
+        private final int minSectionY, sectionCount;
+
+        private SectionArea(World world, Location center, int range) {
+            this.minX = center.getBlockX() - range;
+            this.maxX = center.getBlockX() + range;
+            this.minZ = center.getBlockZ() - range;
+            this.maxZ = center.getBlockZ() + range;
+            this.minY = world.getMinHeight();
+            this.maxY = world.getMaxHeight() - 1;
+            this.minChunkX = minX >> 4;
+            this.maxChunkX = maxX >> 4;
+            this.minChunkZ = minZ >> 4;
+            this.maxChunkZ = maxZ >> 4;
+            this.minSectionY = minY >> 4;
+            this.sectionCount = (maxY >> 4) - minSectionY + 1;
+        }
+
+        private int slotCount() {
+            return (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) * sectionCount;
+        }
+
+        /**
+         * Position of a section among all sections of the area
+         */
+        private int slot(int chunkX, int chunkZ, int section) {
+            return ((chunkX - minChunkX) * (maxChunkZ - minChunkZ + 1) + (chunkZ - minChunkZ)) * sectionCount + section;
+        }
+    }
+
+    /**
+     * What was read from one chunk on the main thread
+     */
+    private static final class ChunkCapture {
+        private final ChunkSnapshot snapshot;
+        private final boolean[] hasTiles;
+
+        private ChunkCapture(ChunkSnapshot snapshot, int sectionCount) {
+            this.snapshot = snapshot;
+            this.hasTiles = new boolean[sectionCount];
+        }
+    }
+
+    /**
+     * One section of an island on its way into the store
+     */
+    private static final class PendingSection {
+        private final ChunkCapture capture;
+        private final int index;    // Section index counted up from the world's lowest section
+        private final int[] bounds; // Absolute {minX, minY, minZ, maxX, maxY, maxZ}
+        private String hash;
+        private boolean unchanged;  // Same as in the island's last save
+        private byte[] stored;      // Only kept for sections the store didn't have when hashed
+
+        private PendingSection(ChunkCapture capture, int index, int[] bounds) {
+            this.capture = capture;
+            this.index = index;
+            this.bounds = bounds;
+        }
+    }
+
+    // ==================== SAVE ====================
+
+    /**
+     * Save an island to a snapshot file, replacing whatever the file held.
+     * Call from any thread; the future completes on a worker thread.
+     *
+     * @param center Island center
+     * @param range Range from center, as used for the full schematic
+     * @param file The slot or backup file
+     * @return Future completed with true if the island was saved
+     */
+    public CompletableFuture<Boolean> save(Location center, int range, File file) {
+        World world = center.getWorld();
+        if (world == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (!addon.getSettings().isSectionStoreEnabled() && !isSlotFile(file)) {
+            return supplyAsync(() -> saveFull(center, range, file));
+        }
+
+        SectionArea area = new SectionArea(world, center, range);
+        return supplyAsync(() -> saveSections(world, center, range, area, file));
+    }
+
+    /**
+     * Save an island and wait for it. Call from a worker thread; on the main thread the
+     * island is copied as a full schematic, since chunk snapshots need the main thread free.
+     */
+    public boolean saveNow(Location center, int range, File file) {
+        if (Bukkit.isPrimaryThread()) {
+            return saveFull(center, range, file);
+        }
+        return save(center, range, file).join();
+    }
+
+    /**
+     * Save an island as sections, encoding and writing each chunk as it is read.
+     * Falls back to a full schematic if the chunks can't be read.
+     */
+    private boolean saveSections(World world, Location center, int range, SectionArea area, File file) {
+        long start = System.currentTimeMillis();
+
+        boolean caching = isCacheable(file);
+        Map<String, SectionBlob> blobs = caching ? new ConcurrentHashMap<>() : null;
+        // Sections of unchanged slots are taken from the island's cached copy, if it has one
+        CachedIsland cached = caching ? cache.peek(key(file)) : null;
+        SectionManifest previous = readPreviousManifest(file);
+        SectionManifest manifest = new SectionManifest(area.slotCount());
+        BlockingQueue<ChunkCapture> queue = new ArrayBlockingQueue<>(SAVE_QUEUE_CHUNKS);
+        CompletableFuture<Integer> reading = ChunkReader.stream(addon, world, area.minChunkX, area.minChunkZ,
+            area.maxChunkX, area.maxChunkZ, chunk -> capture(chunk, area), queue);
+        int chunkCount = (area.maxChunkX - area.minChunkX + 1) * (area.maxChunkZ - area.minChunkZ + 1);
+
+        List<IslandSnapshot.Section> entries = new ArrayList<>();
+        List<int[]> tileBounds = new ArrayList<>();
+        // Sections this save holds, so no other save can release them meanwhile
+        Set<String> held = new HashSet<>();
+        long written = 0;
+        int newSections = 0;
+        int unchanged = 0;
+        try {
+            for (int received = 0; received < chunkCount; ) {
+                ChunkCapture capture = queue.poll(1, TimeUnit.SECONDS);
+                if (capture == null) {
+                    if (reading.isCompletedExceptionally()) {
+                        reading.get(); // Throws the read failure
+                    }
+                    continue;
+                }
+                received++;
+
+                List<PendingSection> sections = new ArrayList<>();
+                for (PendingSection section : split(capture, area)) {
+                    if (capture.hasTiles[section.index]) {
+                        tileBounds.add(section.bounds);
+                    } else {
+                        sections.add(section);
+                    }
+                }
+                sections.parallelStream().forEach(section -> {
+                    int slot = area.slot(capture.snapshot.getX(), capture.snapshot.getZ(), section.index);
+                    SectionFingerprint fingerprint = fingerprint(section);
+                    String known = previous != null ? previous.find(slot, fingerprint) : null;
+                    if (known != null) {
+                        section.hash = known;
+                        section.unchanged = true;
+                        if (blobs != null && !blobs.containsKey(known)) {
+                            SectionBlob blob = cached != null && cached.sections != null ? cached.sections.get(known) : null;
+                            blobs.putIfAbsent(known, blob != null ? blob : encode(section));
+                        }
+                    } else {
+                        SectionBlob blob = encode(section);
+                        section.hash = blob.hash();
+                        if (blobs != null) {
+                            blobs.putIfAbsent(section.hash, blob);
+                        }
+                        if (!sectionStore.contains(section.hash)) {
+                            section.stored = blob.toStored();
+                        }
+                    }
+                    manifest.set(slot, fingerprint, section.hash);
+                });
+                for (PendingSection section : sections) {
+                    if (section.unchanged) {
+                        unchanged++;
+                    }
+                    // Released between hashing and holding - encode it again
+                    long bytes = storeSection(section.hash,
+                        () -> section.stored != null ? section.stored : encode(section).toStored(), held);
+                    if (bytes > 0) {
+                        written += bytes;
+                        newSections++;
+                    }
+                    entries.add(toEntry(center, section.bounds, section.hash));
+                }
+            }
+
+            if (!tileBounds.isEmpty()) {
+                List<byte[]> copies = addon.getSchematicUtils().copyCuboids(world, tileBounds);
+                if (copies == null) {
+                    forget(file);
+                    sectionStore.release(held);
+                    return false;
+                }
+                for (int i = 0; i < tileBounds.size(); i++) {
+                    SectionBlob blob = SectionBlob.schematic(copies.get(i));
+                    String hash = blob.hash();
+                    if (blobs != null) {
+                        blobs.putIfAbsent(hash, blob);
+                    }
+                    long bytes = storeSection(hash, blob::toStored, held);
+                    if (bytes > 0) {
+                        written += bytes;
+                        newSections++;
+                    }
+                    entries.add(toEntry(center, tileBounds.get(i), hash));
+                }
+            }
+
+            Set<String> replaced = sectionStore.readHashes(file);
+            IslandSnapshot snapshot = new IslandSnapshot(entries);
+            snapshot.write(file);
+            sectionStore.release(replaced);
+            forget(file);
+            if (caching) {
+                cacheIsland(file, snapshot, blobs);
+            }
+            writeManifest(file, manifest);
+        } catch (IOException e) {
+            reading.cancel(false);
+            forget(file);
+            addon.logError("Failed to save island snapshot " + file.getName() + ": " + e.getMessage());
+            sectionStore.release(held);
+            return false;
+        } catch (ExecutionException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            reading.cancel(false);
+            sectionStore.release(held);
+            addon.logWarning("Could not snapshot island chunks, writing a full schematic: "
+                + (e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+            return saveFull(center, range, file);
+        } catch (RuntimeException e) {
+            reading.cancel(false);
+            sectionStore.release(held);
+            throw e;
+        } finally {
+            // Stops the reader, and drops its chunk tickets, whenever the loop above exits early
+            reading.cancel(false);
+        }
+
+        addon.log("Saved " + file.getName() + " as " + entries.size() + " sections, " + unchanged + " unchanged, "
+            + newSections + " new ("
+            + (written / 1024) + " KB written, " + tileBounds.size() + " with tile entities) in "
+            + (System.currentTimeMillis() - start) + "ms");
+        return true;
+    }
+
+    /**
+     * Hold a section for the snapshot being saved, writing it to the store if it isn't there
+     *
+     * @param stored The section's stored bytes, only asked for if the store doesn't have it
+     * @param held Sections already held by this save
+     * @return Bytes written, 0 if the store already had it
+     */
+    private long storeSection(String hash, Supplier<byte[]> stored, Set<String> held) throws IOException {
+        if (held.add(hash)) {
+            sectionStore.acquire(Collections.singleton(hash));
+        }
+        if (sectionStore.contains(hash)) {
+            return 0;
+        }
+        byte[] bytes = stored.get();
+        sectionStore.put(hash, bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Encode and hash every occupied section of the captured chunks, leaving out sections
+     * holding only air. Plain sections are encoded in parallel; sections with tile entities
+     * are copied by FAWE.
+     *
+     * @param blobs Filled with each distinct section
+     * @return The sections, or null if FAWE couldn't copy the tile sections
+     */
+    private List<PendingSection> encodeSections(World world, SectionArea area, List<ChunkCapture> captures,
+                                                Map<String, SectionBlob> blobs) {
+        List<PendingSection> sections = new ArrayList<>();
+        List<PendingSection> tileSections = new ArrayList<>();
+        for (ChunkCapture capture : captures) {
+            for (PendingSection section : split(capture, area)) {
+                if (capture.hasTiles[section.index]) {
+                    tileSections.add(section);
+                } else if (!capture.snapshot.isSectionEmpty(section.index)) {
+                    sections.add(section);
+                }
+            }
+        }
+        sections.parallelStream().forEach(section -> {
+            SectionBlob blob = encode(section);
+            section.hash = blob.hash();
+            blobs.putIfAbsent(section.hash, blob);
+        });
+
+        if (!tileSections.isEmpty()) {
+            List<byte[]> copies = addon.getSchematicUtils().copyCuboids(world,
+                tileSections.stream().map(section -> section.bounds).collect(Collectors.toList()));
+            if (copies == null) {
+                return null;
+            }
+            for (int i = 0; i < tileSections.size(); i++) {
+                SectionBlob blob = SectionBlob.schematic(copies.get(i));
+                tileSections.get(i).hash = blob.hash();
+                blobs.putIfAbsent(blob.hash(), blob);
+            }
+            sections.addAll(tileSections);
+        }
+        return sections;
+    }
+
+    private IslandSnapshot toSnapshot(Location center, List<PendingSection> sections) {
+        List<IslandSnapshot.Section> entries = new ArrayList<>(sections.size());
+        for (PendingSection section : sections) {
+            entries.add(toEntry(center, section.bounds, section.hash));
+        }
+        return new IslandSnapshot(entries);
+    }
+
+    private static IslandSnapshot.Section toEntry(Location center, int[] b, String hash) {
+        return new IslandSnapshot.Section(b[0] - center.getBlockX(), b[1] - center.getBlockY(),
+            b[2] - center.getBlockZ(), b[3] - b[0] + 1, b[4] - b[1] + 1, b[5] - b[2] + 1, hash);
+    }
+
+    private static int countTileSections(List<PendingSection> sections) {
+        int count = 0;
+        for (PendingSection section : sections) {
+            if (section.capture.hasTiles[section.index]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write a full schematic, releasing the sections of the snapshot it replaces
+     */
+    private boolean saveFull(Location center, int range, File file) {
+        forget(file);
+        Set<String> previous = sectionStore.readHashes(file);
+        if (!addon.getSchematicUtils().copyAndSave(center, range, true, file)) {
+            return false;
+        }
+        sectionStore.release(previous);
+        return true;
+    }
+
+    /**
+     * Cut a chunk into its sections, clipped to the island bounds
+     */
+    private List<PendingSection> split(ChunkCapture capture, SectionArea area) {
+        int chunkMinX = capture.snapshot.getX() << 4;
+        int chunkMinZ = capture.snapshot.getZ() << 4;
+        int minX = Math.max(area.minX, chunkMinX);
+        int maxX = Math.min(area.maxX, chunkMinX + 15);
+        int minZ = Math.max(area.minZ, chunkMinZ);
+        int maxZ = Math.min(area.maxZ, chunkMinZ + 15);
+
+        List<PendingSection> sections = new ArrayList<>(area.sectionCount);
+        for (int section = 0; section < area.sectionCount; section++) {
+            int sectionMinY = (area.minSectionY + section) << 4;
+            int minY = Math.max(area.minY, sectionMinY);
+            int maxY = Math.min(area.maxY, sectionMinY + 15);
+            sections.add(new PendingSection(capture, section, new int[]{minX, minY, minZ, maxX, maxY, maxZ}));
+        }
+        return sections;
+    }
+
+    /**
+     * Encode a plain section from its chunk snapshot. Palettes are built in block order,
+     * so equal sections always encode - and hash - the same.
+     */
+    private SectionBlob encode(PendingSection section) {
+        ChunkSnapshot snapshot = section.capture.snapshot;
+        int[] b = section.bounds;
+        int sizeX = b[3] - b[0] + 1;
+        int sizeY = b[4] - b[1] + 1;
+        int sizeZ = b[5] - b[2] + 1;
+        int localX = b[0] & 15;
+        int localZ = b[2] & 15;
+
+        List<String> palette = new ArrayList<>();
+        int[] blocks = new int[sizeX * sizeY * sizeZ];
+        if (snapshot.isSectionEmpty(section.index)) {
+            palette.add(AIR);
+        } else {
+            Map<String, Integer> index = new HashMap<>();
+            int i = 0;
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    for (int x = 0; x < sizeX; x++) {
+                        BlockData data = snapshot.getBlockData(localX + x, b[1] + y, localZ + z);
+                        String state = stateStrings.computeIfAbsent(data, BlockData::getAsString);
+                        Integer id = index.get(state);
+                        if (id == null) {
+                            id = palette.size();
+                            index.put(state, id);
+                            palette.add(state);
+                        }
+                        blocks[i++] = id;
+                    }
+                }
+            }
+        }
+
+        // Biomes are stored per 4x4x4 cell
+        int cellsX = SectionBlob.cellCount(sizeX);
+        int cellsY = SectionBlob.cellCount(sizeY);
+        int cellsZ = SectionBlob.cellCount(sizeZ);
+        List<String> biomes = new ArrayList<>();
+        Map<String, Integer> biomeIndex = new HashMap<>();
+        int[] cells = new int[cellsX * cellsY * cellsZ];
+        int c = 0;
+        for (int cy = 0; cy < cellsY; cy++) {
+            for (int cz = 0; cz < cellsZ; cz++) {
+                for (int cx = 0; cx < cellsX; cx++) {
+                    Biome biome = snapshot.getBiome(localX + (cx << 2), b[1] + (cy << 2), localZ + (cz << 2));
+                    String key = biomeKeys.computeIfAbsent(biome, bi -> bi.getKey().toString());
+                    Integer id = biomeIndex.get(key);
+                    if (id == null) {
+                        id = biomes.size();
+                        biomeIndex.put(key, id);
+                        biomes.add(key);
+                    }
+                    cells[c++] = id;
+                }
+            }
+        }
+        return SectionBlob.blocks(sizeX, sizeY, sizeZ, palette, blocks, biomes, cells);
+    }
+
+    /**
+     * Fingerprint a plain section from its chunk snapshot, reading it the way {@link #encode}
+     * does but without building a palette or hashing it
+     */
+    private SectionFingerprint fingerprint(PendingSection section) {
+        ChunkSnapshot snapshot = section.capture.snapshot;
+        int[] b = section.bounds;
+        int sizeX = b[3] - b[0] + 1;
+        int sizeY = b[4] - b[1] + 1;
+        int sizeZ = b[5] - b[2] + 1;
+        int localX = b[0] & 15;
+        int localZ = b[2] & 15;
+
+        SectionFingerprint fingerprint = new SectionFingerprint().add(sizeX).add(sizeY).add(sizeZ);
+        if (snapshot.isSectionEmpty(section.index)) {
+            fingerprint.add(-1);
+        } else {
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    for (int x = 0; x < sizeX; x++) {
+                        BlockData data = snapshot.getBlockData(localX + x, b[1] + y, localZ + z);
+                        fingerprint.add(stateKeys.computeIfAbsent(data,
+                            d -> SectionFingerprint.key(stateStrings.computeIfAbsent(d, BlockData::getAsString))));
+                    }
+                }
+            }
+        }
+        for (int cy = 0; cy < SectionBlob.cellCount(sizeY); cy++) {
+            for (int cz = 0; cz < SectionBlob.cellCount(sizeZ); cz++) {
+                for (int cx = 0; cx < SectionBlob.cellCount(sizeX); cx++) {
+                    Biome biome = snapshot.getBiome(localX + (cx << 2), b[1] + (cy << 2), localZ + (cz << 2));
+                    fingerprint.add(biomeFingerprintKeys.computeIfAbsent(biome,
+                        bi -> SectionFingerprint.key(biomeKeys.computeIfAbsent(bi, k -> k.getKey().toString()))));
+                }
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * The manifest written with the file's last snapshot or, for a file saved for the first
+     * time, the newest one beside it. Fingerprints only match equal sections, so any manifest
+     * is safe to start from.
+     *
+     * @return The manifest, or null if there is none to start from
+     */
+    private SectionManifest readPreviousManifest(File file) {
+        File manifestFile = SectionManifest.fileFor(file);
+        if (!manifestFile.isFile()) {
+            File parent = file.getAbsoluteFile().getParentFile();
+            File[] siblings = parent != null ? parent.listFiles(SectionManifest::isManifestFile) : null;
+            if (siblings == null || siblings.length == 0) {
+                return null;
+            }
+            manifestFile = siblings[0];
+            for (File sibling : siblings) {
+                if (sibling.lastModified() > manifestFile.lastModified()) {
+                    manifestFile = sibling;
+                }
+            }
+        }
+        try {
+            return SectionManifest.read(manifestFile);
+        } catch (IOException e) {
+            addon.logWarning("Could not read section manifest " + manifestFile.getName() + ", saving every section: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write the manifest of a snapshot just saved. A failure only costs the next save its shortcut.
+     */
+    private void writeManifest(File file, SectionManifest manifest) {
+        try {
+            manifest.write(SectionManifest.fileFor(file));
+        } catch (IOException e) {
+            addon.logWarning("Could not write section manifest for " + file.getName() + ": " + e.getMessage());
+        }
+    }
+
+    // ==================== CHUNK CAPTURE ====================
+
+    private CompletableFuture<List<ChunkCapture>> captureChunks(World world, SectionArea area) {
+        return ChunkReader.read(addon, world, area.minChunkX, area.minChunkZ, area.maxChunkX, area.maxChunkZ,
+            chunk -> capture(chunk, area));
+    }
+
+    private ChunkCapture capture(Chunk chunk, SectionArea area) {
+        ChunkCapture capture = new ChunkCapture(chunk.getChunkSnapshot(false, true, false), area.sectionCount);
+        for (BlockState state : chunk.getTileEntities()) {
+            int section = (state.getY() >> 4) - area.minSectionY;
+            if (section >= 0 && section < area.sectionCount
+                    && state.getX() >= area.minX && state.getX() <= area.maxX
+                    && state.getZ() >= area.minZ && state.getZ() <= area.maxZ) {
+                capture.hasTiles[section] = true;
+            }
+        }
+        return capture;
+    }
+
+    // ==================== LOAD ====================
+
+    /**
+     * Paste an island snapshot, or a plain schematic saved before the section store.
+     * Synchronous - call from a worker thread.
+     *
+     * @param file The slot or backup file
+     * @param center Island center to paste at
+     * @return true if the island was pasted
+     */
+    public boolean paste(File file, Location center) {
+        boolean caching = isCacheable(file);
+        CachedIsland island = takePrefetch(file);
+        if (island != null) {
+            addon.log("Pasting " + file.getName() + " from prefetch");
+        } else {
+            island = caching ? cache.get(key(file)) : null;
+            if (island != null) {
+                addon.log("Pasting " + file.getName() + " from memory (" + getCacheSummary() + ")");
+                return addon.getSchematicUtils().pasteSections(center, island.snapshot, island.sections);
+            }
+            if (!IslandSnapshot.isSnapshot(file)) {
+                return addon.getSchematicUtils().loadAndPaste(file, center);
+            }
+            island = readIsland(file);
+            if (island == null) {
+                return false;
+            }
+        }
+        if (caching) {
+            cacheIsland(file, island.snapshot, island.sections);
+        }
+        return addon.getSchematicUtils().pasteSections(center, island.snapshot, island.sections);
+    }
+
+    /**
+     * Read a snapshot and every section it uses - all up front, rather than leave a half-pasted island
+     *
+     * @return The island, or null if the snapshot or a section can't be read
+     */
+    private CachedIsland readIsland(File file) {
+        IslandSnapshot snapshot;
+        try {
+            snapshot = IslandSnapshot.read(file);
+        } catch (IOException e) {
+            addon.logError("Failed to read island snapshot " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+        Map<String, SectionBlob> sections = new HashMap<>();
+        for (String hash : snapshot.getHashes()) {
+            try {
+                sections.put(hash, sectionStore.get(hash));
+            } catch (IOException e) {
+                addon.logError("Island snapshot " + file.getName() + " refers to missing or damaged section "
+                    + hash + ": " + e.getMessage());
+                return null;
+            }
+        }
+        return new CachedIsland(snapshot, sections, null);
+    }
+
+    // ==================== PREFETCH ====================
+
+    /**
+     * Start reading a slot island and its entities on a worker thread, ahead of a paste that
+     * is likely to follow. Does nothing if they're already cached or being read.
+     * Call {@link #discardPrefetch(File)} if the paste doesn't happen.
+     *
+     * @param file The slot file
+     */
+    public void prefetch(File file) {
+        if (!isCacheable(file)) {
+            return;
+        }
+        if (!cache.contains(key(file)) && IslandSnapshot.isSnapshot(file)) {
+            prefetches.computeIfAbsent(key(file), k -> supplyAsync(() -> readIsland(file)));
+        }
+        File entityFile = EntityStorage.getEntityFile(file);
+        if (!cache.contains(key(entityFile)) && entityFile.isFile()) {
+            prefetches.computeIfAbsent(key(entityFile), k -> supplyAsync(() -> {
+                List<EntityStorage.SerializedEntity> entities = addon.getEntityStorage().readEntityFile(entityFile);
+                return entities != null ? new CachedIsland(null, null, entities) : null;
+            }));
+        }
+    }
+
+    /**
+     * Drop a prefetched slot island and its entities, e.g. because the switch was cancelled
+     */
+    public void discardPrefetch(File file) {
+        prefetches.remove(key(file));
+        prefetches.remove(key(EntityStorage.getEntityFile(file)));
+    }
+
+    /**
+     * Take a prefetched island or entity list, waiting for it if it is still being read
+     *
+     * @return What was prefetched, or null if nothing was or the read failed
+     */
+    private CachedIsland takePrefetch(File file) {
+        CompletableFuture<CachedIsland> prefetch = prefetches.remove(key(file));
+        if (prefetch == null) {
+            return null;
+        }
+        try {
+            return prefetch.join();
+        } catch (Exception e) {
+            addon.logWarning("Prefetch of " + file.getName() + " failed, reading it again: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== MOVE ====================
+
+    /**
+     * An island copied into memory as sections, for moving it to another location
+     */
+    public static final class IslandCopy {
+        private final IslandSnapshot snapshot;
+        private final Map<String, SectionBlob> sections;
+        private final int range;
+
+        private IslandCopy(IslandSnapshot snapshot, Map<String, SectionBlob> sections, int range) {
+            this.snapshot = snapshot;
+            this.sections = sections;
+            this.range = range;
+        }
+
+        public int getSectionCount() {
+            return snapshot.getSections().size();
+        }
+    }
+
+    /**
+     * Copy an island's occupied sections into memory, straight from chunk snapshots.
+     * Sections holding only air are left out, so the copy costs nothing for empty sky and
+     * void; sections with tile entities are copied by FAWE as usual. Nothing is written to
+     * the store. Call from any thread; the future completes on a worker thread.
+     *
+     * @return Future completed with the copy, or null if it failed
+     */
+    public CompletableFuture<IslandCopy> copySections(Location center, int range) {
+        World world = center.getWorld();
+        if (world == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        SectionArea area = new SectionArea(world, center, range);
+        return captureChunks(world, area).thenCompose(captures -> supplyAsync(() -> {
+            long start = System.currentTimeMillis();
+            Map<String, SectionBlob> blobs = new ConcurrentHashMap<>();
+            List<PendingSection> sections = encodeSections(world, area, captures, blobs);
+            if (sections == null) {
+                return null;
+            }
+            addon.log("Copied island at " + center.getBlockX() + "," + center.getBlockZ() + " as " + sections.size()
+                + " occupied sections (" + blobs.size() + " distinct, " + countTileSections(sections)
+                + " with tile entities) in " + (System.currentTimeMillis() - start) + "ms");
+            return new IslandCopy(toSnapshot(center, sections), blobs, range);
+        }));
+    }
+
+    /**
+     * Paste an island copy. The target is cleared first, since the air around the island
+     * isn't part of the copy. Synchronous - call from a worker thread.
+     *
+     * @return true if the island was pasted
+     */
+    public boolean paste(IslandCopy copy, Location center) {
+        if (!addon.getSchematicUtils().clearRegion(center, copy.range)) {
+            return false;
+        }
+        return addon.getSchematicUtils().pasteSections(center, copy.snapshot, copy.sections);
+    }
+
+    // ==================== FILES ====================
+
+    /**
+     * Delete a slot or backup file, releasing the sections only it used.
+     * Blocks until done - call from a worker thread.
+     *
+     * @return true if the file is gone
+     */
+    public boolean delete(File file) {
+        forget(file);
+        forget(EntityStorage.getEntityFile(file));
+        File manifestFile = SectionManifest.fileFor(file);
+        if (manifestFile.exists() && !manifestFile.delete()) {
+            addon.logWarning("Could not delete section manifest " + manifestFile.getName());
+        }
+        return sectionStore.deleteSnapshot(file).join();
+    }
+
+    /**
+     * Finish queued section store work. Called on disable.
+     */
+    public void shutdown() {
+        addon.log("Slot island " + getCacheSummary());
+        cache.clear();
+        prefetches.clear();
+        sectionStore.shutdown();
+    }
+
+    // ==================== CACHE ====================
+
+    /**
+     * Entities saved with a slot island, if cached
+     *
+     * @param entityFile The island's entity file
+     * @return The entities, or null if they have to be read from the file
+     */
+    List<EntityStorage.SerializedEntity> getCachedEntities(File entityFile) {
+        if (!isCacheable(entityFile)) {
+            return null;
+        }
+        CachedIsland prefetched = takePrefetch(entityFile);
+        if (prefetched != null) {
+            cacheEntities(entityFile, prefetched.entities);
+            return prefetched.entities;
+        }
+        CachedIsland cached = cache.get(key(entityFile));
+        return cached != null ? cached.entities : null;
+    }
+
+    /**
+     * Remember the entities just saved to or read from a slot's entity file
+     *
+     * @param entities The entities, or null to forget them
+     */
+    void cacheEntities(File entityFile, List<EntityStorage.SerializedEntity> entities) {
+        forget(entityFile);
+        if (entities == null || !isCacheable(entityFile)) {
+            return;
+        }
+        CachedIsland cached = new CachedIsland(null, null, List.copyOf(entities));
+        cache.put(key(entityFile), cached, cached.getMemorySize());
+    }
+
+    /**
+     * Hits, misses and memory use of the slot island cache, for logs and admin info
+     */
+    public String getCacheSummary() {
+        return "cache " + cache.getHits() + " hits, " + cache.getMisses() + " misses, " + cache.getEvictions()
+            + " evicted, " + cache.size() + " entries in " + (cache.getBytes() / 1024 / 1024) + "/"
+            + (cache.getBudget() / 1024 / 1024) + " MB";
+    }
+
+    /**
+     * Drop a file's cached and prefetched contents after it changed
+     */
+    private void forget(File file) {
+        cache.invalidate(key(file));
+        prefetches.remove(key(file));
+    }
+
+    private void cacheIsland(File file, IslandSnapshot snapshot, Map<String, SectionBlob> sections) {
+        CachedIsland cached = new CachedIsland(snapshot, new HashMap<>(sections), null);
+        if (!cache.put(key(file), cached, cached.getMemorySize())) {
+            addon.log("Island " + file.getName() + " is larger than the clipboard cache budget - not cached");
+        }
+    }
+
+    /**
+     * Only slot islands are cached: backups are rarely pasted twice and would push slots out
+     */
+    private boolean isCacheable(File file) {
+        cache.setBudget(Math.max(0, addon.getSettings().getClipboardCacheMb()) * 1024L * 1024L);
+        return cache.getBudget() > 0 && isSlotFile(file);
+    }
+
+    private boolean isSlotFile(File file) {
+        File slots = new File(addon.getDataFolder(), "slots").getAbsoluteFile();
+        for (File parent = file.getAbsoluteFile().getParentFile(); parent != null; parent = parent.getParentFile()) {
+            if (parent.equals(slots)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static File key(File file) {
+        return file.getAbsoluteFile();
+    }
+
+    // ==================== THREADING ====================
+
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
+            try {
+                result.complete(work.get());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+}
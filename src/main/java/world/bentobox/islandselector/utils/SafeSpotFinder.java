@@ -0,0 +1,202 @@
+package world.bentobox.islandselector.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import world.bentobox.bentobox.database.objects.Island;
+import world.bentobox.bentobox.util.teleport.SafeSpotTeleport;
+import world.bentobox.islandselector.IslandSelector;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * Finds where a player can stand at an island home without probing blocks on the main thread.
+ *
+ * The home's chunk is loaded asynchronously and read as a {@link ChunkSnapshot}, and its
+ * column is searched on a worker thread, from a few blocks above the home down to the bottom
+ * of the world; only the teleport itself runs on the main thread. Results are cached per home,
+ * so an owner and their team landing on the same island search once. Pastes and clears drop
+ * the cached spots in the chunks they change.
+ */
+public class SafeSpotFinder {
+
+    // How far above the home the search starts
+    private static final int SEARCH_ABOVE = 10;
+    // A cached spot older than this is searched again
+    private static final long CACHE_MILLIS = 60_000L;
+
+    private final IslandSelector addon;
+    private final Map<String, CachedSpot> cache = new ConcurrentHashMap<>();
+
+    private static final class CachedSpot {
+        private final Location spot;
+        private final UUID worldId;
+        private final int chunkX;
+        private final int chunkZ;
+        private final long time;
+
+        private CachedSpot(Location spot, long time) {
+            this.spot = spot;
+            this.worldId = spot.getWorld().getUID();
+            this.chunkX = spot.getBlockX() >> 4;
+            this.chunkZ = spot.getBlockZ() >> 4;
+            this.time = time;
+        }
+    }
+
+    public SafeSpotFinder(IslandSelector addon) {
+        this.addon = addon;
+    }
+
+    /**
+     * Find a safe spot in the home's column. Call from any thread; the future completes on the main thread.
+     *
+     * @param home Island home to stand at
+     * @return Future completed with the spot, keeping the home's x, z and facing, or null if the column has none
+     */
+    public CompletableFuture<Location> find(Location home) {
+        World world = home.getWorld();
+        if (world == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String key = key(home);
+        CachedSpot cached = cache.get(key);
+        if (cached != null && System.currentTimeMillis() - cached.time < CACHE_MILLIS) {
+            return CompletableFuture.completedFuture(cached.spot.clone());
+        }
+
+        CompletableFuture<Location> result = new CompletableFuture<>();
+        int chunkX = home.getBlockX() >> 4;
+        int chunkZ = home.getBlockZ() >> 4;
+        ChunkReader.read(addon, world, chunkX, chunkZ, chunkX, chunkZ,
+                chunk -> chunk.getChunkSnapshot(false, false, false)).whenComplete((snapshots, error) -> {
+            if (error != null) {
+                addon.logWarning("Could not read chunk for safe spot at " + home.getBlockX() + "," + home.getBlockZ()
+                    + ": " + error.getMessage());
+                Bukkit.getScheduler().runTask(addon.getPlugin(), () -> result.complete(null));
+                return;
+            }
+            Bukkit.getScheduler().runTaskAsynchronously(addon.getPlugin(), () -> {
+                Location spot = search(world, snapshots.get(0), home);
+                if (spot != null) {
+                    cache.put(key, new CachedSpot(spot, System.currentTimeMillis()));
+                }
+                Bukkit.getScheduler().runTask(addon.getPlugin(),
+                    () -> result.complete(spot != null ? spot.clone() : null));
+            });
+        });
+        return result;
+    }
+
+    /**
+     * Teleport a player to the safe spot at a home. If the home's column has none, BentoBox's
+     * SafeSpotTeleport searches around it instead. Call from the main thread.
+     *
+     * @param island Island for the fallback search to stay on, or null to search around the home only
+     * @param thenRun Run on the main thread once the player has been teleported
+     * @param ifFail Run on the main thread if no safe spot was found, or the player left before the teleport
+     */
+    public void teleport(Player player, Location home, Island island, Runnable thenRun, Runnable ifFail) {
+        find(home).thenAccept(spot -> {
+            if (!player.isOnline()) {
+                ifFail.run();
+                return;
+            }
+            if (spot == null) {
+                SafeSpotTeleport.Builder builder = new SafeSpotTeleport.Builder(addon.getPlugin())
+                    .entity(player)
+                    .location(home)
+                    .thenRun(thenRun)
+                    .ifFail(ifFail);
+                if (island != null) {
+                    builder.island(island);
+                }
+                builder.buildFuture();
+                return;
+            }
+            player.teleportAsync(spot).thenAccept(teleported -> {
+                if (teleported) {
+                    thenRun.run();
+                } else {
+                    ifFail.run();
+                }
+            });
+        });
+    }
+
+    /**
+     * Drop cached spots in a rectangle of chunks, e.g. because a paste changed them. Call from any thread.
+     */
+    public void invalidate(World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        UUID worldId = world.getUID();
+        cache.values().removeIf(cached -> cached.worldId.equals(worldId)
+            && cached.chunkX >= minChunkX && cached.chunkX <= maxChunkX
+            && cached.chunkZ >= minChunkZ && cached.chunkZ <= maxChunkZ);
+    }
+
+    private Location search(World world, ChunkSnapshot snapshot, Location home) {
+        int localX = home.getBlockX() & 15;
+        int localZ = home.getBlockZ() & 15;
+        int minY = world.getMinHeight();
+        int startY = Math.min(home.getBlockY() + SEARCH_ABOVE, world.getMaxHeight() - 2);
+        int y = findStandingY(home.getBlockY(), startY, minY,
+            floorY -> isSafeFloor(snapshot.getBlockType(localX, floorY, localZ)),
+            clearY -> isClear(snapshot.getBlockType(localX, clearY, localZ)));
+        if (y == Integer.MIN_VALUE) {
+            return null;
+        }
+        Location spot = home.clone();
+        if (y != home.getBlockY()) {
+            spot.setY(y);
+        }
+        return spot;
+    }
+
+    /**
+     * Find the height a player can stand at in one column: a safe floor below, and room for
+     * feet and head. The home's own height is tried first, then the column from the top down.
+     *
+     * @param homeY Height of the home
+     * @param startY Highest height to try
+     * @param minY Lowest block of the world
+     * @param floor Whether the block at a height is safe to stand on
+     * @param clear Whether the block at a height is safe to stand in
+     * @return The height, or {@link Integer#MIN_VALUE} if there is none
+     */
+    static int findStandingY(int homeY, int startY, int minY, IntPredicate floor, IntPredicate clear) {
+        if (homeY > minY && homeY <= startY && canStand(homeY, floor, clear)) {
+            return homeY;
+        }
+        for (int y = startY; y > minY; y--) {
+            if (canStand(y, floor, clear)) {
+                return y;
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    private static boolean canStand(int y, IntPredicate floor, IntPredicate clear) {
+        return floor.test(y - 1) && clear.test(y) && clear.test(y + 1);
+    }
+
+    private static boolean isSafeFloor(Material material) {
+        return material.isSolid() && material != Material.MAGMA_BLOCK && material != Material.CACTUS
+            && material != Material.CAMPFIRE && material != Material.SOUL_CAMPFIRE;
+    }
+
+    private static boolean isClear(Material material) {
+        return !material.isSolid() && material != Material.LAVA && material != Material.FIRE
+            && material != Material.SOUL_FIRE && material != Material.POWDER_SNOW;
+    }
+
+    private static String key(Location home) {
+        return home.getWorld().getUID() + ":" + home.getBlockX() + "," + home.getBlockY() + "," + home.getBlockZ();
+    }
+}
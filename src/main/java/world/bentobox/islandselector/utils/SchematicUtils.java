@@ -1,9 +1,12 @@
 package world.bentobox.islandselector.utils;
 
 import org.bukkit.Location;
+import org.bukkit.World;
 import world.bentobox.islandselector.IslandSelector;
 
 import java.io.File;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -162,6 +165,39 @@ public class SchematicUtils {
         return addon.getWorldEditIntegration().loadAndPaste(file, center);
     }
 
+    /**
+     * Copy cuboids of a world into separate in-memory schematics (synchronous).
+     * Call from a worker thread.
+     *
+     * @param world The world to copy from
+     * @param cuboids Absolute block bounds, each {minX, minY, minZ, maxX, maxY, maxZ}
+     * @return Schematic bytes for each cuboid with its minimum corner as origin, or null on failure
+     */
+    public List<byte[]> copyCuboids(World world, List<int[]> cuboids) {
+        if (!isAvailable()) {
+            addon.logWarning("Schematic operations not available - WorldEdit/FAWE not installed");
+            return null;
+        }
+        return addon.getWorldEditIntegration().copyCuboids(world, cuboids);
+    }
+
+    /**
+     * Paste the sections of an island snapshot at a location (synchronous).
+     * Call from a worker thread.
+     *
+     * @param center The island center to paste at
+     * @param snapshot The snapshot to paste
+     * @param sections Every section the snapshot uses, by hash
+     * @return true if successful, false otherwise
+     */
+    public boolean pasteSections(Location center, IslandSnapshot snapshot, Map<String, SectionBlob> sections) {
+        if (!isAvailable()) {
+            addon.logWarning("Schematic operations not available - WorldEdit/FAWE not installed");
+            return false;
+        }
+        return addon.getWorldEditIntegration().pasteSections(center, snapshot, sections);
+    }
+
     /**
      * Clear all blocks in a region (synchronous).
      * WARNING: May cause server freeze with standard WorldEdit. Use async version instead.
@@ -178,6 +214,22 @@ public class SchematicUtils {
         return addon.getWorldEditIntegration().clearRegion(center, range);
     }
 
+    /**
+     * Clear blocks in a region without touching entities (synchronous).
+     * Safe to call off the main thread; remove entities on the main thread first.
+     *
+     * @param center The center location of the region
+     * @param range The range from center to clear
+     * @return true if successful, false otherwise
+     */
+    public boolean clearBlocks(Location center, int range) {
+        if (!isAvailable()) {
+            addon.logWarning("Schematic operations not available - WorldEdit/FAWE not installed");
+            return false;
+        }
+        return addon.getWorldEditIntegration().clearBlocks(center, range);
+    }
+
     /**
      * Copy a region to an in-memory clipboard (synchronous).
      * WARNING: May cause server freeze with standard WorldEdit. Use async version instead.
@@ -0,0 +1,325 @@
+package world.bentobox.islandselector.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * One chunk section - or the part of one inside an island - as kept in the {@link SectionStore}.
+ *
+ * Plain sections are encoded from chunk snapshots as a block-state palette with an index per
+ * block, and a biome palette with an index per 4x4x4 cell. The encoding doesn't depend on where
+ * the section sits, so the same section on any island encodes to the same bytes and is stored
+ * once. Sections holding tile entities keep the sponge schematic FAWE copied instead, since
+ * their NBT isn't in a chunk snapshot.
+ *
+ * Raw layout (big-endian): {@code byte type, payload}. Block payload:
+ * <pre>
+ *   byte sizeX, byte sizeY, byte sizeZ,
+ *   short paletteSize, paletteSize x UTF state, block indices,
+ *   short biomeCount, biomeCount x UTF key, cell indices
+ * </pre>
+ * Indices are omitted for a single-entry palette, bytes up to 256 entries, shorts above.
+ * The stored form deflates the block payload; the content hash is taken over the raw bytes.
+ */
+public final class SectionBlob {
+
+    public static final byte TYPE_BLOCKS = 1;
+    public static final byte TYPE_SCHEMATIC = 2;
+
+    private static final int HASH_BYTES = 16;
+
+    private final byte type;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final List<String> palette;
+    private final int[] blocks;
+    private final List<String> biomes;
+    private final int[] cells;
+    private final byte[] schematic;
+    private byte[] raw;
+
+    private SectionBlob(byte type, int sizeX, int sizeY, int sizeZ, List<String> palette, int[] blocks,
+                        List<String> biomes, int[] cells, byte[] schematic) {
+        this.type = type;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.palette = palette;
+        this.blocks = blocks;
+        this.biomes = biomes;
+        this.cells = cells;
+        this.schematic = schematic;
+    }
+
+    /**
+     * A plain section
+     *
+     * @param palette Block states as {@code BlockData#getAsString()}
+     * @param blocks Palette index for every block, see {@link #blockIndex(int, int, int)}
+     * @param biomes Biome keys
+     * @param cells Biome index for every 4x4x4 cell, see {@link #cellIndex(int, int, int)}
+     */
+    public static SectionBlob blocks(int sizeX, int sizeY, int sizeZ, List<String> palette, int[] blocks,
+                                     List<String> biomes, int[] cells) {
+        if (sizeX < 1 || sizeX > 16 || sizeY < 1 || sizeY > 16 || sizeZ < 1 || sizeZ > 16) {
+            throw new IllegalArgumentException("Section size out of range: " + sizeX + "x" + sizeY + "x" + sizeZ);
+        }
+        return new SectionBlob(TYPE_BLOCKS, sizeX, sizeY, sizeZ, palette, blocks, biomes, cells, null);
+    }
+
+    /**
+     * A section kept as a sponge schematic whose origin is its minimum corner
+     */
+    public static SectionBlob schematic(byte[] schematic) {
+        return new SectionBlob(TYPE_SCHEMATIC, 0, 0, 0, null, null, null, null, schematic);
+    }
+
+    /**
+     * Number of 4-block biome cells along an edge of the given length
+     */
+    public static int cellCount(int size) {
+        return (size + 3) >> 2;
+    }
+
+    public int blockIndex(int x, int y, int z) {
+        return (y * sizeZ + z) * sizeX + x;
+    }
+
+    public int cellIndex(int cellX, int cellY, int cellZ) {
+        return (cellY * cellCount(sizeZ) + cellZ) * cellCount(sizeX) + cellX;
+    }
+
+    public byte getType() {
+        return type;
+    }
+
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    public int getSizeY() {
+        return sizeY;
+    }
+
+    public int getSizeZ() {
+        return sizeZ;
+    }
+
+    public List<String> getPalette() {
+        return palette;
+    }
+
+    public int[] getBlocks() {
+        return blocks;
+    }
+
+    public List<String> getBiomes() {
+        return biomes;
+    }
+
+    public int[] getCells() {
+        return cells;
+    }
+
+    public byte[] getSchematic() {
+        return schematic;
+    }
+
+    /**
+     * Approximate heap size of the decoded section, for sizing caches
+     */
+    public long getMemorySize() {
+        if (type == TYPE_SCHEMATIC) {
+            return 64L + schematic.length;
+        }
+        long size = 64L + 4L * blocks.length + 4L * cells.length;
+        for (String state : palette) {
+            size += 48L + state.length();
+        }
+        for (String biome : biomes) {
+            size += 48L + biome.length();
+        }
+        return size;
+    }
+
+    /**
+     * Content hash used as the section's name in the store
+     */
+    public String hash() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw());
+            StringBuilder hex = new StringBuilder(HASH_BYTES * 2);
+            for (int i = 0; i < HASH_BYTES; i++) {
+                hex.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Bytes written to the store
+     */
+    public byte[] toStored() {
+        byte[] bytes = raw();
+        if (type != TYPE_BLOCKS) {
+            return bytes; // Schematics are already compressed
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes, 1, bytes.length - 1);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+            out.write(type);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Read a section written by {@link #toStored()}
+     *
+     * @throws IOException if the bytes aren't a valid section
+     */
+    public static SectionBlob fromStored(byte[] stored) throws IOException {
+        if (stored.length == 0) {
+            throw new IOException("Empty section");
+        }
+        if (stored[0] == TYPE_SCHEMATIC) {
+            return schematic(Arrays.copyOfRange(stored, 1, stored.length));
+        }
+        if (stored[0] != TYPE_BLOCKS) {
+            throw new IOException("Unknown section type " + stored[0]);
+        }
+
+        Inflater inflater = new Inflater();
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(stored.length * 4);
+        try {
+            inflater.setInput(stored, 1, stored.length - 1);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated section");
+                }
+                payload.write(buffer, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt section: " + e.getMessage(), e);
+        } finally {
+            inflater.end();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload.toByteArray()))) {
+            int sizeX = in.readUnsignedByte();
+            int sizeY = in.readUnsignedByte();
+            int sizeZ = in.readUnsignedByte();
+            if (sizeX < 1 || sizeX > 16 || sizeY < 1 || sizeY > 16 || sizeZ < 1 || sizeZ > 16) {
+                throw new IOException("Corrupt section size");
+            }
+            List<String> palette = readStrings(in);
+            int[] blocks = readIndices(in, palette.size(), sizeX * sizeY * sizeZ);
+            List<String> biomes = readStrings(in);
+            int[] cells = readIndices(in, biomes.size(), cellCount(sizeX) * cellCount(sizeY) * cellCount(sizeZ));
+            return blocks(sizeX, sizeY, sizeZ, palette, blocks, biomes, cells);
+        } catch (EOFException e) {
+            throw new IOException("Truncated section", e);
+        }
+    }
+
+    private byte[] raw() {
+        if (raw != null) {
+            return raw;
+        }
+        if (type == TYPE_SCHEMATIC) {
+            raw = new byte[schematic.length + 1];
+            raw[0] = TYPE_SCHEMATIC;
+            System.arraycopy(schematic, 0, raw, 1, schematic.length);
+            return raw;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(blocks.length + 256);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(type);
+            out.writeByte(sizeX);
+            out.writeByte(sizeY);
+            out.writeByte(sizeZ);
+            writeStrings(out, palette);
+            writeIndices(out, palette.size(), blocks);
+            writeStrings(out, biomes);
+            writeIndices(out, biomes.size(), cells);
+            out.flush();
+            raw = bytes.toByteArray();
+            return raw;
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // Can't happen writing to memory
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+        out.writeShort(strings.size());
+        for (String s : strings) {
+            out.writeUTF(s);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        if (count == 0) {
+            throw new IOException("Corrupt section palette");
+        }
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(in.readUTF());
+        }
+        return strings;
+    }
+
+    private static void writeIndices(DataOutputStream out, int paletteSize, int[] indices) throws IOException {
+        if (paletteSize <= 1) {
+            return;
+        }
+        for (int index : indices) {
+            if (paletteSize <= 256) {
+                out.writeByte(index);
+            } else {
+                out.writeShort(index);
+            }
+        }
+    }
+
+    private static int[] readIndices(DataInputStream in, int paletteSize, int count) throws IOException {
+        int[] indices = new int[count];
+        if (paletteSize <= 1) {
+            return indices;
+        }
+        for (int i = 0; i < count; i++) {
+            int index = paletteSize <= 256 ? in.readUnsignedByte() : in.readUnsignedShort();
+            if (index >= paletteSize) {
+                throw new IOException("Corrupt section index");
+            }
+            indices[i] = index;
+        }
+        return indices;
+    }
+}
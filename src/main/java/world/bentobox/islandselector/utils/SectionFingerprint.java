@@ -0,0 +1,70 @@
+package world.bentobox.islandselector.utils;
+
+/**
+ * A 128-bit fingerprint of a sequence of values, used to tell whether a chunk section changed
+ * since it was last saved without encoding and hashing it again.
+ *
+ * Two independently mixed 64-bit lanes are kept, so an accidental match between different
+ * sequences is as unlikely as a collision of the store's content hashes. The values fed in
+ * are the section's sizes and the {@link #key(String)} of each block state and biome in block
+ * order. Keys depend only on those strings, so fingerprints can be stored and compared
+ * across restarts.
+ */
+public final class SectionFingerprint {
+
+    private long high = 0x6A09E667F3BCC908L;
+    private long low = 0xBB67AE8584CAA73BL;
+    private int count;
+
+    /**
+     * Stable 64-bit key of a block state or biome string (FNV-1a, then mixed)
+     */
+    public static long key(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return finish(h);
+    }
+
+    /**
+     * Add the next value of the sequence
+     */
+    public SectionFingerprint add(int value) {
+        return add((long) value);
+    }
+
+    /**
+     * Add the next value of the sequence
+     */
+    public SectionFingerprint add(long value) {
+        high = Long.rotateLeft((high ^ value) * 0x9E3779B97F4A7C15L, 27) * 0xC2B2AE3D27D4EB4FL;
+        low = Long.rotateLeft(low + value * 0xFF51AFD7ED558CCDL, 31) * 0x165667B19E3779F9L;
+        count++;
+        return this;
+    }
+
+    /**
+     * Upper 64 bits of the fingerprint
+     */
+    public long getHigh() {
+        return finish(high ^ count);
+    }
+
+    /**
+     * Lower 64 bits of the fingerprint
+     */
+    public long getLow() {
+        return finish(low + count);
+    }
+
+    private static long finish(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,188 @@
+package world.bentobox.islandselector.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The {@link SectionFingerprint} and content hash of each plain section of a saved island,
+ * written next to its {@link IslandSnapshot} so the next save of the island only encodes,
+ * hashes and writes the sections that changed.
+ *
+ * Sections are looked up by their position among all sections of the island. A fingerprint
+ * only matches a section with the same blocks and biomes, so a manifest from another island
+ * costs misses, never a wrong hash. Layout (big-endian): {@code int magic, int version},
+ * then deflated:
+ * <pre>
+ *   int slotCount, int hashCount, hashCount x 16-byte hash,
+ *   slotCount x (int hashIndex, or -1 for no section, then long high, long low)
+ * </pre>
+ */
+public final class SectionManifest {
+
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4953534D; // "ISSM"
+    private static final String SUFFIX = ".manifest";
+    // Far beyond any island's section count; guards the arrays against a damaged header
+    private static final int MAX_SLOTS = 1 << 24;
+
+    private final long[] high;
+    private final long[] low;
+    private final String[] hashes; // Null where the section wasn't saved as plain blocks
+
+    public SectionManifest(int slots) {
+        this.high = new long[slots];
+        this.low = new long[slots];
+        this.hashes = new String[slots];
+    }
+
+    /**
+     * The manifest file kept next to a snapshot file
+     */
+    public static File fileFor(File snapshotFile) {
+        return new File(snapshotFile.getPath() + SUFFIX);
+    }
+
+    /**
+     * Whether a file is a manifest rather than a snapshot or schematic
+     */
+    public static boolean isManifestFile(File file) {
+        return file.getName().endsWith(SUFFIX);
+    }
+
+    public int size() {
+        return hashes.length;
+    }
+
+    /**
+     * Record a section as saved. Different slots may be set from different threads.
+     */
+    public void set(int slot, SectionFingerprint fingerprint, String hash) {
+        high[slot] = fingerprint.getHigh();
+        low[slot] = fingerprint.getLow();
+        hashes[slot] = hash;
+    }
+
+    /**
+     * @return The hash the section was saved under, or null if it changed since
+     */
+    public String find(int slot, SectionFingerprint fingerprint) {
+        if (slot < 0 || slot >= hashes.length || hashes[slot] == null) {
+            return null;
+        }
+        return high[slot] == fingerprint.getHigh() && low[slot] == fingerprint.getLow() ? hashes[slot] : null;
+    }
+
+    /**
+     * Write the manifest atomically (temp file, then rename)
+     */
+    public void write(File file) throws IOException {
+        Map<String, Integer> hashIndex = new HashMap<>();
+        List<String> distinct = new ArrayList<>();
+        for (String hash : hashes) {
+            if (hash != null && hashIndex.putIfAbsent(hash, distinct.size()) == null) {
+                distinct.add(hash);
+            }
+        }
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        File temp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream header = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                DeflaterOutputStream body = new DeflaterOutputStream(header, deflater);
+                DataOutputStream out = new DataOutputStream(body);
+                out.writeInt(hashes.length);
+                out.writeInt(distinct.size());
+                for (String hash : distinct) {
+                    out.write(IslandSnapshot.fromHex(hash));
+                }
+                for (int slot = 0; slot < hashes.length; slot++) {
+                    if (hashes[slot] == null) {
+                        out.writeInt(-1);
+                        continue;
+                    }
+                    out.writeInt(hashIndex.get(hashes[slot]));
+                    out.writeLong(high[slot]);
+                    out.writeLong(low[slot]);
+                }
+                out.flush();
+                body.finish();
+            } finally {
+                deflater.end();
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a manifest
+     *
+     * @throws IOException if the file is missing, not a manifest or damaged
+     */
+    public static SectionManifest read(File file) throws IOException {
+        try (DataInputStream header = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (header.readInt() != MAGIC) {
+                throw new IOException("Not a section manifest: " + file.getName());
+            }
+            int version = header.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported section manifest version " + version + ": " + file.getName());
+            }
+            DataInputStream in = new DataInputStream(new InflaterInputStream(header));
+            int slots = in.readInt();
+            int hashCount = in.readInt();
+            if (slots < 0 || slots > MAX_SLOTS || hashCount < 0) {
+                throw new IOException("Corrupt section manifest: " + file.getName());
+            }
+            List<String> distinct = new ArrayList<>(Math.min(hashCount, 1 << 16));
+            byte[] hash = new byte[IslandSnapshot.HASH_BYTES];
+            for (int i = 0; i < hashCount; i++) {
+                in.readFully(hash);
+                distinct.add(IslandSnapshot.toHex(hash));
+            }
+
+            SectionManifest manifest = new SectionManifest(slots);
+            for (int slot = 0; slot < slots; slot++) {
+                int index = in.readInt();
+                if (index == -1) {
+                    continue;
+                }
+                if (index < 0 || index >= distinct.size()) {
+                    throw new IOException("Corrupt section manifest: " + file.getName());
+                }
+                manifest.hashes[slot] = distinct.get(index);
+                manifest.high[slot] = in.readLong();
+                manifest.low[slot] = in.readLong();
+            }
+            // Reading to the end of the stream checks its trailer, so a cut-off file isn't half-loaded
+            if (in.read() != -1) {
+                throw new IOException("Corrupt section manifest: " + file.getName());
+            }
+            return manifest;
+        } catch (EOFException e) {
+            throw new IOException("Truncated section manifest: " + file.getName(), e);
+        }
+    }
+}
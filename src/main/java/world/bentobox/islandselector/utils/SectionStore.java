@@ -0,0 +1,251 @@
+package world.bentobox.islandselector.utils;
+
+import world.bentobox.islandselector.IslandSelector;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store of island sections, shared by every slot and backup.
+ *
+ * Each distinct {@link SectionBlob} is written once to {@code sections/ab/<hash>.sec} and
+ * counted once for every {@link IslandSnapshot} that refers to it. When the last snapshot
+ * using a section is deleted or overwritten, the section file is deleted too.
+ *
+ * Counts aren't persisted: on startup every snapshot under {@code slots/} and
+ * {@code backups/} is read to rebuild them, then sections nothing refers to are swept.
+ * Every count change runs on the store's own thread, queued behind that scan, so changes
+ * always apply in order and never against half-built counts.
+ */
+public class SectionStore {
+
+    private static final String SUFFIX = ".sec";
+
+    private final IslandSelector addon;
+    private final File directory;
+    private final ExecutorService executor;
+
+    // Only touched on the store thread
+    private final Map<String, Integer> refCounts = new HashMap<>();
+
+    public SectionStore(IslandSelector addon) {
+        this.addon = addon;
+        this.directory = new File(addon.getDataFolder(), "sections");
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "IslandSelector-SectionStore");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::rebuild);
+    }
+
+    // ==================== SECTIONS ====================
+
+    /**
+     * Whether a section is on disk
+     */
+    public boolean contains(String hash) {
+        return getFile(hash).isFile();
+    }
+
+    /**
+     * Write a section unless it is already stored. Hold a reference to it first
+     * (see {@link #acquire(Collection)}) so it can't be released while this runs.
+     */
+    public void put(String hash, byte[] stored) throws IOException {
+        File file = getFile(hash);
+        if (file.isFile()) {
+            return;
+        }
+        File parent = file.getParentFile();
+        parent.mkdirs();
+        // Two islands saving the same new section at once each write their own temp file
+        File temp = File.createTempFile(hash, ".tmp", parent);
+        try {
+            Files.write(temp.toPath(), stored);
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Read a stored section
+     *
+     * @throws IOException if the section is missing or damaged
+     */
+    public SectionBlob get(String hash) throws IOException {
+        return SectionBlob.fromStored(Files.readAllBytes(getFile(hash).toPath()));
+    }
+
+    /**
+     * Bytes on disk for a section, 0 if missing
+     */
+    public long getSize(String hash) {
+        return getFile(hash).length();
+    }
+
+    // ==================== REFERENCES ====================
+
+    /**
+     * Count a reference to each section for a snapshot about to be written.
+     * Blocks until applied - call from a worker thread.
+     */
+    public void acquire(Collection<String> hashes) {
+        CompletableFuture.runAsync(() -> {
+            for (String hash : hashes) {
+                refCounts.merge(hash, 1, Integer::sum);
+            }
+        }, executor).join();
+    }
+
+    /**
+     * Drop a reference to each section, deleting sections nothing refers to any more
+     */
+    public CompletableFuture<Void> release(Collection<String> hashes) {
+        if (hashes.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> releaseNow(hashes), executor);
+    }
+
+    /**
+     * Delete a snapshot file and release the sections it used.
+     * Files holding a legacy schematic are just deleted.
+     *
+     * @return Future completed with true if the file is gone
+     */
+    public CompletableFuture<Boolean> deleteSnapshot(File file) {
+        return CompletableFuture.supplyAsync(() -> {
+            Set<String> hashes = readHashes(file);
+            if (file.exists() && !file.delete()) {
+                return false;
+            }
+            releaseNow(hashes);
+            return true;
+        }, executor);
+    }
+
+    /**
+     * Section hashes a snapshot file refers to, empty for a legacy schematic or a damaged file
+     */
+    public Set<String> readHashes(File file) {
+        if (!IslandSnapshot.isSnapshot(file)) {
+            return Collections.emptySet();
+        }
+        try {
+            return IslandSnapshot.readHashes(file);
+        } catch (IOException e) {
+            addon.logWarning("Could not read island snapshot " + file.getName() + ": " + e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * Finish queued reference changes. Called on disable.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                addon.logWarning("Section store did not finish in time; unreferenced sections will be swept on next start");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void releaseNow(Collection<String> hashes) {
+        for (String hash : hashes) {
+            Integer count = refCounts.get(hash);
+            if (count != null && count > 1) {
+                refCounts.put(hash, count - 1);
+                continue;
+            }
+            refCounts.remove(hash);
+            File file = getFile(hash);
+            if (file.exists() && !file.delete()) {
+                addon.logWarning("Failed to delete unused section " + file.getName());
+            }
+        }
+    }
+
+    // ==================== STARTUP ====================
+
+    /**
+     * Count references from every snapshot on disk, then sweep sections nothing uses -
+     * left behind by a crash between writing sections and writing their snapshot
+     */
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        int snapshots = 0;
+        for (String root : new String[]{"slots", "backups"}) {
+            for (File file : listFiles(new File(addon.getDataFolder(), root), ".schem")) {
+                Set<String> hashes = readHashes(file);
+                if (!hashes.isEmpty()) {
+                    snapshots++;
+                    for (String hash : hashes) {
+                        refCounts.merge(hash, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+
+        int stored = 0;
+        int swept = 0;
+        long bytes = 0;
+        for (File file : listFiles(directory, null)) {
+            String name = file.getName();
+            boolean section = name.endsWith(SUFFIX);
+            String hash = section ? name.substring(0, name.length() - SUFFIX.length()) : null;
+            // Only sweep files older than the scan, in case something was mid-write
+            if ((hash == null || !refCounts.containsKey(hash)) && file.lastModified() < start) {
+                if (file.delete()) {
+                    swept++;
+                }
+            } else if (section) {
+                stored++;
+                bytes += file.length();
+            }
+        }
+
+        addon.log("Section store: " + stored + " sections (" + (bytes / 1024) + " KB) shared by " + snapshots
+            + " snapshots" + (swept > 0 ? ", swept " + swept + " unused" : "")
+            + " in " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    private List<File> listFiles(File root, String suffix) {
+        if (!root.isDirectory()) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.walk(root.toPath())) {
+            return paths.filter(Files::isRegularFile)
+                .map(Path::toFile)
+                .filter(file -> suffix == null || file.getName().endsWith(suffix))
+                .collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            addon.logWarning("Could not scan " + root.getName() + " for island snapshots: " + e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private File getFile(String hash) {
+        return new File(directory, hash.substring(0, 2) + File.separator + hash + SUFFIX);
+    }
+}
@@ -299,14 +299,94 @@ class SettingsTest {
         assertEquals(2, settings.getMaxConcurrentOperations());
     }
 
+    @Test
+    @DisplayName("Operation timeout default is 15 minutes")
+    void testOperationTimeoutMinutes() {
+        assertEquals(15, settings.getOperationTimeoutMinutes());
+    }
+
+    @Test
+    @DisplayName("Grid save interval default is 100 ticks")
+    void testGridSaveInterval() {
+        assertEquals(100, settings.getGridSaveInterval());
+    }
+
+    @Test
+    @DisplayName("Grid save batch size default is 500")
+    void testGridSaveBatchSize() {
+        assertEquals(500, settings.getGridSaveBatchSize());
+    }
+
+    @Test
+    @DisplayName("Grid snapshot is enabled by default")
+    void testGridSnapshotEnabled() {
+        assertTrue(settings.isGridSnapshotEnabled());
+    }
+
+    @Test
+    @DisplayName("Entity restore budget default is 5ms")
+    void testEntityRestoreBudgetMs() {
+        assertEquals(5, settings.getEntityRestoreBudgetMs());
+    }
+
+    @Test
+    @DisplayName("Section store enabled by default")
+    void testSectionStoreEnabled() {
+        assertTrue(settings.isSectionStoreEnabled());
+    }
+
+    @Test
+    @DisplayName("Island capture trimming enabled by default")
+    void testTrimIslandCaptures() {
+        assertTrue(settings.isTrimIslandCaptures());
+    }
+
+    @Test
+    @DisplayName("Clipboard cache budget defaults to 64 MB")
+    void testClipboardCacheMb() {
+        assertEquals(64, settings.getClipboardCacheMb());
+    }
+
+    @Test
+    @DisplayName("Chunk-aligned relocation enabled by default")
+    void testChunkAlignedRelocation() {
+        assertTrue(settings.isChunkAlignedRelocation());
+    }
+
+    @Test
+    @DisplayName("Chunk resends default to 4 per player per tick")
+    void testChunkResendsPerTick() {
+        assertEquals(4, settings.getChunkResendsPerTick());
+    }
+
     @Test
     @DisplayName("Performance setters work correctly")
     void testPerformanceSetters() {
         settings.setCacheDuration(120);
         settings.setMaxConcurrentOperations(4);
+        settings.setOperationTimeoutMinutes(0);
+        settings.setGridSaveInterval(40);
+        settings.setGridSaveBatchSize(1000);
+        settings.setGridSnapshotEnabled(false);
+        settings.setEntityRestoreBudgetMs(10);
+        settings.setSectionStoreEnabled(false);
+        settings.setTrimIslandCaptures(false);
+        settings.setClipboardCacheMb(0);
+        settings.setChunkAlignedRelocation(false);
+        settings.setChunkResendsPerTick(16);
 
         assertEquals(120, settings.getCacheDuration());
         assertEquals(4, settings.getMaxConcurrentOperations());
+        assertEquals(0, settings.getOperationTimeoutMinutes());
+        assertEquals(40, settings.getGridSaveInterval());
+        assertEquals(1000, settings.getGridSaveBatchSize());
+        assertFalse(settings.isGridSnapshotEnabled());
+        assertEquals(10, settings.getEntityRestoreBudgetMs());
+        assertFalse(settings.isSectionStoreEnabled());
+        assertFalse(settings.isTrimIslandCaptures());
+        assertEquals(0, settings.getClipboardCacheMb());
+        assertFalse(settings.isChunkAlignedRelocation());
+        assertEquals(16, settings.getChunkResendsPerTick());
     }
 
     // ==================== INTEGRATION SETTINGS TESTS ====================
@@ -0,0 +1,112 @@
+package world.bentobox.islandselector.database;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import world.bentobox.islandselector.models.GridLocation;
+import world.bentobox.islandselector.utils.GridCoordinate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GridSnapshot.
+ * These tests verify the binary snapshot round-trips grid state and rejects unusable files.
+ */
+@DisplayName("GridSnapshot Tests")
+class GridSnapshotTest {
+
+    @TempDir
+    File tempDir;
+
+    private GridLocation occupied(int x, int z, String name) {
+        GridLocation location = new GridLocation(new GridCoordinate(x, z));
+        location.setStatus(GridLocation.Status.OCCUPIED);
+        location.setOwnerUUID(UUID.randomUUID());
+        location.setOwnerName(name);
+        location.setIslandUUID(UUID.randomUUID());
+        location.setIslandUUID("the_nether", UUID.randomUUID());
+        return location;
+    }
+
+    // ==================== ROUND TRIP TESTS ====================
+
+    @Test
+    @DisplayName("Snapshot round-trips owned, reserved and blocked locations")
+    void testRoundTrip() throws IOException {
+        File file = new File(tempDir, "grid.snapshot");
+        GridLocation owned = occupied(3, -7, "Alice");
+        GridLocation reserved = new GridLocation(new GridCoordinate(-2, 4));
+        reserved.setReserved(true);
+        reserved.setPurchasePrice(2500.0);
+        GridLocation blocked = new GridLocation(new GridCoordinate(0, 0));
+        blocked.setBlocked(true);
+
+        assertEquals(3, GridSnapshot.write(file, 1, List.of(owned, reserved, blocked)));
+        List<GridLocation> loaded = GridSnapshot.read(file, 1);
+        assertNotNull(loaded);
+        assertEquals(3, loaded.size());
+
+        GridLocation a = loaded.get(0);
+        assertEquals(owned.getCoordinate(), a.getCoordinate());
+        assertEquals(GridLocation.Status.OCCUPIED, a.getStatus());
+        assertEquals(owned.getOwnerUUID(), a.getOwnerUUID());
+        assertEquals("Alice", a.getOwnerName());
+        assertEquals(owned.getIslandUUID(), a.getIslandUUID());
+        assertEquals(owned.getIslandUUID("the_nether"), a.getIslandUUID("the_nether"));
+
+        GridLocation b = loaded.get(1);
+        assertTrue(b.isReserved());
+        assertEquals(2500.0, b.getPurchasePrice());
+        assertNull(b.getOwnerUUID());
+
+        assertTrue(loaded.get(2).isBlocked());
+    }
+
+    @Test
+    @DisplayName("Repeated owner names share one string table entry")
+    void testSharedNames() throws IOException {
+        File file = new File(tempDir, "grid.snapshot");
+        GridSnapshot.write(file, 1, List.of(occupied(0, 0, "Bob"), occupied(1, 0, "Bob")));
+        List<GridLocation> loaded = GridSnapshot.read(file, 1);
+        assertNotNull(loaded);
+        assertEquals("Bob", loaded.get(0).getOwnerName());
+        assertEquals("Bob", loaded.get(1).getOwnerName());
+    }
+
+    // ==================== VALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Missing file reads as null")
+    void testMissingFile() throws IOException {
+        assertNull(GridSnapshot.read(new File(tempDir, "missing"), 1));
+    }
+
+    @Test
+    @DisplayName("Generation mismatch reads as null")
+    void testGenerationMismatch() throws IOException {
+        File file = new File(tempDir, "grid.snapshot");
+        GridSnapshot.write(file, 5, List.of(occupied(0, 0, "Carol")));
+        assertNull(GridSnapshot.read(file, 4));
+        assertNotNull(GridSnapshot.read(file, 5));
+    }
+
+    @Test
+    @DisplayName("Corrupted body fails the checksum")
+    void testCorruptBody() throws IOException {
+        File file = new File(tempDir, "grid.snapshot");
+        GridSnapshot.write(file, 1, List.of(occupied(0, 0, "Dave")));
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length() - 1);
+            int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(last ^ 0xFF);
+        }
+        assertNull(GridSnapshot.read(file, 1));
+    }
+}
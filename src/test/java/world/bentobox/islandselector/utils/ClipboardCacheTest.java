@@ -0,0 +1,130 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClipboardCache.
+ * These tests verify least-recently-used eviction within the byte budget and the hit/miss counters.
+ */
+@DisplayName("ClipboardCache Tests")
+class ClipboardCacheTest {
+
+    // ==================== LOOKUP TESTS ====================
+
+    @Test
+    @DisplayName("Cached value is returned and counted as a hit")
+    void testHit() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        assertTrue(cache.put("slot-1", "island", 40));
+        assertEquals("island", cache.get("slot-1"));
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Missing value is counted as a miss")
+    void testMiss() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        assertNull(cache.get("slot-1"));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Peek returns the value without counting it")
+    void testPeek() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        cache.put("slot-1", "island", 40);
+        assertEquals("island", cache.peek("slot-1"));
+        assertNull(cache.peek("slot-2"));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    @DisplayName("Contains check is not counted and does not refresh the entry")
+    void testContains() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(80);
+        cache.put("slot-1", "a", 40);
+        cache.put("slot-2", "b", 40);
+        assertTrue(cache.contains("slot-1"));
+        assertFalse(cache.contains("slot-3"));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+
+        cache.put("slot-3", "c", 40);
+        assertFalse(cache.contains("slot-1"));
+    }
+
+    @Test
+    @DisplayName("Putting under the same key replaces the value and its size")
+    void testReplace() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        cache.put("slot-1", "old", 60);
+        cache.put("slot-1", "new", 30);
+        assertEquals("new", cache.get("slot-1"));
+        assertEquals(30, cache.getBytes());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Invalidated value is gone")
+    void testInvalidate() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        cache.put("slot-1", "island", 40);
+        cache.invalidate("slot-1");
+        assertNull(cache.get("slot-1"));
+        assertEquals(0, cache.getBytes());
+    }
+
+    // ==================== BUDGET TESTS ====================
+
+    @Test
+    @DisplayName("Least recently used value is evicted first")
+    void testEvictsLeastRecentlyUsed() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        cache.put("slot-1", "a", 40);
+        cache.put("slot-2", "b", 40);
+        cache.get("slot-1"); // slot-2 is now the least recently used
+        cache.put("slot-3", "c", 40);
+
+        assertNotNull(cache.get("slot-1"));
+        assertNull(cache.get("slot-2"));
+        assertNotNull(cache.get("slot-3"));
+        assertEquals(80, cache.getBytes());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    @Test
+    @DisplayName("Value bigger than the budget is not cached")
+    void testTooBig() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        cache.put("slot-1", "a", 40);
+        assertFalse(cache.put("slot-2", "b", 101));
+        assertNull(cache.get("slot-2"));
+        assertNotNull(cache.get("slot-1"));
+    }
+
+    @Test
+    @DisplayName("Zero budget caches nothing")
+    void testDisabled() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(0);
+        assertFalse(cache.put("slot-1", "a", 1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Shrinking the budget evicts until it fits")
+    void testShrinkBudget() {
+        ClipboardCache<String, String> cache = new ClipboardCache<>(100);
+        cache.put("slot-1", "a", 40);
+        cache.put("slot-2", "b", 40);
+        cache.setBudget(50);
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get("slot-2"));
+        assertEquals(40, cache.getBytes());
+    }
+}
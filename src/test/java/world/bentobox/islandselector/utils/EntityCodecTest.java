@@ -0,0 +1,168 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import world.bentobox.islandselector.utils.EntityStorage.SerializedEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EntityCodec.
+ * These tests verify the binary entity format round-trips entity data and still reads legacy files.
+ */
+@DisplayName("EntityCodec Tests")
+class EntityCodecTest {
+
+    private SerializedEntity villager(String name) {
+        SerializedEntity entity = new SerializedEntity();
+        entity.entityType = "VILLAGER";
+        entity.relX = 1.5;
+        entity.relY = -3.25;
+        entity.relZ = 12.0;
+        entity.yaw = 90f;
+        entity.customName = name;
+        entity.customNameVisible = true;
+        entity.health = 15.0;
+        entity.maxHealth = 20.0;
+        entity.remainingAir = 300;
+        entity.isAdult = false;
+        entity.age = -2400;
+        entity.villagerProfession = "minecraft:librarian";
+        entity.villagerType = "minecraft:plains";
+        entity.villagerLevel = 3;
+        entity.villagerExperience = 70;
+        entity.villagerTrades = new byte[]{1, 2, 3, 4};
+        entity.itemFormat = EntityStorage.ITEM_FORMAT_PAPER;
+        return entity;
+    }
+
+    private byte[] encode(List<SerializedEntity> entities, boolean compress) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EntityCodec.Writer writer = new EntityCodec.Writer(bytes, compress)) {
+            for (SerializedEntity entity : entities) {
+                writer.write(entity);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    // ==================== ROUND TRIP TESTS ====================
+
+    @Test
+    @DisplayName("Villager data round-trips through the binary format")
+    void testVillagerRoundTrip() throws IOException {
+        SerializedEntity original = villager("Librarian Bob");
+        List<SerializedEntity> loaded = EntityCodec.readAll(new ByteArrayInputStream(encode(List.of(original), true)));
+
+        assertEquals(1, loaded.size());
+        SerializedEntity e = loaded.get(0);
+        assertEquals("VILLAGER", e.entityType);
+        assertEquals(1.5, e.relX);
+        assertEquals(-3.25, e.relY);
+        assertEquals(90f, e.yaw);
+        assertEquals("Librarian Bob", e.customName);
+        assertTrue(e.customNameVisible);
+        assertEquals(15.0, e.health);
+        assertEquals(300, e.remainingAir);
+        assertFalse(e.isAdult);
+        assertEquals(-2400, e.age);
+        assertEquals("minecraft:librarian", e.villagerProfession);
+        assertEquals(3, e.villagerLevel);
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, e.villagerTrades);
+        assertEquals(EntityStorage.ITEM_FORMAT_PAPER, e.itemFormat);
+    }
+
+    @Test
+    @DisplayName("Tamed owner, item frame and hanging data round-trip uncompressed")
+    void testFrameAndOwnerRoundTrip() throws IOException {
+        UUID owner = UUID.randomUUID();
+        SerializedEntity wolf = new SerializedEntity();
+        wolf.entityType = "WOLF";
+        wolf.health = 8.0;
+        wolf.isTamed = true;
+        wolf.ownerUUID = owner.toString();
+
+        SerializedEntity frame = new SerializedEntity();
+        frame.entityType = "ITEM_FRAME";
+        frame.itemFrameData = new byte[]{9, 8, 7};
+        frame.itemFrameRotation = 5;
+        frame.itemFrameFixed = true;
+        frame.hangingFace = "NORTH";
+
+        List<SerializedEntity> loaded = EntityCodec.readAll(new ByteArrayInputStream(encode(List.of(wolf, frame), false)));
+        assertEquals(2, loaded.size());
+        assertTrue(loaded.get(0).isTamed);
+        assertEquals(owner.toString(), loaded.get(0).ownerUUID);
+        assertTrue(loaded.get(0).isAdult);
+        assertArrayEquals(new byte[]{9, 8, 7}, loaded.get(1).itemFrameData);
+        assertEquals(5, loaded.get(1).itemFrameRotation);
+        assertTrue(loaded.get(1).itemFrameFixed);
+        assertFalse(loaded.get(1).itemFrameVisible);
+        assertEquals("NORTH", loaded.get(1).hangingFace);
+    }
+
+    @Test
+    @DisplayName("Repeated strings are stored once")
+    void testStringTable() throws IOException {
+        List<SerializedEntity> repeated = new ArrayList<>();
+        List<SerializedEntity> distinct = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            repeated.add(villager("A rather long villager name"));
+            distinct.add(villager("A rather long villager name " + i));
+        }
+        byte[] repeatedBytes = encode(repeated, false);
+        byte[] distinctBytes = encode(distinct, false);
+        assertTrue(repeatedBytes.length + 199 * 27 < distinctBytes.length,
+            "Expected the repeated name to be written once");
+        assertEquals(200, EntityCodec.readAll(new ByteArrayInputStream(repeatedBytes)).size());
+    }
+
+    // ==================== MIGRATION TESTS ====================
+
+    @Test
+    @DisplayName("Legacy Java-serialized entity files are still read")
+    void testLegacyFile() throws IOException {
+        List<SerializedEntity> legacy = new ArrayList<>();
+        SerializedEntity cow = new SerializedEntity();
+        cow.entityType = "COW";
+        cow.customName = "Daisy";
+        legacy.add(cow);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeObject(legacy);
+        }
+
+        List<SerializedEntity> loaded = EntityCodec.readAll(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(1, loaded.size());
+        assertEquals("COW", loaded.get(0).entityType);
+        assertEquals("Daisy", loaded.get(0).customName);
+        assertEquals(EntityStorage.ITEM_FORMAT_BUKKIT, loaded.get(0).itemFormat);
+    }
+
+    // ==================== VALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Unknown data is rejected")
+    void testGarbage() {
+        assertThrows(IOException.class,
+            () -> EntityCodec.readAll(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6})));
+    }
+
+    @Test
+    @DisplayName("Truncated file is rejected")
+    void testTruncated() throws IOException {
+        byte[] bytes = encode(List.of(villager("Bob")), false);
+        byte[] truncated = java.util.Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(IOException.class, () -> EntityCodec.readAll(new ByteArrayInputStream(truncated)));
+    }
+}
@@ -0,0 +1,120 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FreeCellBitmap.
+ * These tests verify free-cell tracking and nearest free cell lookups.
+ */
+@DisplayName("FreeCellBitmap Tests")
+class FreeCellBitmapTest {
+
+    // ==================== COUNTING TESTS ====================
+
+    @Test
+    @DisplayName("New bitmap has every in-bounds cell free")
+    void testInitiallyAllFree() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(-10, -10, 9, 9);
+        assertEquals(400, bitmap.getFreeCount());
+        assertTrue(bitmap.isFree(-10, -10));
+        assertTrue(bitmap.isFree(9, 9));
+    }
+
+    @Test
+    @DisplayName("Cells outside the bounds are never free")
+    void testOutOfBounds() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(0, 0, 4, 4);
+        assertFalse(bitmap.isFree(5, 0));
+        assertFalse(bitmap.isFree(0, -1));
+        bitmap.setFree(100, 100, false);
+        assertEquals(25, bitmap.getFreeCount());
+    }
+
+    @Test
+    @DisplayName("setFree updates the count only on real changes")
+    void testSetFreeCounts() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(0, 0, 99, 0);
+        bitmap.setFree(70, 0, false);
+        bitmap.setFree(70, 0, false);
+        assertEquals(99, bitmap.getFreeCount());
+        assertFalse(bitmap.isFree(70, 0));
+
+        bitmap.setFree(70, 0, true);
+        bitmap.setFree(70, 0, true);
+        assertEquals(100, bitmap.getFreeCount());
+        assertTrue(bitmap.isFree(70, 0));
+    }
+
+    @Test
+    @DisplayName("Invalid bounds are rejected")
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new FreeCellBitmap(5, 0, 4, 0));
+    }
+
+    @Test
+    @DisplayName("hasBounds matches only the exact bounds")
+    void testHasBounds() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(-5, -5, 5, 5);
+        assertTrue(bitmap.hasBounds(-5, -5, 5, 5));
+        assertFalse(bitmap.hasBounds(-5, -5, 6, 5));
+    }
+
+    // ==================== NEAREST FREE TESTS ====================
+
+    @Test
+    @DisplayName("Nearest free returns the origin when it is free")
+    void testNearestIsOrigin() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(-10, -10, 10, 10);
+        assertEquals(new GridCoordinate(3, -2), bitmap.findNearestFree(3, -2));
+    }
+
+    @Test
+    @DisplayName("Nearest free skips taken cells around the origin")
+    void testNearestSkipsTaken() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(-10, -10, 10, 10);
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                bitmap.setFree(x, z, false);
+            }
+        }
+        // Leave one edge cell free two steps away and one diagonal further out
+        bitmap.setFree(0, 2, false);
+        bitmap.setFree(2, 0, false);
+        bitmap.setFree(0, -2, false);
+
+        GridCoordinate nearest = bitmap.findNearestFree(0, 0);
+        assertEquals(new GridCoordinate(-2, 0), nearest);
+    }
+
+    @Test
+    @DisplayName("Nearest free clamps a search origin outside the bounds")
+    void testNearestFromOutside() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(0, 0, 4, 4);
+        assertEquals(new GridCoordinate(4, 4), bitmap.findNearestFree(20, 20));
+    }
+
+    @Test
+    @DisplayName("Nearest free returns null when the grid is full")
+    void testNearestWhenFull() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(0, 0, 1, 1);
+        bitmap.setFree(0, 0, false);
+        bitmap.setFree(0, 1, false);
+        bitmap.setFree(1, 0, false);
+        bitmap.setFree(1, 1, false);
+        assertNull(bitmap.findNearestFree(0, 0));
+    }
+
+    @Test
+    @DisplayName("Nearest free works across row word boundaries")
+    void testNearestAcrossWords() {
+        FreeCellBitmap bitmap = new FreeCellBitmap(0, 0, 199, 0);
+        for (int x = 0; x < 200; x++) {
+            bitmap.setFree(x, 0, false);
+        }
+        bitmap.setFree(130, 0, true);
+        assertEquals(new GridCoordinate(130, 0), bitmap.findNearestFree(10, 0));
+    }
+}
@@ -0,0 +1,135 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GridCellMap.
+ * These tests verify key packing, lookups, growth and iteration.
+ */
+@DisplayName("GridCellMap Tests")
+class GridCellMapTest {
+
+    // ==================== KEY PACKING TESTS ====================
+
+    @Test
+    @DisplayName("Packed keys round-trip positive and negative coordinates")
+    void testKeyRoundTrip() {
+        int[][] cases = {{0, 0}, {1, -1}, {-5, 3}, {10, -7}, {Integer.MIN_VALUE, Integer.MAX_VALUE}};
+        for (int[] c : cases) {
+            long key = GridCellMap.key(c[0], c[1]);
+            assertEquals(c[0], GridCellMap.keyX(key));
+            assertEquals(c[1], GridCellMap.keyZ(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Mirrored coordinates produce distinct keys")
+    void testMirroredKeysDistinct() {
+        assertNotEquals(GridCellMap.key(1, -1), GridCellMap.key(-1, 1));
+        assertNotEquals(GridCellMap.key(0, -1), GridCellMap.key(-1, 0));
+    }
+
+    // ==================== LOOKUP TESTS ====================
+
+    @Test
+    @DisplayName("Get returns null for untracked cells")
+    void testGetMissing() {
+        GridCellMap<String> map = new GridCellMap<>();
+        assertNull(map.get(0, 0));
+        assertNull(map.get(new GridCoordinate(-3, 4)));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Put and get by coordinate or raw x/z")
+    void testPutAndGet() {
+        GridCellMap<String> map = new GridCellMap<>();
+        assertNull(map.put(new GridCoordinate(-5, 3), "a"));
+        assertEquals("a", map.get(-5, 3));
+        assertEquals("a", map.get(new GridCoordinate(-5, 3)));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Put replaces existing value without changing size")
+    void testPutReplaces() {
+        GridCellMap<String> map = new GridCellMap<>();
+        map.put(2, 2, "first");
+        assertEquals("first", map.put(2, 2, "second"));
+        assertEquals("second", map.get(2, 2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Null values are rejected")
+    void testNullValueRejected() {
+        GridCellMap<String> map = new GridCellMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.put(0, 0, null));
+    }
+
+    @Test
+    @DisplayName("computeIfAbsent creates once and then reuses")
+    void testComputeIfAbsent() {
+        GridCellMap<GridCoordinate> map = new GridCellMap<>();
+        GridCoordinate coord = new GridCoordinate(7, -2);
+        GridCoordinate created = map.computeIfAbsent(coord, c -> c);
+        GridCoordinate again = map.computeIfAbsent(coord, c -> new GridCoordinate(99, 99));
+        assertSame(created, again);
+        assertEquals(1, map.size());
+    }
+
+    // ==================== GROWTH AND ITERATION TESTS ====================
+
+    @Test
+    @DisplayName("Map grows past initial capacity and keeps every cell")
+    void testGrowth() {
+        GridCellMap<String> map = new GridCellMap<>();
+        for (int x = -50; x < 50; x++) {
+            for (int z = -50; z < 50; z++) {
+                map.put(x, z, x + "," + z);
+            }
+        }
+        assertEquals(10_000, map.size());
+        for (int x = -50; x < 50; x++) {
+            for (int z = -50; z < 50; z++) {
+                assertEquals(x + "," + z, map.get(x, z));
+            }
+        }
+        assertNull(map.get(50, 50));
+    }
+
+    @Test
+    @DisplayName("Values view visits each cell exactly once")
+    void testValuesIteration() {
+        GridCellMap<String> map = new GridCellMap<>(4);
+        Set<String> expected = new HashSet<>();
+        for (int i = -20; i < 20; i++) {
+            map.put(i, -i, "v" + i);
+            expected.add("v" + i);
+        }
+        Set<String> seen = new HashSet<>();
+        for (String value : map.values()) {
+            assertTrue(seen.add(value), "Duplicate value " + value);
+        }
+        assertEquals(expected, seen);
+        assertEquals(expected.size(), map.values().size());
+    }
+
+    @Test
+    @DisplayName("Clear drops every cell")
+    void testClear() {
+        GridCellMap<String> map = new GridCellMap<>();
+        map.put(1, 1, "a");
+        map.put(2, 2, "b");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1, 1));
+        assertFalse(map.values().iterator().hasNext());
+    }
+}
@@ -0,0 +1,101 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IslandBounds.
+ * These tests verify the occupied box and cuboids cover every non-empty section and stay inside the region.
+ */
+@DisplayName("IslandBounds Tests")
+class IslandBoundsTest {
+
+    // Region of range 100 around 0,0 in a -64..319 world: 24 sections
+    private IslandBounds region() {
+        return new IslandBounds(-100, -64, -100, 100, 319, 100);
+    }
+
+    private boolean[] sections(int... occupied) {
+        boolean[] sections = new boolean[24];
+        for (int section : occupied) {
+            sections[section] = true;
+        }
+        return sections;
+    }
+
+    // ==================== BOX TESTS ====================
+
+    @Test
+    @DisplayName("All-air region has no box")
+    void testEmpty() {
+        IslandBounds bounds = region();
+        bounds.include(0, 0, sections());
+        bounds.include(-1, 3, sections());
+        assertNull(bounds.getBox());
+    }
+
+    @Test
+    @DisplayName("Single section gives its own box")
+    void testSingleSection() {
+        IslandBounds bounds = region();
+        bounds.include(0, -1, sections(8));
+        // Section 8 counted from -64 is y 64..79
+        assertArrayEquals(new int[]{0, 64, -16, 15, 79, -1}, bounds.getBox());
+    }
+
+    @Test
+    @DisplayName("Box spans every occupied section across chunks")
+    void testUnion() {
+        IslandBounds bounds = region();
+        bounds.include(-2, 0, sections(7));
+        bounds.include(1, 2, sections(8, 9));
+        bounds.include(0, 0, sections());
+        assertArrayEquals(new int[]{-32, 48, 0, 31, 95, 47}, bounds.getBox());
+    }
+
+    @Test
+    @DisplayName("Box is clipped to the region")
+    void testClipped() {
+        IslandBounds bounds = region();
+        bounds.include(-7, -7, sections(0));
+        bounds.include(6, 6, sections(23));
+        assertArrayEquals(new int[]{-100, -64, -100, 100, 319, 100}, bounds.getBox());
+    }
+
+    // ==================== CUBOID TESTS ====================
+
+    @Test
+    @DisplayName("All-air region has no cuboids")
+    void testNoCuboids() {
+        IslandBounds bounds = region();
+        bounds.include(0, 0, sections());
+        assertTrue(bounds.getOccupiedCuboids().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Consecutive sections merge into one cuboid, gaps are skipped")
+    void testCuboidRuns() {
+        IslandBounds bounds = region();
+        bounds.include(0, 0, sections(7, 8, 10));
+        List<int[]> cuboids = bounds.getOccupiedCuboids();
+        assertEquals(2, cuboids.size());
+        assertArrayEquals(new int[]{0, 48, 0, 15, 79, 15}, cuboids.get(0));
+        assertArrayEquals(new int[]{0, 96, 0, 15, 111, 15}, cuboids.get(1));
+    }
+
+    @Test
+    @DisplayName("Cuboids are clipped to the region")
+    void testCuboidsClipped() {
+        IslandBounds bounds = region();
+        bounds.include(-7, 6, sections(0, 1));
+        bounds.include(6, -7, sections(23));
+        List<int[]> cuboids = bounds.getOccupiedCuboids();
+        assertEquals(2, cuboids.size());
+        assertArrayEquals(new int[]{-100, -64, 96, -97, -33, 100}, cuboids.get(0));
+        assertArrayEquals(new int[]{96, 304, -100, 100, 319, -97}, cuboids.get(1));
+    }
+}
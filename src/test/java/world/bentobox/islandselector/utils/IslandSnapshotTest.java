@@ -0,0 +1,106 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IslandSnapshot.
+ * These tests verify snapshots round-trip, shared hashes are listed once,
+ * and schematics or damaged files are told apart.
+ */
+@DisplayName("IslandSnapshot Tests")
+class IslandSnapshotTest {
+
+    private static final String SKY = "0123456789abcdef0123456789abcdef";
+    private static final String GROUND = "fedcba9876543210fedcba9876543210";
+
+    @TempDir
+    File tempDir;
+
+    private IslandSnapshot snapshot() {
+        return new IslandSnapshot(List.of(
+            new IslandSnapshot.Section(-200, -64, -200, 8, 16, 8, GROUND),
+            new IslandSnapshot.Section(-192, 0, -200, 16, 16, 8, SKY),
+            new IslandSnapshot.Section(-176, 0, -200, 16, 16, 8, SKY)));
+    }
+
+    // ==================== ROUND TRIP TESTS ====================
+
+    @Test
+    @DisplayName("Sections round-trip in order")
+    void testRoundTrip() throws IOException {
+        File file = new File(tempDir, "slot-1.schem");
+        snapshot().write(file);
+
+        IslandSnapshot loaded = IslandSnapshot.read(file);
+        assertEquals(3, loaded.getSections().size());
+        IslandSnapshot.Section first = loaded.getSections().get(0);
+        assertEquals(-200, first.getRelX());
+        assertEquals(-64, first.getRelY());
+        assertEquals(-200, first.getRelZ());
+        assertEquals(8, first.getSizeX());
+        assertEquals(16, first.getSizeY());
+        assertEquals(8, first.getSizeZ());
+        assertEquals(GROUND, first.getHash());
+        assertEquals(-176, loaded.getSections().get(2).getRelX());
+        assertEquals(SKY, loaded.getSections().get(2).getHash());
+        assertFalse(new File(tempDir, "slot-1.schem.tmp").exists());
+    }
+
+    @Test
+    @DisplayName("Shared sections are listed once")
+    void testHashes() throws IOException {
+        File file = new File(tempDir, "slot-1.schem");
+        snapshot().write(file);
+
+        assertEquals(Set.of(GROUND, SKY), IslandSnapshot.readHashes(file));
+        assertEquals(Set.of(GROUND, SKY), snapshot().getHashes());
+    }
+
+    @Test
+    @DisplayName("Writing replaces the previous snapshot")
+    void testOverwrite() throws IOException {
+        File file = new File(tempDir, "slot-1.schem");
+        snapshot().write(file);
+        new IslandSnapshot(List.of(new IslandSnapshot.Section(0, 0, 0, 16, 16, 16, SKY))).write(file);
+
+        assertEquals(Set.of(SKY), IslandSnapshot.readHashes(file));
+    }
+
+    // ==================== VALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Schematics aren't mistaken for snapshots")
+    void testIsSnapshot() throws IOException {
+        File snapshotFile = new File(tempDir, "slot-1.schem");
+        snapshot().write(snapshotFile);
+        File schematic = new File(tempDir, "slot-2.schem");
+        Files.write(schematic.toPath(), new byte[]{31, -117, 8, 0, 0, 0, 0, 0, 0, 0});
+
+        assertTrue(IslandSnapshot.isSnapshot(snapshotFile));
+        assertFalse(IslandSnapshot.isSnapshot(schematic));
+        assertFalse(IslandSnapshot.isSnapshot(new File(tempDir, "missing.schem")));
+        assertThrows(IOException.class, () -> IslandSnapshot.read(schematic));
+    }
+
+    @Test
+    @DisplayName("Truncated file is rejected")
+    void testTruncated() throws IOException {
+        File file = new File(tempDir, "slot-1.schem");
+        snapshot().write(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 4);
+        }
+        assertThrows(IOException.class, () -> IslandSnapshot.read(file));
+    }
+}
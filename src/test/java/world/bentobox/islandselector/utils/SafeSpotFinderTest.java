@@ -0,0 +1,75 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SafeSpotFinder.
+ * These tests verify the column search finds a floor with room for feet and head, preferring the home's own height.
+ */
+@DisplayName("SafeSpotFinder Tests")
+class SafeSpotFinderTest {
+
+    // Column in a -64..319 world, solid wherever the predicate says so
+    private static final int MIN_Y = -64;
+
+    private IntPredicate solidAt(int... heights) {
+        return y -> {
+            for (int height : heights) {
+                if (height == y) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    private int find(int homeY, IntPredicate solid) {
+        return SafeSpotFinder.findStandingY(homeY, homeY + 10, MIN_Y, solid, solid.negate());
+    }
+
+    // ==================== SEARCH TESTS ====================
+
+    @Test
+    @DisplayName("Home standing on a floor is kept")
+    void testHomeIsSafe() {
+        assertEquals(100, find(100, solidAt(99)));
+    }
+
+    @Test
+    @DisplayName("Home in mid-air drops to the floor below")
+    void testFallsToFloor() {
+        assertEquals(91, find(100, solidAt(90)));
+    }
+
+    @Test
+    @DisplayName("Home buried in blocks climbs to the first open spot from the top")
+    void testBuried() {
+        assertEquals(106, find(100, solidAt(99, 100, 101, 102, 103, 104, 105)));
+    }
+
+    @Test
+    @DisplayName("Spot without head room is skipped")
+    void testNoHeadRoom() {
+        // Floor at 99 under a ceiling at head height reaching past the search; the next floor down is at 80
+        assertEquals(81, find(100, solidAt(80, 99, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111)));
+    }
+
+    @Test
+    @DisplayName("Empty column has no spot")
+    void testVoid() {
+        assertEquals(Integer.MIN_VALUE, find(100, solidAt()));
+    }
+
+    @Test
+    @DisplayName("Unsafe floor is not stood on")
+    void testUnsafeFloor() {
+        IntPredicate solid = solidAt(90, 99);
+        IntPredicate floor = y -> solid.test(y) && y != 99; // e.g. magma at 99
+        assertEquals(91, SafeSpotFinder.findStandingY(100, 110, MIN_Y, floor, solid.negate()));
+    }
+}
@@ -0,0 +1,136 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SectionBlob.
+ * These tests verify sections round-trip through their stored form, equal sections
+ * hash the same, and damaged data is rejected.
+ */
+@DisplayName("SectionBlob Tests")
+class SectionBlobTest {
+
+    private SectionBlob terrain() {
+        int[] blocks = new int[16 * 16 * 16];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = i < 2048 ? 1 : (i % 7 == 0 ? 2 : 0);
+        }
+        int[] cells = new int[4 * 4 * 4];
+        cells[5] = 1;
+        return SectionBlob.blocks(16, 16, 16, List.of("minecraft:air", "minecraft:stone", "minecraft:oak_log[axis=y]"),
+            blocks, List.of("minecraft:plains", "minecraft:river"), cells);
+    }
+
+    // ==================== ROUND TRIP TESTS ====================
+
+    @Test
+    @DisplayName("Block sections round-trip")
+    void testBlocksRoundTrip() throws IOException {
+        SectionBlob original = terrain();
+        SectionBlob loaded = SectionBlob.fromStored(original.toStored());
+
+        assertEquals(SectionBlob.TYPE_BLOCKS, loaded.getType());
+        assertEquals(16, loaded.getSizeX());
+        assertEquals(original.getPalette(), loaded.getPalette());
+        assertArrayEquals(original.getBlocks(), loaded.getBlocks());
+        assertEquals(original.getBiomes(), loaded.getBiomes());
+        assertArrayEquals(original.getCells(), loaded.getCells());
+        assertEquals(original.hash(), loaded.hash());
+    }
+
+    @Test
+    @DisplayName("Partial single-state sections round-trip")
+    void testUniformPartialSection() throws IOException {
+        SectionBlob original = SectionBlob.blocks(5, 16, 9, List.of("minecraft:air"), new int[5 * 16 * 9],
+            List.of("minecraft:ocean"), new int[2 * 4 * 3]);
+        SectionBlob loaded = SectionBlob.fromStored(original.toStored());
+
+        assertEquals(5, loaded.getSizeX());
+        assertEquals(9, loaded.getSizeZ());
+        assertEquals(List.of("minecraft:air"), loaded.getPalette());
+        assertEquals(5 * 16 * 9, loaded.getBlocks().length);
+        assertEquals(2 * 4 * 3, loaded.getCells().length);
+    }
+
+    @Test
+    @DisplayName("Palettes over 256 states round-trip")
+    void testLargePalette() throws IOException {
+        String[] states = new String[300];
+        int[] blocks = new int[16 * 16 * 16];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = "minecraft:block_" + i;
+        }
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = i % states.length;
+        }
+        SectionBlob original = SectionBlob.blocks(16, 16, 16, Arrays.asList(states), blocks,
+            List.of("minecraft:plains"), new int[64]);
+        assertArrayEquals(blocks, SectionBlob.fromStored(original.toStored()).getBlocks());
+    }
+
+    @Test
+    @DisplayName("Schematic sections round-trip unchanged")
+    void testSchematicRoundTrip() throws IOException {
+        byte[] schematic = {31, -117, 8, 0, 1, 2, 3};
+        SectionBlob loaded = SectionBlob.fromStored(SectionBlob.schematic(schematic).toStored());
+
+        assertEquals(SectionBlob.TYPE_SCHEMATIC, loaded.getType());
+        assertArrayEquals(schematic, loaded.getSchematic());
+    }
+
+    // ==================== HASH TESTS ====================
+
+    @Test
+    @DisplayName("Equal sections hash the same, different sections don't")
+    void testHash() {
+        assertEquals(terrain().hash(), terrain().hash());
+        assertEquals(32, terrain().hash().length());
+
+        SectionBlob other = terrain();
+        other.getBlocks()[100] = 2;
+        SectionBlob changed = SectionBlob.blocks(16, 16, 16, other.getPalette(), other.getBlocks(),
+            other.getBiomes(), other.getCells());
+        assertNotEquals(terrain().hash(), changed.hash());
+    }
+
+    @Test
+    @DisplayName("Sections of different shapes don't collide")
+    void testHashShape() {
+        SectionBlob wide = SectionBlob.blocks(8, 16, 4, List.of("minecraft:air"), new int[512],
+            List.of("minecraft:plains"), new int[2 * 4 * 1]);
+        SectionBlob deep = SectionBlob.blocks(4, 16, 8, List.of("minecraft:air"), new int[512],
+            List.of("minecraft:plains"), new int[1 * 4 * 2]);
+        assertNotEquals(wide.hash(), deep.hash());
+    }
+
+    // ==================== VALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Unknown and empty data is rejected")
+    void testGarbage() {
+        assertThrows(IOException.class, () -> SectionBlob.fromStored(new byte[0]));
+        assertThrows(IOException.class, () -> SectionBlob.fromStored(new byte[]{9, 1, 2}));
+        assertThrows(IOException.class, () -> SectionBlob.fromStored(new byte[]{SectionBlob.TYPE_BLOCKS, 1, 2, 3}));
+    }
+
+    @Test
+    @DisplayName("Truncated data is rejected")
+    void testTruncated() {
+        byte[] stored = terrain().toStored();
+        assertThrows(IOException.class, () -> SectionBlob.fromStored(Arrays.copyOf(stored, stored.length / 2)));
+    }
+
+    @Test
+    @DisplayName("Out of range sizes are rejected")
+    void testSizeRange() {
+        assertThrows(IllegalArgumentException.class, () -> SectionBlob.blocks(17, 16, 16,
+            List.of("minecraft:air"), new int[17 * 16 * 16], List.of("minecraft:plains"), new int[5 * 4 * 4]));
+    }
+}
@@ -0,0 +1,107 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SectionFingerprint.
+ * These tests verify equal sequences match, that changed, reordered or
+ * extended sequences don't, and that string keys are stable and distinct.
+ */
+@DisplayName("SectionFingerprint Tests")
+class SectionFingerprintTest {
+
+    private SectionFingerprint of(int... values) {
+        SectionFingerprint fingerprint = new SectionFingerprint();
+        for (int value : values) {
+            fingerprint.add(value);
+        }
+        return fingerprint;
+    }
+
+    private boolean matches(SectionFingerprint a, SectionFingerprint b) {
+        return a.getHigh() == b.getHigh() && a.getLow() == b.getLow();
+    }
+
+    // ==================== MATCH TESTS ====================
+
+    @Test
+    @DisplayName("Equal sequences have equal fingerprints")
+    void testEqualSequences() {
+        assertTrue(matches(of(16, 16, 16, 0, 1, 1, 2), of(16, 16, 16, 0, 1, 1, 2)));
+        assertTrue(matches(of(), of()));
+    }
+
+    @Test
+    @DisplayName("A single changed block changes the fingerprint")
+    void testChangedValue() {
+        int[] blocks = new int[4096];
+        SectionFingerprint before = of(blocks);
+        blocks[1234] = 1;
+        assertFalse(matches(before, of(blocks)));
+    }
+
+    @Test
+    @DisplayName("Swapped blocks change the fingerprint")
+    void testOrder() {
+        assertFalse(matches(of(1, 2, 3), of(2, 1, 3)));
+        assertFalse(matches(of(0, 5), of(5, 0)));
+    }
+
+    @Test
+    @DisplayName("A longer sequence doesn't match its prefix")
+    void testLength() {
+        assertFalse(matches(of(0, 0), of(0, 0, 0)));
+        assertFalse(matches(of(), of(0)));
+    }
+
+    @Test
+    @DisplayName("Every single-block change of a section is told apart")
+    void testDistinctChanges() {
+        Set<String> seen = new HashSet<>();
+        for (int position = 0; position < 4096; position++) {
+            for (int id = 1; id <= 3; id++) {
+                int[] blocks = new int[4096];
+                blocks[position] = id;
+                SectionFingerprint fingerprint = of(blocks);
+                assertTrue(seen.add(fingerprint.getHigh() + ":" + fingerprint.getLow()));
+            }
+        }
+    }
+
+    // ==================== KEY TESTS ====================
+
+    @Test
+    @DisplayName("Keys don't change between runs")
+    void testKeyStable() {
+        // Manifests on disk depend on these values
+        assertEquals(1775312118778939204L, SectionFingerprint.key("minecraft:stone"));
+        assertEquals(SectionFingerprint.key("minecraft:oak_stairs[facing=north]"),
+            SectionFingerprint.key("minecraft:oak_stairs[facing=north]"));
+    }
+
+    @Test
+    @DisplayName("Different block states have different keys")
+    void testKeyDistinct() {
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 100000; i++) {
+            assertTrue(seen.add(SectionFingerprint.key("minecraft:block_" + i + "[facing=north]")));
+        }
+        assertNotEquals(SectionFingerprint.key("minecraft:oak_stairs[facing=north]"),
+            SectionFingerprint.key("minecraft:oak_stairs[facing=south]"));
+    }
+
+    @Test
+    @DisplayName("Swapped block states change the fingerprint")
+    void testKeyOrder() {
+        long stone = SectionFingerprint.key("minecraft:stone");
+        long dirt = SectionFingerprint.key("minecraft:dirt");
+        assertFalse(matches(new SectionFingerprint().add(stone).add(dirt), new SectionFingerprint().add(dirt).add(stone)));
+        assertTrue(matches(new SectionFingerprint().add(stone).add(dirt), new SectionFingerprint().add(stone).add(dirt)));
+    }
+}
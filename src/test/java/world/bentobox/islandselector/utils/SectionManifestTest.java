@@ -0,0 +1,113 @@
+package world.bentobox.islandselector.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SectionManifest.
+ * These tests verify manifests round-trip, only matching fingerprints
+ * give back a hash, and damaged files are rejected.
+ */
+@DisplayName("SectionManifest Tests")
+class SectionManifestTest {
+
+    private static final String SKY = "0123456789abcdef0123456789abcdef";
+    private static final String GROUND = "fedcba9876543210fedcba9876543210";
+
+    @TempDir
+    File tempDir;
+
+    private SectionFingerprint fingerprint(String... states) {
+        SectionFingerprint fingerprint = new SectionFingerprint().add(16).add(16).add(16);
+        for (String state : states) {
+            fingerprint.add(SectionFingerprint.key(state));
+        }
+        return fingerprint;
+    }
+
+    private SectionManifest manifest() {
+        SectionManifest manifest = new SectionManifest(4);
+        manifest.set(0, fingerprint("minecraft:stone"), GROUND);
+        manifest.set(1, fingerprint("minecraft:air"), SKY);
+        manifest.set(3, fingerprint("minecraft:air"), SKY);
+        return manifest;
+    }
+
+    // ==================== LOOKUP TESTS ====================
+
+    @Test
+    @DisplayName("Matching fingerprint gives back the saved hash")
+    void testFind() {
+        SectionManifest manifest = manifest();
+        assertEquals(GROUND, manifest.find(0, fingerprint("minecraft:stone")));
+        assertEquals(SKY, manifest.find(3, fingerprint("minecraft:air")));
+    }
+
+    @Test
+    @DisplayName("Changed, missing or out-of-range sections give no hash")
+    void testMiss() {
+        SectionManifest manifest = manifest();
+        assertNull(manifest.find(0, fingerprint("minecraft:dirt")));
+        assertNull(manifest.find(2, fingerprint("minecraft:air")));
+        assertNull(manifest.find(4, fingerprint("minecraft:air")));
+        assertNull(manifest.find(-1, fingerprint("minecraft:air")));
+    }
+
+    // ==================== ROUND TRIP TESTS ====================
+
+    @Test
+    @DisplayName("Manifest round-trips through its file")
+    void testRoundTrip() throws IOException {
+        File file = SectionManifest.fileFor(new File(tempDir, "slot-1.schem"));
+        manifest().write(file);
+
+        SectionManifest loaded = SectionManifest.read(file);
+        assertEquals(4, loaded.size());
+        assertEquals(GROUND, loaded.find(0, fingerprint("minecraft:stone")));
+        assertEquals(SKY, loaded.find(1, fingerprint("minecraft:air")));
+        assertNull(loaded.find(2, fingerprint("minecraft:air")));
+        assertEquals(SKY, loaded.find(3, fingerprint("minecraft:air")));
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    @DisplayName("Manifest file sits beside its snapshot")
+    void testFileFor() {
+        File file = SectionManifest.fileFor(new File(tempDir, "slot-1.schem"));
+        assertEquals("slot-1.schem.manifest", file.getName());
+        assertEquals(tempDir, file.getParentFile());
+        assertTrue(SectionManifest.isManifestFile(file));
+        assertFalse(SectionManifest.isManifestFile(new File(tempDir, "slot-1.schem")));
+    }
+
+    // ==================== VALIDATION TESTS ====================
+
+    @Test
+    @DisplayName("Snapshots aren't mistaken for manifests")
+    void testNotManifest() throws IOException {
+        File snapshot = new File(tempDir, "slot-1.schem");
+        Files.write(snapshot.toPath(), new byte[]{31, -117, 8, 0, 0, 0, 0, 0, 0, 0});
+
+        assertThrows(IOException.class, () -> SectionManifest.read(snapshot));
+        assertThrows(IOException.class, () -> SectionManifest.read(new File(tempDir, "missing.manifest")));
+    }
+
+    @Test
+    @DisplayName("Truncated file is rejected")
+    void testTruncated() throws IOException {
+        File file = SectionManifest.fileFor(new File(tempDir, "slot-1.schem"));
+        manifest().write(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 4);
+        }
+        assertThrows(IOException.class, () -> SectionManifest.read(file));
+    }
+}